@@ -67,6 +67,8 @@ public class GdxGame extends Game {
       currentScreen.dispose();
     }
     setScreen(newScreen(screenType));
+    // The new screen has acquired its assets, so only those the old screen alone used are dropped
+    resourceService.unloadUnreferenced();
   }
 
   /**
@@ -80,6 +82,8 @@ public class GdxGame extends Game {
       currentScreen.dispose();
     }
     setScreen(newScreen(screenType));
+    // The new screen has acquired its assets, so only those the old screen alone used are dropped
+    resourceService.unloadUnreferenced();
   }
 
   @Override
@@ -0,0 +1,75 @@
+package com.deco2800.game.ai.tasks;
+
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.components.ComponentScheduler;
+import com.deco2800.game.concurrency.JobSystem;
+import java.util.function.IntConsumer;
+
+/**
+ * Updates all AI task components in two phases:
+ *
+ * <ol>
+ *   <li>Evaluate: every component's task priorities are evaluated in parallel on the {@link
+ *       JobSystem}. The main thread waits meanwhile, so entity positions and the physics world
+ *       don't change and each evaluation sees the same snapshot of the frame.
+ *   <li>Apply: on the main thread, in update order, each component switches to its highest priority
+ *       task and runs it. Starting, stopping and running tasks moves entities, triggers events and
+ *       uses physics, so only happens here.
+ * </ol>
+ *
+ * Evaluations only read shared state and write to their own component, and results are applied in
+ * a fixed order, so the outcome never depends on thread timing. Small batches are evaluated on the
+ * main thread, where splitting up the work would cost more than it saves.
+ */
+public class AITaskBatchUpdater implements ComponentScheduler.BatchUpdater {
+  /** Fewest components worth evaluating in parallel. */
+  public static final int PARALLEL_THRESHOLD = 256;
+  /** Number of components evaluated by each job. */
+  public static final int CHUNK_SIZE = 32;
+
+  private final boolean parallel;
+  private final IntConsumer evaluateAt = this::evaluateAt;
+  private Array<Component> batch;
+
+  /** Create an updater which evaluates large batches in parallel. */
+  public AITaskBatchUpdater() {
+    this(true);
+  }
+
+  /**
+   * @param parallel true to evaluate large batches in parallel, false to always use the main thread
+   */
+  public AITaskBatchUpdater(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  @Override
+  public void update(Array<Component> components) {
+    batch = components;
+    int count = components.size;
+    if (parallel && count >= PARALLEL_THRESHOLD) {
+      JobSystem.parallelFor(count, CHUNK_SIZE, evaluateAt);
+    } else {
+      for (int i = 0; i < count; i++) {
+        evaluateAt(i);
+      }
+    }
+
+    // Components scheduled while applying are added to the end, and evaluate when applied
+    for (int i = 0; i < components.size; i++) {
+      Component component = components.get(i);
+      if (ComponentScheduler.isActive(component)) {
+        ((AITaskComponent) component).apply();
+      }
+    }
+    batch = null;
+  }
+
+  private void evaluateAt(int index) {
+    Component component = batch.get(index);
+    if (ComponentScheduler.isActive(component)) {
+      ((AITaskComponent) component).evaluate();
+    }
+  }
+}
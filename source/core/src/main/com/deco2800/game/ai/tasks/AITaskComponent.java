@@ -2,10 +2,12 @@ package com.deco2800.game.ai.tasks;
 
 import com.deco2800.game.components.Component;
 import com.deco2800.game.components.tasks.FloatTask;
+import com.deco2800.game.events.EventTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Task-based AI component. Given a list of tasks with priorities, the AI component will run the
@@ -14,13 +16,19 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>Each update has two steps: {@link #evaluate()} finds the highest priority task without
+ * changing anything, then {@link #apply()} switches to and runs it. The entity service evaluates
+ * all AI components in parallel before applying them, see {@link AITaskBatchUpdater}.
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
   private PriorityTask currentTask;
-
+  private PriorityTask desiredTask;
+  private int desiredPriority;
+  private boolean evaluated = false;
 
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
@@ -44,17 +52,54 @@ public class AITaskComponent extends Component implements TaskRunner {
    */
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
+    evaluate();
+    apply();
+  }
+
+  /**
+   * Find the highest priority task, calling getPriority() once on each task. This doesn't change
+   * the entity or start and stop tasks, so it can be run on a worker thread as long as the game
+   * state isn't changing.
+   */
+  public void evaluate() {
+    desiredTask = null;
+    desiredPriority = -1;
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      PriorityTask task = priorityTasks.get(i);
+      int priority = task.getPriority();
+      // Ties go to the task added first
+      if (desiredTask == null || priority > desiredPriority) {
+        desiredTask = task;
+        desiredPriority = priority;
+      }
+    }
+    evaluated = true;
+  }
+
+  /**
+   * Switch to the task found by the last {@link #evaluate()} and run it. Must be called on the main
+   * thread. Evaluates first if this update hasn't been evaluated yet.
+   */
+  public void apply() {
+    if (!evaluated) {
+      evaluate();
+    }
+    evaluated = false;
+    if (desiredTask == null || desiredPriority < 0) {
       return;
     }
 
-    if (desiredtask != currentTask) {
-      changeTask(desiredtask);
+    if (desiredTask != currentTask) {
+      changeTask(desiredTask);
     }
     currentTask.update();
   }
 
+  /** @return task currently being run, or null if none has started */
+  public PriorityTask getCurrentTask() {
+    return currentTask;
+  }
+
   @Override
   public void dispose() {
     if (currentTask != null) {
@@ -62,16 +107,11 @@ public class AITaskComponent extends Component implements TaskRunner {
     }
   }
 
-  private PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
-    }
-  }
-
   private void changeTask(PriorityTask desiredTask) {
-    logger.debug("{} Changing to task {}", this, desiredTask);
+    if (EventTracer.ENABLED) {
+      EventTracer.record(
+          EventTracer.Category.AI, desiredTask.getClass().getSimpleName(), entity.getId());
+    }
     if (currentTask != null) {
       currentTask.stop();
     }
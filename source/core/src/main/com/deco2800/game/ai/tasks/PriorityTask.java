@@ -5,5 +5,12 @@ package com.deco2800.game.ai.tasks;
  * decide which task to run.
  */
 public interface PriorityTask extends Task {
+  /**
+   * Get the task's current priority. This may be called from a worker thread while the main
+   * thread waits, so it should only read game state (including physics raycasts), and only write to
+   * fields of this task.
+   *
+   * @return priority, or a negative number if the task should not run
+   */
   int getPriority();
 }
@@ -2,7 +2,9 @@ package com.deco2800.game.areas;
 
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.GdxGame;
 import com.deco2800.game.areas.terrain.TerrainFactory;
 import com.deco2800.game.areas.terrain.TerrainFactory.TerrainType;
@@ -17,6 +19,9 @@ import com.deco2800.game.entities.factories.BuffFactory;
 import com.deco2800.game.entities.factories.EnemyFactory;
 import com.deco2800.game.entities.factories.ObstacleFactory;
 import com.deco2800.game.entities.factories.PlayerFactory;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.SpatialHashService;
+import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.rendering.AnimationRenderComponent;
 import com.deco2800.game.screens.MainGameScreen;
 import com.deco2800.game.services.GameTime;
@@ -27,13 +32,8 @@ import com.deco2800.game.utils.math.RandomUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Random;
 
 /** Forest area for the demo game with trees, a player, and some enemies. */
@@ -59,102 +59,15 @@ public class ForestGameArea extends GameArea {
   private ArrayList<GridPoint2> VERTICAL_MOVING_PLATFORM_SPAWNS = new ArrayList<>();
 
 
-  /**
-   * Asset loading is now handled in the LoadingScreen class.
-   *
-   * Add any new textures into it's forestTextures String[].
-   * */
-  private static final String[] forestTextures = {
-          "images/box_boy_leaf.png",
-          "images/tree.png",
-          "images/ghost_king.png",
-          "images/ghost_1.png",
-          "images/lives_icon.png",
-          "images/box_boy.png",
-          "images/underground.png",
-          "images/sky.png",
-          "images/untouchedCheckpoint.png",
-          "images/longBackground.png",
-          "images/broken_asteriod.png",
-          "images/asteroid_fire1.png",
-          "images/robot1.png",
-          "images/rock1.png",
-          "images/rock2.png",
-          "images/rock3.png",
-          "images/rock4.png",
-          "images/asteroid.png",
-          "images/asteroid_2.png",
-          "images/platform1.png",
-          "images/platform2.png",
-          "images/platform3.png",
-          "images/platform4.png",
-          "images/platform5.png",
-          "images/building_1.png",
-          "images/planet1.png",
-          "images/ufo_2.png",
-          "images/rock_platform.png",
-          "images/Walking.png",
-          "images/WalkingDamage90-50.png",
-          "images/WalkingDamage50-10.png",
-          "images/Sprint.png",
-          "images/SprintDamage(50-90).png",
-          "images/SprintDamage(10-50).png",
-          "images/Jump.png",
-          "images/JumpDamage(50-90).png",
-          "images/JumpDamage(10-50).png",
-          "images/IdleCharacters.png",
-          "images/0percent.png",
-          "images/10percent.png",
-          "images/20percent.png",
-          "images/30percent.png",
-          "images/40percent.png",
-          "images/50percent.png",
-          "images/60percent.png",
-          "images/70percent.png",
-          "images/80percent.png",
-          "images/90percent.png",
-          "images/100percent.png",
-          "images/background_stars.png",
-          "images/background_sky.png",
-          "images/background_rock.png",
-          "images/background_star.png",
-          "images/background_surface.png",
-          "images/surface.png",
-          "images/main_screens-02.png",
-          "images/roll.png",
-          "images/roll2.png",
-          "images/roll3.png",
-
-          "images/alien_wasp.png",
-          "images/alien_wasp_weapon.png",
-          "images/alien_squid.png",
-          "images/alien_squid_weapon.png",
-
-          "images/portal.png",
-          "images/Spaceship.png",
-          "images/PortalAnimation.png"
-
-
-  };
-
-  private static final String[] forestTextureAtlases = {
-
-    "images/terrain_iso_grass.atlas", "images/ghost.atlas", "images/ghostKing.atlas",
-          "images/boxBoy.atlas", "images/robot.atlas", "images/asteroidFire.atlas",
-          "images/ufo_animation.atlas", "images/PlayerMovementAnimations.atlas","images/roll.atlas"
-          , "images/SerpentLevel1.atlas", "images/alienBoss.atlas", "images/alienSoldier.atlas", "images/alienMonster.atlas",
-          "images/PortalAnimation.atlas", "images/asteroidFireNew.atlas", "images/alienSquid.atlas", "images/alienWasp.atlas", 
-          "images/alienSquidLaser.atlas", "images/Lv2SerpentAnimation.atlas", "images/Lv3SerpentAnimation.atlas", 
-          "images/Lv4SerpentAnimation.atlas"
-  };
-
-  private static final String[] forestSounds = {"sounds/Impact4.ogg","sounds/buff.mp3","sounds" +
-          "/debuff.mp3","sounds/click.mp3"};
+  /* Assets are listed in configs/levelAssets.json, and loaded by the loading and game screens */
   private static final String backgroundMusic = "sounds/maingame.mp3";
-  private static final String lossMusic = "sounds/loss.mp3";
-  private static final String[] forestMusic = {backgroundMusic,lossMusic};
 
   private final TerrainFactory terrainFactory;
+  private final Vector2 cameraTarget = new Vector2();
+  /* Buffs aren't spawned within this distance of an enemy, if another spot can be found */
+  private static final float BUFF_SPAWN_CLEARANCE = 1.5f;
+  private static final int BUFF_SPAWN_ATTEMPTS = 5;
+  private final Array<Entity> nearbyEntities = new Array<>();
 
   /* Player on the map */
   //public static Entity player;
@@ -342,7 +255,7 @@ public class ForestGameArea extends GameArea {
   public void create() {
     displayUI("Level One");
 
-    spawnTerrain(TerrainType.SIDE_SCROLL_ER, "level-floors/levelOneGround.txt", "level-floors/levelOneFloat.txt");
+    spawnTerrain(TerrainType.SIDE_SCROLL_ER);
     player = spawnPlayer(PLAYER_SPAWN, TerrainType.SIDE_SCROLL_ER, hasSave);
     if (hasSave) {
       loadSave(player, this.saveState);
@@ -401,9 +314,8 @@ public class ForestGameArea extends GameArea {
    * Spawns the terrain for the current level.
    *
    * @param type the type of terrain (terrain types differ between all levels)
-   * @param levelFile the file to read the level from.
    * */
-  protected void spawnTerrain(TerrainType type, String levelFile, String floatFile) {
+  protected void spawnTerrain(TerrainType type) {
 
     // Background terrain
     terrain = terrainFactory.createTerrain(type);
@@ -431,34 +343,15 @@ public class ForestGameArea extends GameArea {
             new GridPoint2(0, tileBounds.y),
             false,
             false);
-    // Bottom
-    // LOGIC to create level terrain
-
-    int i = 0, x, y, distanceX, distanceY;
-    // opens the levels file
-
-    try(BufferedReader br = new BufferedReader(new FileReader(levelFile))) {
-      String line = br.readLine();
-      // parse file to load the floor
-      while (line != null) {
-        String[] values = line.split(" ");
-        distanceX = Integer.parseInt(values[0]) * 2;
-        distanceY = (int) (Float.parseFloat(values[1]) * 2);
-        x = Integer.parseInt(values[2]);
-        y = Integer.parseInt(values[3]);
-        float height = Float.parseFloat(values[1]);
-
-        // creates the floors wall
-        spawnEntityAt(
-                ObstacleFactory.createWall(terrain.getTileSize() * distanceX,
-                        distanceY * terrain.getTileSize()), new GridPoint2(x, y), false, false);
-        spawnFloatPlatform(floatFile);
-        line = br.readLine();
 
-      }
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
+    // Floors and floating platforms, merged into a few boxes on a single static body
+    long loadStart = System.nanoTime();
+    Array<Rectangle> boxes = new Array<>();
+    TerrainFactory.getLevel(type).getCollisionBoxes(boxes);
+    spawnEntityAt(
+            ObstacleFactory.createTerrainCollider(boxes, tileSize), GridPoint2Utils.ZERO, false, false);
+    logger.info("Loaded {} terrain collision boxes in {} ms",
+            boxes.size, (System.nanoTime() - loadStart) / 1000000f);
 
     //Kills player upon falling into void
     spawnEntityAt(
@@ -466,33 +359,6 @@ public class ForestGameArea extends GameArea {
             new GridPoint2(0, -1), false, false);
   }
 
-  protected void spawnFloatPlatform(String floatFile) {
-    //float width, height;
-    int x, y, distanceX, distanceY;
-    try(BufferedReader br = new BufferedReader(new FileReader(floatFile))) {
-      String line = br.readLine();
-      // parse file to load the floor
-      while (line != null) {
-        String[] values = line.split(" ");
-        distanceX = Integer.parseInt(values[0]) * 2;
-        distanceY = (int) (Float.parseFloat(values[1]) * 2);
-        x = Integer.parseInt(values[2]);
-        y = Integer.parseInt(values[3]);
-        float height = Float.parseFloat(values[1]);
-        spawnEntityAt(
-                ObstacleFactory.createWall(terrain.getTileSize() * distanceX,
-                        (terrain.getTileSize() * distanceY) + terrain.getTileSize()), new GridPoint2(x, y - 1), false, false);
-
-        line = br.readLine();
-      }
-    } catch (FileNotFoundException e) {
-      e.printStackTrace();
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
-  }
-
-
   /**
    * @param levelNumber the current level
    * @return the serpent moving speed for each level
@@ -538,7 +404,7 @@ public class ForestGameArea extends GameArea {
    * */
   protected void spawnUFOs(ArrayList<GridPoint2> positions) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(ObstacleFactory.createUfo(getPlayer()), pos,
+      spawnRegionalEntityAt(ObstacleFactory.createUfo(getPlayer()), pos,
               true, true);
     }
   }
@@ -552,7 +418,7 @@ public class ForestGameArea extends GameArea {
     GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
     //Entity ufo = NPCFactory.createUFO(player);
     Entity ufo = ObstacleFactory.createUfo(player);
-    spawnEntityAt(ufo, randomPos, true, true);
+    spawnRegionalEntityAt(ufo, randomPos, true, true);
   }
 
   /**
@@ -610,7 +476,7 @@ public class ForestGameArea extends GameArea {
    * */
   protected void spawnRobots(ArrayList<GridPoint2> positions) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(ObstacleFactory.createRobot(player),
+      spawnRegionalEntityAt(ObstacleFactory.createRobot(player),
               pos, true, true);
     }
   }
@@ -624,7 +490,7 @@ public class ForestGameArea extends GameArea {
   protected void spawnAlienMonsters(ArrayList<GridPoint2> positions,
           GameArea area) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(EnemyFactory.createAlienMonster(player, area),
+      spawnRegionalEntityAt(EnemyFactory.createAlienMonster(player, area),
               pos, true, true);
     }
   }
@@ -638,7 +504,7 @@ public class ForestGameArea extends GameArea {
   protected void spawnAlienSoldiers(ArrayList<GridPoint2> positions,
           GameArea area) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(EnemyFactory.createAlienSoldier(player, area),
+      spawnRegionalEntityAt(EnemyFactory.createAlienSoldier(player, area),
               pos, true, true);
     }
   }
@@ -691,7 +557,7 @@ public class ForestGameArea extends GameArea {
   protected void spawnAlienBosses(ArrayList<GridPoint2> positions,
           GameArea area) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(EnemyFactory.createAlienBoss(player, area),
+      spawnRegionalEntityAt(EnemyFactory.createAlienBoss(player, area),
               pos, true, true);
     }
   }
@@ -705,7 +571,7 @@ public class ForestGameArea extends GameArea {
   protected void spawnAlienBarbettes(ArrayList<GridPoint2> positions,
           GameArea area) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(EnemyFactory.createALienBarbette(player, area),
+      spawnRegionalEntityAt(EnemyFactory.createALienBarbette(player, area),
               pos, true, true);
     }
   }
@@ -716,7 +582,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnAlienBarbette(GameArea area) {
     GridPoint2 pos = new GridPoint2(170, 12);
-    spawnEntityAt(EnemyFactory.createALienBarbette(player, area), pos, true, true);
+    spawnRegionalEntityAt(EnemyFactory.createALienBarbette(player, area), pos, true, true);
   }
 
   /**
@@ -725,7 +591,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnAlienSoldier(GameArea area) {
     GridPoint2 pos = new GridPoint2(196, 18);
-    spawnEntityAt(EnemyFactory.createAlienSoldier(player, area), pos, true, true);
+    spawnRegionalEntityAt(EnemyFactory.createAlienSoldier(player, area), pos, true, true);
   }
 
   /**
@@ -734,7 +600,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnAlienMonsterLevelTwo(GameArea area) {
     GridPoint2 pos = new GridPoint2(185, 22);
-    spawnEntityAt(EnemyFactory.createAlienMonster(player, area), pos, true, true);
+    spawnRegionalEntityAt(EnemyFactory.createAlienMonster(player, area), pos, true, true);
   }
 
   /**
@@ -743,7 +609,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnAlienBossLevelThree(GameArea area) {
     GridPoint2 pos = new GridPoint2(162, 24);
-    spawnEntityAt(EnemyFactory.createAlienBoss(player, area), pos, true, true);
+    spawnRegionalEntityAt(EnemyFactory.createAlienBoss(player, area), pos, true, true);
   }
 
   /**
@@ -752,7 +618,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnAlienLaserHoleLevelFour(GameArea area) {
     GridPoint2 pos = new GridPoint2(185, 15);
-    spawnEntityAt(EnemyFactory.createAlienLaserHole(player, area), pos, true, true);
+    spawnRegionalEntityAt(EnemyFactory.createAlienLaserHole(player, area), pos, true, true);
   }
 
   /**
@@ -764,7 +630,7 @@ public class ForestGameArea extends GameArea {
   protected void spawnAlienLaserHoles(ArrayList<GridPoint2> positions,
           GameArea area) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(EnemyFactory.createAlienLaserHole(player, area),
+      spawnRegionalEntityAt(EnemyFactory.createAlienLaserHole(player, area),
               pos, true, true);
     }
   }
@@ -776,7 +642,7 @@ public class ForestGameArea extends GameArea {
    * */
   protected void spawnHorizontalMovingPlatforms(ArrayList<GridPoint2> positions) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(ObstacleFactory.createHorizontalMovingPlatform(),
+      spawnRegionalEntityAt(ObstacleFactory.createHorizontalMovingPlatform(),
               pos, true, true);
     }
   }
@@ -788,7 +654,7 @@ public class ForestGameArea extends GameArea {
    * */
   protected void spawnVerticalMovingPlatforms(ArrayList<GridPoint2> positions) {
     for (GridPoint2 pos : positions) {
-      spawnEntityAt(ObstacleFactory.createVerticalMovingPlatform(),
+      spawnRegionalEntityAt(ObstacleFactory.createVerticalMovingPlatform(),
               pos, true, true);
     }
   }
@@ -799,7 +665,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnHorizontalMovingPlatform(GameArea area) {
       GridPoint2 pos = new GridPoint2(52,13);
-      spawnEntityAt(ObstacleFactory.createHorizontalMovingPlatform(),
+      spawnRegionalEntityAt(ObstacleFactory.createHorizontalMovingPlatform(),
               pos, true, true);
 
   }
@@ -810,7 +676,7 @@ public class ForestGameArea extends GameArea {
    */
   protected void spawnVerticalMovingPlatform(GameArea area) {
     GridPoint2 pos = new GridPoint2(60,13);
-    spawnEntityAt(ObstacleFactory.createVerticalMovingPlatform(),
+    spawnRegionalEntityAt(ObstacleFactory.createVerticalMovingPlatform(),
             pos, true, true);
 
   }
@@ -941,11 +807,8 @@ public class ForestGameArea extends GameArea {
     /* Get a random x position based on map bounds */
     int maxXPos = terrain.getMapBounds(0).x;
     Random randomXPos = new Random();
-    int pos = randomXPos.nextInt(maxXPos);
-    logger.debug("this is x {}", pos);
-
-    GridPoint2 randomPos = new GridPoint2(pos - 1,
-            terrainFactory.getYOfSurface(pos, screenType));
+    GridPoint2 randomPos = findBuffSpawn(maxXPos, randomXPos, screenType);
+    logger.debug("this is x {}", randomPos.x);
 
     /* Pick a random buff */
     Random randomNumber = new Random();
@@ -958,6 +821,36 @@ public class ForestGameArea extends GameArea {
     //logger.info("Just created and spawned a new buff!");
   }
 
+  /**
+   * Pick a random tile on the surface to spawn a buff on, trying again if an enemy is standing
+   * there. Gives up after a few tries and uses the last tile picked.
+   *
+   * @param maxXPos tiles across the map
+   * @param random random x positions
+   * @param screenType level the buff is spawned in
+   * @return tile to spawn the buff on
+   */
+  private GridPoint2 findBuffSpawn(int maxXPos, Random random, MainGameScreen.Level screenType) {
+    SpatialHashService spatialHash = ServiceLocator.getPhysicsService().getSpatialHash();
+    GridPoint2 tile = new GridPoint2();
+    for (int attempt = 0; attempt < BUFF_SPAWN_ATTEMPTS; attempt++) {
+      int pos = random.nextInt(maxXPos);
+      tile.set(pos - 1, terrainFactory.getYOfSurface(pos, screenType));
+      if (spatialHash == null || !isEnemyAt(spatialHash, tile)) {
+        break;
+      }
+    }
+    return tile;
+  }
+
+  private boolean isEnemyAt(SpatialHashService spatialHash, GridPoint2 tile) {
+    float halfTile = terrain.getTileSize() / 2;
+    Vector2 center = terrain.tileToWorldPosition(tile).add(halfTile, halfTile);
+    nearbyEntities.clear();
+    return spatialHash.queryRadius(
+            center.x, center.y, BUFF_SPAWN_CLEARANCE, PhysicsLayer.NPC, nearbyEntities) > 0;
+  }
+
   /**
    * Spawns a floating animation when a HP buff/debuff is picked up.
    * Spawns at the player and floats up
@@ -989,14 +882,20 @@ public class ForestGameArea extends GameArea {
     music.play();
   }
   /**
-   * reset the camera position when refresh every frame
+   * reset the camera position when refresh every frame. Call after the physics update, so the
+   * camera follows the player's interpolated position for this frame.
    *
    * @param camera the CameraComponent of the map
    * @param type the type of terrain. Different terrain types have different
    *             camera positions.
    */
   public void resetCam(CameraComponent camera, TerrainType type) {
-    float playerX = player.getPosition().x;
+    // Follow where the player is drawn, between physics steps, so the camera doesn't judder
+    PhysicsComponent playerPhysics = player.getComponent(PhysicsComponent.class);
+    float playerX =
+        playerPhysics != null
+            ? playerPhysics.getInterpolatedPosition(cameraTarget).x
+            : player.getX();
 
     int lower = 12;
     switch (type) {
@@ -1050,7 +949,7 @@ public class ForestGameArea extends GameArea {
    * Check if the game is pause, and stop the animation playing
    * @param state The game state
    */
-  public void isPause(GdxGame.GameState state, List<Entity> areaEntities, float duration, GdxGame.ScreenType type) {
+  public void isPause(GdxGame.GameState state, Iterable<Entity> areaEntities, float duration, GdxGame.ScreenType type) {
     boolean status = state == GdxGame.GameState.RUNNING;
 
     for (Entity entity : areaEntities) {
@@ -1068,36 +967,15 @@ public class ForestGameArea extends GameArea {
     }
   }
 
-  private void loadAssets() {
-    logger.debug("Loading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(forestTextures);
-    resourceService.loadTextureAtlases(forestTextureAtlases);
-    resourceService.loadSounds(forestSounds);
-    resourceService.loadMusic(forestMusic);
-
-    while (!resourceService.loadForMillis(10)) {
-      // This could be upgraded to a loading screen
-      logger.info("Loading... {}%", resourceService.getProgress());
-    }
-  }
-
-  protected void unloadAssets() {
-    logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(forestTextures);
-    resourceService.unloadAssets(forestTextureAtlases);
-    resourceService.unloadAssets(forestSounds);
-    resourceService.unloadAssets(forestMusic);
-  }
-
   @Override
   public void dispose() {
     super.dispose();
     /*Change back to backgroundMusic*/
-    ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class).stop();
-    this.unloadAssets();
-
+    // Only loaded for the levels which play it
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService.containsAsset(backgroundMusic, Music.class)) {
+      resourceService.getAsset(backgroundMusic, Music.class).stop();
+    }
     System.out.println("forest game area disposed");
   }
 
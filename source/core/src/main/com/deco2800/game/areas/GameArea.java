@@ -6,6 +6,10 @@ import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.areas.terrain.TerrainComponent;
 import com.deco2800.game.components.*;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.EntityService;
+import com.deco2800.game.entities.EntityStore;
+import com.deco2800.game.entities.factories.ProjectilePool;
+import com.deco2800.game.events.listeners.EventListener1;
 import com.deco2800.game.services.ServiceLocator;
 
 import java.io.BufferedReader;
@@ -20,46 +24,129 @@ import java.util.List;
  * other entities to spawn on that terrain.
  *
  * <p>Support for enabling/disabling game areas could be added by making this a Component instead.
+ *
+ * <p>Spawned entities are removed from the area when they are unregistered from the entity
+ * service, e.g. after being destroyed by the physics engine, so that the area only holds live
+ * entities. The area stops listening for unregistered entities when it is disposed.
  */
 public abstract class GameArea implements Disposable {
+  private static final int INITIAL_CAPACITY = 64;
   protected TerrainComponent terrain;
-  protected List<Entity> areaEntities;
+  protected EntityStore areaEntities;
+  private final EventListener1<Entity> removeOnUnregister = this::removeEntity;
+  private EntityService listeningTo;
   protected GameArea() {
-    areaEntities = new ArrayList<>();
+    areaEntities = new EntityStore(INITIAL_CAPACITY);
   }
   protected Entity player;
   protected static int lives;
+  private ProjectilePool projectilePool;
+  private ActivationRegionComponent activationRegions;
 
   /** Create the game area in the world. */
   public abstract void create();
 
   /** Dispose of all internal entities in the area */
   public void dispose() {
-    for (Entity entity : areaEntities) {
-      entity.dispose();
+    if (projectilePool != null) {
+      projectilePool.clear();
+    }
+    activationRegions = null;
+    areaEntities.begin();
+    for (int i = 0; i < areaEntities.slots(); i++) {
+      Entity entity = areaEntities.get(i);
+      if (entity != null) {
+        entity.dispose();
+      }
     }
+    areaEntities.end();
+    areaEntities.clear();
 
     if (player != null) {
       player.dispose();
     }
+    stopListening();
   }
 
   /**
    * Get all the entities of game area
-   * @return All the entities of the game area
+   * @return A copy of the live entities of the game area
    */
   public List<Entity> getAllEntities() {
+    List<Entity> entities = new ArrayList<>(areaEntities.size());
+    for (Entity entity : areaEntities) {
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  /**
+   * Get the live entities of the game area without copying them. Use in code which runs every
+   * frame. Wrap loops which may spawn or remove entities in {@link EntityStore#begin()} and {@link
+   * EntityStore#end()}.
+   *
+   * @return live entities of the game area
+   */
+  public EntityStore getEntityStore() {
     return areaEntities;
   }
 
+  /**
+   * Get the pool of enemy projectiles in this area, creating it when first used.
+   *
+   * @return projectile pool
+   */
+  public ProjectilePool getProjectilePool() {
+    if (projectilePool == null) {
+      projectilePool = new ProjectilePool(this);
+    }
+    return projectilePool;
+  }
+
+  /**
+   * Get the component which puts entities spawned with {@link #spawnRegionalEntityAt} to sleep
+   * while they're far from the camera.
+   *
+   * @return activation regions of this area, or null if no regional entities have been spawned
+   */
+  public ActivationRegionComponent getActivationRegions() {
+    return activationRegions;
+  }
+
   /**
    * Spawn entity at its current position
    *
    * @param entity Entity (not yet registered)
    */
   public void spawnEntity(Entity entity) {
+    EntityService entityService = ServiceLocator.getEntityService();
+    if (entityService != listeningTo) {
+      stopListening();
+      entityService.getEvents().addListener(EntityService.EVT_UNREGISTER, removeOnUnregister);
+      listeningTo = entityService;
+    }
     areaEntities.add(entity);
-    ServiceLocator.getEntityService().register(entity);
+    entityService.register(entity);
+  }
+
+  /**
+   * Remove an entity from the area without disposing it. Called automatically when a spawned
+   * entity is unregistered.
+   *
+   * @param entity entity to remove
+   */
+  public void removeEntity(Entity entity) {
+    areaEntities.remove(entity);
+    if (activationRegions != null) {
+      activationRegions.remove(entity);
+    }
+  }
+
+  private void stopListening() {
+    if (listeningTo != null) {
+      listeningTo.getEvents().removeListener(EntityService.EVT_UNREGISTER, removeOnUnregister);
+      listeningTo = null;
+    }
   }
 
   /**
@@ -86,6 +173,25 @@ public abstract class GameArea implements Disposable {
     spawnEntity(entity);
   }
 
+  /**
+   * Spawn entity on a given tile, and put it to sleep while it's far from the camera. Use for
+   * entities which only need to act near the player, such as enemies and moving platforms.
+   *
+   * @param entity Entity (not yet registered)
+   * @param tilePos tile position to spawn at
+   * @param centerX true to center entity X on the tile, false to align the bottom left corner
+   * @param centerY true to center entity Y on the tile, false to align the bottom left corner
+   */
+  protected void spawnRegionalEntityAt(
+      Entity entity, GridPoint2 tilePos, boolean centerX, boolean centerY) {
+    spawnEntityAt(entity, tilePos, centerX, centerY);
+    if (activationRegions == null) {
+      activationRegions = new ActivationRegionComponent();
+      spawnEntity(new Entity().addComponent(activationRegions));
+    }
+    activationRegions.add(entity);
+  }
+
   /**
    * Loads the player in save file if it exists.
    * @param player player entity
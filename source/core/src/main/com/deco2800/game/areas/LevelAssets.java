@@ -0,0 +1,91 @@
+package com.deco2800.game.areas;
+
+import com.deco2800.game.files.FileLoader;
+import com.deco2800.game.screens.MainGameScreen;
+import com.deco2800.game.services.AssetManifest;
+
+/**
+ * Asset manifests for each level and the screens around them, defined in configs/levelAssets.json.
+ * A level needs the game, shared and level manifests from {@link #forLevel(MainGameScreen.Level)}.
+ */
+public class LevelAssets {
+  private static final Configs configs =
+      FileLoader.readClass(Configs.class, "configs/levelAssets.json");
+
+  /** @return assets shown while the next level loads */
+  public static AssetManifest getLoading() {
+    return configs.loading;
+  }
+
+  /** @return assets used by every level, such as the player and enemies */
+  public static AssetManifest getShared() {
+    return configs.shared;
+  }
+
+  /**
+   * Get every manifest a level needs: the game screen's HUD and menus, assets shared between all
+   * levels, and the level's own assets.
+   *
+   * @param level level to get manifests for
+   * @return manifests for the level
+   */
+  public static AssetManifest[] forLevel(MainGameScreen.Level level) {
+    return new AssetManifest[] {configs.game, configs.shared, getLevel(level)};
+  }
+
+  /**
+   * @param level level to get the manifest for
+   * @return assets only needed by the given level
+   */
+  public static AssetManifest getLevel(MainGameScreen.Level level) {
+    switch (level) {
+      case TUTORIAL:
+        return configs.tutorial;
+      case TWO:
+        return configs.levelTwo;
+      case THREE:
+        return configs.levelThree;
+      case FOUR:
+        return configs.levelFour;
+      case ONE:
+      default:
+        return configs.levelOne;
+    }
+  }
+
+  /**
+   * @param level level being played
+   * @return level the portal leads to, or null if it's the last level
+   */
+  public static MainGameScreen.Level getNextLevel(MainGameScreen.Level level) {
+    switch (level) {
+      case TUTORIAL:
+        return MainGameScreen.Level.ONE;
+      case ONE:
+        return MainGameScreen.Level.TWO;
+      case TWO:
+        return MainGameScreen.Level.THREE;
+      case THREE:
+        return MainGameScreen.Level.FOUR;
+      case FOUR:
+      default:
+        return null;
+    }
+  }
+
+  /** Defines all level asset manifests to be loaded from the config. */
+  public static class Configs {
+    public AssetManifest loading = new AssetManifest();
+    public AssetManifest game = new AssetManifest();
+    public AssetManifest shared = new AssetManifest();
+    public AssetManifest tutorial = new AssetManifest();
+    public AssetManifest levelOne = new AssetManifest();
+    public AssetManifest levelTwo = new AssetManifest();
+    public AssetManifest levelThree = new AssetManifest();
+    public AssetManifest levelFour = new AssetManifest();
+  }
+
+  private LevelAssets() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
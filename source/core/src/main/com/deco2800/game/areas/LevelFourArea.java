@@ -124,11 +124,11 @@ public class LevelFourArea extends ForestGameArea {
         // UI
         displayUI("Level Four");
         // Spawning Terrain and player
-        spawnTerrain(TerrainType.LEVEL_FOUR_TERRAIN, "level-floors/levelFourGround.txt", "level-floors/levelFourFloat.txt");
+        spawnTerrain(TerrainType.LEVEL_FOUR_TERRAIN);
 
 
         // Spawning Terrain and player
-        spawnTerrain(TerrainType.LEVEL_FOUR_TERRAIN, "level-floors/levelFourGround.txt", "level-floors/levelFourFloat.txt");
+        spawnTerrain(TerrainType.LEVEL_FOUR_TERRAIN);
         //setPlayer(spawnPlayer(PLAYER_SPAWN, TerrainType.LEVEL_FOUR_TERRAIN, false)); // Placeholder save
         setPlayer(spawnPlayer(PLAYER_SPAWN, TerrainType.LEVEL_FOUR_TERRAIN, hasSave));
         if (hasSave) {
@@ -169,7 +169,6 @@ public class LevelFourArea extends ForestGameArea {
     public void dispose() {
         super.dispose();
         ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class).stop();
-        this.unloadAssets();
     }
 
     /**
@@ -148,7 +148,7 @@ public class LevelThreeArea extends ForestGameArea {
         displayUI("Level Three");
 
         // Spawning Terrain and player
-        spawnTerrain(TerrainType.LEVEL_THREE_TERRAIN, "level-floors/levelThreeGround.txt", "level-floors/levelThreeFloat.txt");
+        spawnTerrain(TerrainType.LEVEL_THREE_TERRAIN);
         player = spawnPlayer(PLAYER_SPAWN, TerrainType.LEVEL_THREE_TERRAIN, hasSave);
         setPlayer(player);
         if (hasSave) {
@@ -189,7 +189,6 @@ public class LevelThreeArea extends ForestGameArea {
     public void dispose() {
         super.dispose();
         ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class).stop();
-        this.unloadAssets();
     }
 
     /**
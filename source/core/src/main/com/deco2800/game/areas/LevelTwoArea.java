@@ -143,7 +143,7 @@ public class LevelTwoArea extends ForestGameArea {
         displayUI("Level Two");
 
         // Spawning Terrain and player
-        spawnTerrain(TerrainType.LEVEL_TWO_TERRAIN, "level-floors/levelTwoGround.txt", "level-floors/levelTwoFloat.txt");
+        spawnTerrain(TerrainType.LEVEL_TWO_TERRAIN);
         setPlayer(spawnPlayer(PLAYER_SPAWN, TerrainType.LEVEL_TWO_TERRAIN, this.hasSave));
         if (this.hasSave) {
             loadSave(getPlayer(), this.saveState);
@@ -184,7 +184,6 @@ public class LevelTwoArea extends ForestGameArea {
     public void dispose() {
         super.dispose();
         ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class).stop();
-        this.unloadAssets();
     }
 
     /**
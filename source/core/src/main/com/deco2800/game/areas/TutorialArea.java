@@ -117,7 +117,7 @@ public class TutorialArea extends ForestGameArea {
         // UI
         displayUI("Level Tutorial");
         fillTriggerMessages();
-        spawnTerrain(TerrainType.TUTORIAL_TERRAIN, "level-floors/TutorialGround.txt", "level-floors/TutorialFloat.txt");
+        spawnTerrain(TerrainType.TUTORIAL_TERRAIN);
         player = spawnPlayer(PLAYER_SPAWN, TerrainType.SIDE_SCROLL_ER, hasSave);
         player.getComponent(InformPlayerComponent.class).setInformation("Press A or D to move");
         player.getComponent(InformPlayerComponent.class).setTriggers(triggerPoints);
@@ -166,7 +166,6 @@ public class TutorialArea extends ForestGameArea {
     public void dispose() {
         super.dispose();
         ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class).stop();
-        this.unloadAssets();
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.nio.ByteBuffer;
+
+/**
+ * A level's floor files compiled by {@link LevelCompiler}, read straight out of a single buffer
+ * which is usually memory-mapped from the compiled file. Nothing is parsed or copied when the level
+ * is opened, and each query only reads the part of the buffer it needs.
+ *
+ * <p>Compiled levels are big-endian:
+ *
+ * <pre>
+ *   int    magic ("LVL" and the format version)
+ *   int    width, height          size of the tile grid
+ *   byte[] tiles                  width * height tile types, a row at a time from the bottom
+ *   int    boxCount               then x, y, width, height of each collision box, in tiles
+ *   int    spanCount              then startX, endX, surfaceY of each ground block, in file order
+ * </pre>
+ */
+public class CompiledLevel {
+  public static final byte EMPTY = 0;
+  public static final byte SKY = 1;
+  public static final byte STAR = 2;
+  public static final byte UNDERGROUND = 3;
+  public static final byte SURFACE = 4;
+  static final int MAGIC = 0x4C564C01;
+  static final int HEADER_BYTES = 12;
+  static final int BOX_BYTES = 16;
+  static final int SPAN_BYTES = 12;
+
+  private final ByteBuffer buffer;
+  private final int width;
+  private final int height;
+  private final int boxesOffset;
+  private final int spansOffset;
+
+  /**
+   * @param buffer compiled level, from position 0
+   * @throws GdxRuntimeException if the buffer isn't a complete compiled level
+   */
+  CompiledLevel(ByteBuffer buffer) {
+    this.buffer = buffer;
+    if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+      throw new GdxRuntimeException("Not a compiled level");
+    }
+    width = buffer.getInt(4);
+    height = buffer.getInt(8);
+    boxesOffset = HEADER_BYTES + width * height;
+    checkSize(boxesOffset + 4);
+    spansOffset = boxesOffset + 4 + getBoxCount() * BOX_BYTES;
+    checkSize(spansOffset + 4);
+    checkSize(spansOffset + 4 + getSpanCount() * SPAN_BYTES);
+  }
+
+  /** @return width of the tile grid */
+  public int getWidth() {
+    return width;
+  }
+
+  /** @return height of the tile grid */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * @param x tile x
+   * @param y tile y
+   * @return type of the tile, such as {@link #SURFACE}, or {@link #EMPTY} outside the grid
+   */
+  public byte getTile(int x, int y) {
+    if (x < 0 || x >= width || y < 0 || y >= height) {
+      return EMPTY;
+    }
+    return buffer.get(HEADER_BYTES + y * width + x);
+  }
+
+  /**
+   * Get the level's collision boxes, already merged so the floors need as few as possible.
+   *
+   * @param out boxes are added to this array, in tile units
+   * @return number of boxes added
+   */
+  public int getCollisionBoxes(Array<Rectangle> out) {
+    int count = getBoxCount();
+    for (int i = 0; i < count; i++) {
+      int offset = boxesOffset + 4 + i * BOX_BYTES;
+      out.add(
+          new Rectangle(
+              buffer.getInt(offset),
+              buffer.getInt(offset + 4),
+              buffer.getInt(offset + 8),
+              buffer.getInt(offset + 12)));
+    }
+    return count;
+  }
+
+  /**
+   * Find the top of the first ground block in the ground file which spans a column.
+   *
+   * @param x tile x
+   * @return tile y just above the block, or 0 if no ground block spans the column
+   */
+  public int getSurfaceY(int x) {
+    int count = getSpanCount();
+    for (int i = 0; i < count; i++) {
+      int offset = spansOffset + 4 + i * SPAN_BYTES;
+      if (x >= buffer.getInt(offset) && x <= buffer.getInt(offset + 4)) {
+        return buffer.getInt(offset + 8);
+      }
+    }
+    return 0;
+  }
+
+  private int getBoxCount() {
+    return buffer.getInt(boxesOffset);
+  }
+
+  private int getSpanCount() {
+    return buffer.getInt(spansOffset);
+  }
+
+  private void checkSize(int size) {
+    if (size < HEADER_BYTES || buffer.limit() < size) {
+      throw new GdxRuntimeException("Compiled level is truncated");
+    }
+  }
+}
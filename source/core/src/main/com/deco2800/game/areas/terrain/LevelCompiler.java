@@ -0,0 +1,310 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles a level's floor files into a {@link CompiledLevel}: the tile grid, the merged collision
+ * boxes and the ground surface heights, so loading a level doesn't parse the text files again.
+ *
+ * <p>Compiled levels are saved to a cache directory as ".lvl" files, named by a hash of the floor
+ * files' sizes and modification times, and are memory-mapped when the level is loaded. Editing a
+ * floor file gives a new hash, so stale levels aren't used. Each level is only opened once per
+ * compiler.
+ */
+public class LevelCompiler {
+  private static final Logger logger = LoggerFactory.getLogger(LevelCompiler.class);
+  // Change when the compiled format or the way floor files are read changes
+  private static final String CACHE_VERSION = "1";
+
+  private final FileHandle cacheDir;
+  private final ObjectMap<Source, CompiledLevel> loaded = new ObjectMap<>();
+  private int compiledCount = 0;
+
+  /** @param cacheDir directory to save compiled levels in, or null to compile every time */
+  public LevelCompiler(FileHandle cacheDir) {
+    this.cacheDir = cacheDir;
+  }
+
+  /**
+   * Get a compiled level, from memory if it's already been loaded, then from the cache directory,
+   * compiling it if it hasn't been compiled before.
+   *
+   * @param source floor files of the level
+   * @return compiled level
+   */
+  public CompiledLevel load(Source source) {
+    CompiledLevel level = loaded.get(source);
+    if (level != null) {
+      return level;
+    }
+
+    long start = System.nanoTime();
+    FileHandle levelFile = null;
+    if (cacheDir != null) {
+      levelFile = cacheDir.child(cacheKey(source) + ".lvl");
+      if (levelFile.exists()) {
+        try {
+          level = new CompiledLevel(map(levelFile));
+        } catch (IOException | GdxRuntimeException e) {
+          logger.warn("Failed to load compiled level {}, compiling again", levelFile, e);
+        }
+      }
+    }
+
+    if (level == null) {
+      ByteBuffer compiled = compile(source);
+      compiledCount++;
+      if (levelFile != null) {
+        try {
+          byte[] bytes = new byte[compiled.limit()];
+          compiled.get(bytes);
+          levelFile.writeBytes(bytes, false);
+          level = new CompiledLevel(map(levelFile));
+        } catch (IOException | GdxRuntimeException e) {
+          logger.warn("Failed to cache compiled level {}", levelFile, e);
+        }
+      }
+      if (level == null) {
+        compiled.rewind();
+        level = new CompiledLevel(compiled);
+      }
+    }
+
+    loaded.put(source, level);
+    logger.debug(
+        "Loaded level {} in {} ms", source.groundFile, (System.nanoTime() - start) / 1000000f);
+    return level;
+  }
+
+  /** @return number of levels this compiler had to compile, rather than load from the cache */
+  public int getCompiledCount() {
+    return compiledCount;
+  }
+
+  /**
+   * Compile a level's floor files.
+   *
+   * @param source floor files of the level
+   * @return compiled level, from position 0
+   */
+  static ByteBuffer compile(Source source) {
+    String ground = readFile(source.groundFile);
+    String floating = readFile(source.floatFile);
+    String sky = readFile(source.skyFile);
+
+    byte[] tiles = new byte[source.width * source.height];
+    addSkyTiles(source, tiles, sky);
+    IntArray spans = new IntArray();
+    addGroundTiles(source, tiles, ground, spans);
+    addGroundTiles(source, tiles, floating, null);
+
+    Array<Rectangle> blocks = new Array<>();
+    try {
+      TerrainCollisionBaker.parseBlocks(
+          new BufferedReader(new StringReader(ground)), false, blocks);
+      TerrainCollisionBaker.parseBlocks(
+          new BufferedReader(new StringReader(floating)), true, blocks);
+    } catch (IOException e) {
+      throw new GdxRuntimeException("Failed to read floor files of " + source.groundFile, e);
+    }
+    Array<Rectangle> boxes = TerrainCollisionBaker.merge(blocks);
+
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+            CompiledLevel.HEADER_BYTES
+                + tiles.length
+                + 4
+                + boxes.size * CompiledLevel.BOX_BYTES
+                + 4
+                + spans.size * 4);
+    buffer.putInt(CompiledLevel.MAGIC).putInt(source.width).putInt(source.height).put(tiles);
+    buffer.putInt(boxes.size);
+    for (Rectangle box : boxes) {
+      buffer.putInt((int) box.x).putInt((int) box.y);
+      buffer.putInt((int) box.width).putInt((int) box.height);
+    }
+    buffer.putInt(spans.size / 3);
+    for (int i = 0; i < spans.size; i++) {
+      buffer.putInt(spans.get(i));
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /** Lines are "# halfWidth halfHeight x y" for sky, or "* ..." for stars. */
+  private static void addSkyTiles(Source source, byte[] tiles, String file) {
+    for (String line : file.split("\n")) {
+      String[] values = line.trim().split("\\s+");
+      if (values.length < 5) {
+        continue;
+      }
+      byte tile;
+      if (values[0].equals("#")) {
+        tile = CompiledLevel.SKY;
+      } else if (values[0].equals("*")) {
+        tile = CompiledLevel.STAR;
+      } else {
+        continue;
+      }
+      int x = Integer.parseInt(values[3]);
+      int y = Integer.parseInt(values[4]);
+      int distanceX = (int) (Float.parseFloat(values[1]) * 2 + x);
+      int distanceY = (int) (Float.parseFloat(values[2]) * 2 + y);
+      fillTiles(source, tiles, x, y, distanceX, distanceY, tile);
+    }
+  }
+
+  /**
+   * Lines are "halfWidth halfHeight x y". The top row of each block is surface, the rest is
+   * underground.
+   *
+   * @param spans if not null, startX, endX and surfaceY of each block are added
+   */
+  private static void addGroundTiles(Source source, byte[] tiles, String file, IntArray spans) {
+    for (String line : file.split("\n")) {
+      String[] values = line.trim().split("\\s+");
+      if (values.length < 4) {
+        continue;
+      }
+      int x = Integer.parseInt(values[2]);
+      int y = Integer.parseInt(values[3]);
+      int distanceX = (int) (Float.parseFloat(values[0]) * 2 + x);
+      int distanceY = (int) (Float.parseFloat(values[1]) * 2 + y);
+      fillTiles(source, tiles, x, y, distanceX, distanceY - 1, CompiledLevel.UNDERGROUND);
+      fillTiles(source, tiles, x, distanceY - 1, distanceX, distanceY, CompiledLevel.SURFACE);
+      if (spans != null) {
+        spans.add(x, distanceX, distanceY);
+      }
+    }
+  }
+
+  private static void fillTiles(
+      Source source, byte[] tiles, int minX, int minY, int maxX, int maxY, byte tile) {
+    for (int x = Math.max(minX, 0); x < Math.min(maxX, source.width); x++) {
+      for (int y = Math.max(minY, 0); y < Math.min(maxY, source.height); y++) {
+        tiles[y * source.width + x] = tile;
+      }
+    }
+  }
+
+  private static String readFile(String path) {
+    if (path == null) {
+      return "";
+    }
+    FileHandle file = Gdx.files.internal(path);
+    if (!file.exists()) {
+      logger.error("No floor file is found with the name {}", path);
+      return "";
+    }
+    return file.readString(StandardCharsets.UTF_8.name());
+  }
+
+  private static ByteBuffer map(FileHandle file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  /**
+   * Identify a compiled level by the floor files' sizes and modification times, so finding it in
+   * the cache doesn't read the files. An edit which keeps a file's size and modification time isn't
+   * noticed. Files without a modification time, such as those packed in a jar, are identified by
+   * their contents instead.
+   *
+   * @return hex hash of the format version, the level's size and every floor file
+   */
+  static String cacheKey(Source source) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    digest.update(CACHE_VERSION.getBytes(StandardCharsets.UTF_8));
+    digest.update((source.width + "x" + source.height).getBytes(StandardCharsets.UTF_8));
+    for (String path : new String[] {source.groundFile, source.floatFile, source.skyFile}) {
+      if (path == null) {
+        continue;
+      }
+      digest.update(path.getBytes(StandardCharsets.UTF_8));
+      FileHandle file = Gdx.files.internal(path);
+      if (!file.exists()) {
+        continue;
+      }
+      long lastModified = file.lastModified();
+      if (lastModified > 0) {
+        String stat = "stat:" + file.length() + ":" + lastModified;
+        digest.update(stat.getBytes(StandardCharsets.UTF_8));
+      } else {
+        digest.update("contents:".getBytes(StandardCharsets.UTF_8));
+        digest.update(file.readBytes());
+      }
+    }
+
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /** Floor files of a level, as internal paths. */
+  public static class Source {
+    public final String groundFile;
+    public final String floatFile;
+    public final String skyFile;
+    public final int width;
+    public final int height;
+
+    /**
+     * @param groundFile ground blocks
+     * @param floatFile floating platforms, or null if the level has none
+     * @param skyFile sky and stars
+     * @param width width of the level in tiles
+     * @param height height of the level in tiles
+     */
+    public Source(String groundFile, String floatFile, String skyFile, int width, int height) {
+      this.groundFile = groundFile;
+      this.floatFile = floatFile;
+      this.skyFile = skyFile;
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Source)) {
+        return false;
+      }
+      Source other = (Source) o;
+      return groundFile.equals(other.groundFile)
+          && Objects.equals(floatFile, other.floatFile)
+          && Objects.equals(skyFile, other.skyFile)
+          && width == other.width
+          && height == other.height;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(groundFile, floatFile, skyFile, width, height);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.components.PhysicsComponent;
+
+/**
+ * Adds a box fixture to the entity's physics body for each baked terrain box, so all of the level's
+ * floors share one static body. Each fixture's user data is its {@link Rectangle} in world units,
+ * since the entity's own position and scale don't describe any single box.
+ *
+ * <p>Requires a {@link PhysicsComponent} added before this component.
+ */
+public class TerrainColliderComponent extends Component {
+  private final Array<Rectangle> boxes;
+  private final float tileSize;
+  private final Array<Fixture> fixtures;
+
+  /**
+   * @param boxes boxes in tile units, from {@link TerrainCollisionBaker#merge(Array)}
+   * @param tileSize size of a tile in world units
+   */
+  public TerrainColliderComponent(Array<Rectangle> boxes, float tileSize) {
+    this.boxes = boxes;
+    this.tileSize = tileSize;
+    this.fixtures = new Array<>(false, boxes.size, Fixture.class);
+  }
+
+  @Override
+  public void create() {
+    PhysicsComponent physicsComponent = entity.getComponent(PhysicsComponent.class);
+    Body body = physicsComponent.getBody();
+    Vector2 origin = entity.getPosition();
+    Vector2 center = new Vector2();
+    FixtureDef fixtureDef = new FixtureDef();
+    fixtureDef.filter.categoryBits = PhysicsLayer.OBSTACLE;
+
+    for (Rectangle box : boxes) {
+      Rectangle bounds =
+          new Rectangle(
+              box.x * tileSize, box.y * tileSize, box.width * tileSize, box.height * tileSize);
+      bounds.getCenter(center).sub(origin);
+
+      PolygonShape shape = new PolygonShape();
+      shape.setAsBox(bounds.width / 2, bounds.height / 2, center, 0f);
+      fixtureDef.shape = shape;
+      Fixture fixture = body.createFixture(fixtureDef);
+      fixture.setUserData(bounds);
+      fixtures.add(fixture);
+      shape.dispose();
+    }
+    physicsComponent.refreshLayers();
+  }
+
+  /** @return one fixture per terrain box */
+  public Array<Fixture> getFixtures() {
+    return fixtures;
+  }
+}
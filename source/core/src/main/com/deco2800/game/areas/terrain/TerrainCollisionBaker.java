@@ -0,0 +1,157 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the level floor files into solid blocks of tiles, and merges touching blocks into as few
+ * boxes as possible so the whole level can collide using a single static body. See {@link
+ * TerrainColliderComponent}.
+ *
+ * <p>Each line of a floor file is "halfWidth halfHeight x y". Ground blocks are (2 * halfWidth) by
+ * (2 * halfHeight) tiles with their bottom-left tile at (x, y). Floating platforms are one tile
+ * taller, starting from (x, y - 1).
+ */
+public class TerrainCollisionBaker {
+  private static final Logger logger = LoggerFactory.getLogger(TerrainCollisionBaker.class);
+
+  /**
+   * Read the blocks from a floor file.
+   *
+   * @param file path of the floor file
+   * @param floating true if the file contains floating platforms, false for ground
+   * @param out blocks are added to this array, in tile units
+   */
+  public static void readBlocks(String file, boolean floating, Array<Rectangle> out) {
+    try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+      parseBlocks(reader, floating, out);
+    } catch (IOException e) {
+      logger.error("Failed to read floor file {}", file, e);
+    }
+  }
+
+  static void parseBlocks(BufferedReader reader, boolean floating, Array<Rectangle> out)
+      throws IOException {
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String[] values = line.trim().split("\\s+");
+      if (values.length < 4) {
+        continue;
+      }
+      int width = Integer.parseInt(values[0]) * 2;
+      int height = (int) (Float.parseFloat(values[1]) * 2);
+      int x = Integer.parseInt(values[2]);
+      int y = Integer.parseInt(values[3]);
+      if (floating) {
+        height += 1;
+        y -= 1;
+      }
+      out.add(new Rectangle(x, y, width, height));
+    }
+  }
+
+  /**
+   * Merge blocks into boxes covering exactly the same tiles. Touching columns with the same solid
+   * span are merged, so a stepped floor becomes one box per step.
+   *
+   * @param blocks blocks in tile units, which may touch or overlap
+   * @return non-overlapping boxes in tile units
+   */
+  public static Array<Rectangle> merge(Array<Rectangle> blocks) {
+    Array<Rectangle> boxes = new Array<>();
+    if (blocks.isEmpty()) {
+      return boxes;
+    }
+
+    int minX = Integer.MAX_VALUE;
+    int minY = Integer.MAX_VALUE;
+    int maxX = Integer.MIN_VALUE;
+    int maxY = Integer.MIN_VALUE;
+    for (Rectangle block : blocks) {
+      minX = Math.min(minX, (int) block.x);
+      minY = Math.min(minY, (int) block.y);
+      maxX = Math.max(maxX, (int) (block.x + block.width));
+      maxY = Math.max(maxY, (int) (block.y + block.height));
+    }
+
+    int width = maxX - minX;
+    int height = maxY - minY;
+    Grid solid = new Grid(width, height);
+    for (Rectangle block : blocks) {
+      int x0 = (int) block.x - minX;
+      int y0 = (int) block.y - minY;
+      for (int x = x0; x < x0 + (int) block.width; x++) {
+        for (int y = y0; y < y0 + (int) block.height; y++) {
+          solid.set(x, y);
+        }
+      }
+    }
+
+    // Take the lowest free span in each column, then grow it right over columns with the same span
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        if (!solid.get(x, y)) {
+          continue;
+        }
+        int top = y;
+        while (top < height && solid.get(x, top)) {
+          top++;
+        }
+        int right = x + 1;
+        while (right < width && solid.hasSpan(right, y, top)) {
+          right++;
+        }
+        for (int i = x; i < right; i++) {
+          for (int j = y; j < top; j++) {
+            solid.clear(i, j);
+          }
+        }
+        boxes.add(new Rectangle(minX + x, minY + y, right - x, top - y));
+        y = top;
+      }
+    }
+    return boxes;
+  }
+
+  /** Solid tiles which haven't been covered by a box yet. */
+  private static class Grid {
+    private final boolean[] cells;
+    private final int height;
+
+    Grid(int width, int height) {
+      this.cells = new boolean[width * height];
+      this.height = height;
+    }
+
+    boolean get(int x, int y) {
+      return y >= 0 && y < height && cells[x * height + y];
+    }
+
+    void set(int x, int y) {
+      cells[x * height + y] = true;
+    }
+
+    void clear(int x, int y) {
+      cells[x * height + y] = false;
+    }
+
+    /** @return true if tiles [bottom, top) are solid, and the tile above top isn't */
+    boolean hasSpan(int x, int bottom, int top) {
+      for (int y = bottom; y < top; y++) {
+        if (!get(x, y)) {
+          return false;
+        }
+      }
+      return !get(x, top);
+    }
+  }
+
+  private TerrainCollisionBaker() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
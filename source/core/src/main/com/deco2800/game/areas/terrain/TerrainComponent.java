@@ -2,12 +2,17 @@ package com.deco2800.game.areas.terrain;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.BatchTiledMapRenderer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.rendering.RenderComponent;
+import com.deco2800.game.rendering.RenderStats;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Render a tiled terrain for a given tiled map and orientation. A terrain is a map of tiles that
@@ -71,6 +76,53 @@ public class TerrainComponent extends RenderComponent {
   public void draw(SpriteBatch batch) {
     tiledMapRenderer.setView(camera);
     tiledMapRenderer.render();
+
+    RenderStats stats = ServiceLocator.getRenderService().getStats();
+    if (stats.isEnabled()) {
+      stats.add(RenderStats.Stat.TERRAIN_CELLS, countCellsInView());
+    }
+  }
+
+  /**
+   * Count the cells the map renderer drew in the last view, using the same visible range as the
+   * orthogonal renderer. Other orientations aren't counted.
+   *
+   * @return number of non-empty cells within the view across all visible tile layers
+   */
+  int countCellsInView() {
+    if (orientation != TerrainOrientation.ORTHOGONAL
+        || !(tiledMapRenderer instanceof BatchTiledMapRenderer)) {
+      return 0;
+    }
+    BatchTiledMapRenderer renderer = (BatchTiledMapRenderer) tiledMapRenderer;
+    Rectangle view = renderer.getViewBounds();
+    float unitScale = renderer.getUnitScale();
+    int cells = 0;
+    for (MapLayer mapLayer : tiledMap.getLayers()) {
+      if (!mapLayer.isVisible() || !(mapLayer instanceof TiledMapTileLayer)) {
+        continue;
+      }
+      TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+      float tileWidth = layer.getTileWidth() * unitScale;
+      float tileHeight = layer.getTileHeight() * unitScale;
+      float offsetX = layer.getRenderOffsetX() * unitScale;
+      float offsetY = -layer.getRenderOffsetY() * unitScale;
+      int col1 = Math.max(0, (int) ((view.x - offsetX) / tileWidth));
+      int col2 =
+          Math.min(layer.getWidth(), (int) ((view.x + view.width + tileWidth - offsetX) / tileWidth));
+      int row1 = Math.max(0, (int) ((view.y - offsetY) / tileHeight));
+      int row2 =
+          Math.min(
+              layer.getHeight(), (int) ((view.y + view.height + tileHeight - offsetY) / tileHeight));
+      for (int row = row1; row < row2; row++) {
+        for (int col = col1; col < col2; col++) {
+          if (layer.getCell(col, row) != null) {
+            cells++;
+          }
+        }
+      }
+    }
+    return cells;
   }
 
   @Override
@@ -89,6 +141,12 @@ public class TerrainComponent extends RenderComponent {
     return TERRAIN_LAYER;
   }
 
+  @Override
+  public boolean getBounds(Rectangle out) {
+    // The tiled map renderer only draws tiles within the camera view set in draw()
+    return false;
+  }
+
   public enum TerrainOrientation {
     ORTHOGONAL,
     ISOMETRIC,
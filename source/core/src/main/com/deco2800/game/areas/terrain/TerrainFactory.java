@@ -1,5 +1,6 @@
 package com.deco2800.game.areas.terrain;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -14,22 +15,18 @@ import com.badlogic.gdx.math.GridPoint2;
 import com.deco2800.game.areas.terrain.TerrainComponent.TerrainOrientation;
 import com.deco2800.game.components.CameraComponent;
 import com.deco2800.game.screens.MainGameScreen;
-import com.deco2800.game.utils.math.RandomUtils;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.ArrayList;
 
 /** Factory for creating game terrains. */
 public class TerrainFactory {
   private static final Logger logger = LoggerFactory.getLogger(TerrainFactory.class);
   private static final GridPoint2 MAP_SIZE = new GridPoint2(210, 30);
+  private static final String LEVEL_CACHE_DIR = "DECO2800Game/level-cache";
+  private static LevelCompiler levelCompiler;
 
   private final OrthographicCamera camera;
   private final TerrainOrientation orientation;
@@ -179,10 +176,7 @@ public class TerrainFactory {
     TiledMap tiledMap = new TiledMap();
     TiledMapTileLayer layer = new TiledMapTileLayer(MAP_SIZE.x, MAP_SIZE.y, tileSize.x, tileSize.y);
 
-    // parses the level files
-    addSkyTiles(layer, sky, star, "level-floors/levelOneSky.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelOneGround.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelOneFloat.txt");
+    addLevelTiles(layer, getLevel(TerrainType.SIDE_SCROLL_ER), surface, underground, sky, star);
     tiledMap.getLayers().add(layer);
     return tiledMap;
   }
@@ -193,105 +187,83 @@ public class TerrainFactory {
     TiledMap tiledMap = new TiledMap();
     TiledMapTileLayer layer = new TiledMapTileLayer(MAP_SIZE.x, MAP_SIZE.y, tileSize.x, tileSize.y);
 
-    addSkyTiles(layer, sky, star, "level-floors/TutorialSky.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/TutorialGround.txt");
+    addLevelTiles(layer, getLevel(TerrainType.TUTORIAL_TERRAIN), surface, underground, sky, star);
     tiledMap.getLayers().add(layer);
     return tiledMap;
   }
 
 
   /**
-   * Adds the ground tiles to the map based on the values given inside the text file.
+   * Adds a tile to the map for each tile of the compiled level.
    * @param layer the TiledMap layer
-   * @param underground the underground tile TextureRegion
+   * @param level the compiled level floors
    * @param surface the surface tile TextureRegion
-   * @param filename the name of the text file containing information regarding tile placement.
+   * @param underground the underground tile TextureRegion
+   * @param sky the sky tile TextureRegion
+   * @param star the star tile TextureRegion
    */
-  private void addGroundTiles(TiledMapTileLayer layer, TextureRegion underground,
-                              TextureRegion surface, String filename) {
-    TerrainTile surfaceTile = new TerrainTile(surface);
-    TerrainTile undergroundTile = new TerrainTile(underground);
-    ArrayList<String> terrainLayout = readFile(filename);
-
-    float width, height;
-    int x, y, distanceX, distanceY;
-    for (String s : terrainLayout) {
-      String[] values = s.split(" ");
-      width = Float.parseFloat(values[0]);
-      height = Float.parseFloat(values[1]);
-      x = Integer.parseInt(values[2]);
-      y = Integer.parseInt(values[3]);
-      distanceX = (int) (( width * 2) + x);
-      distanceY = (int) (( height * 2) + y);
-      // Fills underground tiles, leaves one layer on top for surface tiles
-      fillTilesAt(layer, new GridPoint2(x, y), new GridPoint2(distanceX, distanceY - 1), undergroundTile);
-      // Fills surface tiles
-      fillTilesAt(layer, new GridPoint2(x, distanceY - 1), new GridPoint2(distanceX, distanceY), surfaceTile);
+  private void addLevelTiles(TiledMapTileLayer layer, CompiledLevel level, TextureRegion surface,
+                             TextureRegion underground, TextureRegion sky, TextureRegion star) {
+    TerrainTile[] tiles = new TerrainTile[CompiledLevel.SURFACE + 1];
+    tiles[CompiledLevel.SKY] = new TerrainTile(sky);
+    tiles[CompiledLevel.STAR] = new TerrainTile(star);
+    tiles[CompiledLevel.UNDERGROUND] = new TerrainTile(underground);
+    tiles[CompiledLevel.SURFACE] = new TerrainTile(surface);
+    for (int y = 0; y < level.getHeight(); y++) {
+      for (int x = 0; x < level.getWidth(); x++) {
+        byte tile = level.getTile(x, y);
+        if (tile != CompiledLevel.EMPTY) {
+          Cell cell = new Cell();
+          cell.setTile(tiles[tile]);
+          layer.setCell(x, y, cell);
+        }
+      }
     }
   }
 
-
   /**
-   * Adds the sky tiles to the map based on the values given inside the text file.
-   * @param layer the TiledMap layer
-   * @param sky the sky tile TextureRegion
-   * @param star the star tile TextureRegion
-   * @param filename the name of the text file containing information regarding tile placement.
+   * Gets the compiled floors of a level, compiling the level's floor files the first time.
+   * @param terrainType the level's terrain
+   * @return the compiled level
    */
-  private void addSkyTiles(TiledMapTileLayer layer, TextureRegion sky,
-                           TextureRegion star, String filename) {
-    TerrainTile skyTile = new TerrainTile(sky);
-    TerrainTile starTile = new TerrainTile(star);
-    ArrayList<String> terrainLayout = readFile(filename);
-
-    float width, height;
-    int x, y, distanceX, distanceY;
-    for (String s : terrainLayout) {
-      String[] values = s.split(" ");
-      width = Float.parseFloat(values[1]);
-      height = Float.parseFloat(values[2]);
-      x = Integer.parseInt(values[3]);
-      y = Integer.parseInt(values[4]);
-      distanceX = (int) (( width * 2) + x);
-      distanceY = (int) (( height * 2) + y);
-      if (values[0].equals("#")) {
-        logger.debug("creating sky tile at {}, {}", x, y);
-        fillTilesAt(layer, new GridPoint2(x, y), new GridPoint2(distanceX, distanceY), skyTile);
-      } else if (values[0].equals("*")) {
-        logger.debug("Creating star tile at {}, {}", x, y);
-        fillTilesAt(layer, new GridPoint2(x, y), new GridPoint2(distanceX, distanceY), starTile);
-      }
+  public static CompiledLevel getLevel(TerrainType terrainType) {
+    if (levelCompiler == null) {
+      levelCompiler = new LevelCompiler(Gdx.files.external(LEVEL_CACHE_DIR));
     }
+    return levelCompiler.load(getLevelSource(terrainType));
   }
 
   /**
-   * Reads the text file given and returns each line of text as an arrayList of strings.
-   * @param filename the name of the text file
-   * @return a string array with each element containing a line from the text file
+   * @param terrainType the level's terrain
+   * @return the floor files of the level
    */
-  private ArrayList<String> readFile(String filename) {
-    ArrayList<String> terrainLayout = new ArrayList<>();
-    try(BufferedReader br = new BufferedReader(new FileReader(filename))) {
-      String line = br.readLine();
-      terrainLayout.add(line);
-      while (line != null) {
-        terrainLayout.add(line);
-        line = br.readLine();
-      }
-    } catch (IOException e) {
-      e.printStackTrace();
+  public static LevelCompiler.Source getLevelSource(TerrainType terrainType) {
+    switch (terrainType) {
+      case SIDE_SCROLL_ER:
+        return new LevelCompiler.Source("level-floors/levelOneGround.txt",
+                "level-floors/levelOneFloat.txt", "level-floors/levelOneSky.txt", MAP_SIZE.x, MAP_SIZE.y);
+      case LEVEL_TWO_TERRAIN:
+        return new LevelCompiler.Source("level-floors/levelTwoGround.txt",
+                "level-floors/levelTwoFloat.txt", "level-floors/levelTwoSky.txt", MAP_SIZE.x, MAP_SIZE.y);
+      case LEVEL_THREE_TERRAIN:
+        return new LevelCompiler.Source("level-floors/levelThreeGround.txt",
+                "level-floors/levelThreeFloat.txt", "level-floors/levelThreeSky.txt", MAP_SIZE.x, MAP_SIZE.y);
+      case LEVEL_FOUR_TERRAIN:
+        return new LevelCompiler.Source("level-floors/levelFourGround.txt",
+                "level-floors/levelFourFloat.txt", "level-floors/levelFourSky.txt", MAP_SIZE.x, MAP_SIZE.y);
+      case TUTORIAL_TERRAIN:
+        return new LevelCompiler.Source("level-floors/TutorialGround.txt",
+                "level-floors/TutorialFloat.txt", "level-floors/TutorialSky.txt", MAP_SIZE.x, MAP_SIZE.y);
+      default:
+        return null;
     }
-    return terrainLayout;
   }
 
   private TiledMap createLevelTwoTiles(GridPoint2 tileSize, TextureRegion surface, TextureRegion underground, TextureRegion sky, TextureRegion star) {
     TiledMap tiledMap = new TiledMap();
     TiledMapTileLayer layer = new TiledMapTileLayer(MAP_SIZE.x, MAP_SIZE.y, tileSize.x, tileSize.y);
 
-    // parses the level files
-    addSkyTiles(layer, sky, star, "level-floors/levelTwoSky.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelTwoGround.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelTwoFloat.txt");
+    addLevelTiles(layer, getLevel(TerrainType.LEVEL_TWO_TERRAIN), surface, underground, sky, star);
     tiledMap.getLayers().add(layer);
     return tiledMap;
   }
@@ -300,10 +272,7 @@ public class TerrainFactory {
     TiledMap tiledMap = new TiledMap();
     TiledMapTileLayer layer = new TiledMapTileLayer(MAP_SIZE.x, MAP_SIZE.y, tileSize.x, tileSize.y);
 
-    // parses the level files
-    addSkyTiles(layer, sky, star, "level-floors/levelThreeSky.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelThreeGround.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelThreeFloat.txt");
+    addLevelTiles(layer, getLevel(TerrainType.LEVEL_THREE_TERRAIN), surface, underground, sky, star);
     tiledMap.getLayers().add(layer);
 
     return tiledMap;
@@ -327,46 +296,11 @@ public class TerrainFactory {
     TiledMap tiledMap = new TiledMap();
     TiledMapTileLayer layer = new TiledMapTileLayer(MAP_SIZE.x, MAP_SIZE.y, tileSize.x, tileSize.y);
 
-    // Create the terrain and sky
-    addSkyTiles(layer, sky, star, "level-floors/levelFourSky.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelFourGround.txt");
-    addGroundTiles(layer, underground, surface, "level-floors/levelFourFloat.txt");
+    addLevelTiles(layer, getLevel(TerrainType.LEVEL_FOUR_TERRAIN), surface, underground, sky, star);
     tiledMap.getLayers().add(layer);
     return tiledMap;
   }
 
-  private static void fillTilesAtRandom(
-      TiledMapTileLayer layer, GridPoint2 mapSize, TerrainTile tile, int amount) {
-    GridPoint2 min = new GridPoint2(0, 0);
-    GridPoint2 max = new GridPoint2(mapSize.x - 1, mapSize.y - 1);
-
-    for (int i = 0; i < amount; i++) {
-      GridPoint2 tilePos = RandomUtils.random(min, max);
-      Cell cell = layer.getCell(tilePos.x, tilePos.y);
-      cell.setTile(tile);
-    }
-  }
-
-  private static void fillTilesAt(TiledMapTileLayer layer, GridPoint2 minPos, GridPoint2 maxPos, TerrainTile tile) {
-    for (int x = minPos.x; x < maxPos.x; x++) {
-      for (int y = minPos.y; y < maxPos.y; y++) {
-        Cell cell = new Cell();
-        cell.setTile(tile);
-        layer.setCell(x, y, cell);
-      }
-    }
-  }
-
-  private static void fillTiles(TiledMapTileLayer layer, GridPoint2 mapSize, TerrainTile tile) {
-    for (int x = 0; x < mapSize.x; x++) {
-      for (int y = 0; y < mapSize.y; y++) {
-        Cell cell = new Cell();
-        cell.setTile(tile);
-        layer.setCell(x, y, cell);
-      }
-    }
-  }
-
   /**
    * If a surface tile exists on the game map with the given x-coordinate, return
    * the corresponding y-coordinate
@@ -376,47 +310,23 @@ public class TerrainFactory {
    * given x-coordinate
    */
   public int getYOfSurface(int x, MainGameScreen.Level screenType) {
-    int y = 0;
-    String filename = null;
+    TerrainType terrainType = null;
     if (screenType == MainGameScreen.Level.ONE) {
-      filename = "level-floors/levelOneGround.txt";
+      terrainType = TerrainType.SIDE_SCROLL_ER;
     } else if (screenType == MainGameScreen.Level.TWO) {
-      filename = "level-floors/levelTwoGround.txt";
+      terrainType = TerrainType.LEVEL_TWO_TERRAIN;
     } else if (screenType == MainGameScreen.Level.THREE) {
-      filename = "level-floors/levelThreeGround.txt";
+      terrainType = TerrainType.LEVEL_THREE_TERRAIN;
     } else if (screenType == MainGameScreen.Level.FOUR) {
-      filename = "level-floors/levelFourGround.txt";
+      terrainType = TerrainType.LEVEL_FOUR_TERRAIN;
     } else if (screenType == MainGameScreen.Level.TUTORIAL) {
-      filename = "level-floors/TutorialGround.txt";
+      terrainType = TerrainType.TUTORIAL_TERRAIN;
     }
-    try(BufferedReader br = new BufferedReader(new FileReader(filename))) {
-      String line = br.readLine();
-      int referenceX = 0, referenceY = 0, distanceX = 0, distanceY = 0;
-      float width = 0, height = 0;
-      while (line != null) {
-        String[] values = line.split(" ");
-        width = Float.parseFloat(values[0]);
-        height = Float.parseFloat(values[1]);
-        referenceX = Integer.parseInt(values[2]);
-        referenceY = Integer.parseInt(values[3]);
-        distanceX = (int) (width * 2) + referenceX;
-        distanceY = (int) (height * 2) + referenceY;
-
-        if (x >= referenceX && x <= distanceX) {
-          logger.debug("this is distance {}", distanceX);
-          logger.debug("this is reference x {}", referenceX);
-          y = distanceY;
-          break;
-        } else {
-          line = br.readLine();
-        }
-      }
-    } catch (FileNotFoundException e) {
-      logger.error("No file is found with the name {}", filename);
-      e.printStackTrace();
-    } catch (IOException e) {
-      e.printStackTrace();
+    if (terrainType == null) {
+      logger.error("No level floors for level {}", screenType);
+      return 0;
     }
+    int y = getLevel(terrainType).getSurfaceY(x);
     logger.debug("this is y {}", y);
     return y;
   }
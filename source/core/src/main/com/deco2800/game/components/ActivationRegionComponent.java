@@ -0,0 +1,258 @@
+package com.deco2800.game.components;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Puts entities to sleep while they're far from the camera. The level is split along X into cells
+ * of equal width. Cells within a margin of the camera's view are woken, and cells further than the
+ * margin plus some hysteresis are put to sleep, so entities near the edge don't flicker between
+ * states as the camera moves back and forth.
+ *
+ * <p>Sleeping entities are disabled, so their components don't update, and their physics bodies are
+ * deactivated, so they're removed from the broadphase. Awake entities can wander between cells,
+ * and are moved to their new cell each update.
+ *
+ * <p>Until the first view is known, every entity is awake.
+ */
+public class ActivationRegionComponent extends Component {
+  public static final float DEFAULT_CELL_WIDTH = 8f;
+  public static final float DEFAULT_MARGIN = 8f;
+  public static final float DEFAULT_HYSTERESIS = 4f;
+  private static final int NO_CELL = Integer.MIN_VALUE;
+
+  private final float cellWidth;
+  private final float margin;
+  private final float hysteresis;
+  private final IntMap<Array<Entity>> cells = new IntMap<>();
+  private final IntIntMap cellsById = new IntIntMap();
+  private final IntSet sleeping = new IntSet();
+  private final Rectangle view = new Rectangle();
+  private final Vector2 center = new Vector2();
+  private boolean hasView = false;
+  // Inclusive range of awake cells
+  private int awakeLo;
+  private int awakeHi;
+
+  public ActivationRegionComponent() {
+    this(DEFAULT_CELL_WIDTH, DEFAULT_MARGIN, DEFAULT_HYSTERESIS);
+  }
+
+  /**
+   * @param cellWidth width of each cell in world units
+   * @param margin distance outside the view within which cells are woken
+   * @param hysteresis extra distance past the margin before cells are put to sleep
+   */
+  public ActivationRegionComponent(float cellWidth, float margin, float hysteresis) {
+    this.cellWidth = cellWidth;
+    this.margin = margin;
+    this.hysteresis = hysteresis;
+  }
+
+  /**
+   * Start managing an entity. It's put to sleep straight away if it's far from the camera. Should be
+   * called after the entity is created.
+   *
+   * @param entity entity to manage
+   */
+  public void add(Entity entity) {
+    if (cellsById.containsKey(entity.getId())) {
+      return;
+    }
+    int cell = cellOf(entity);
+    getCell(cell).add(entity);
+    cellsById.put(entity.getId(), cell);
+    if (hasView && (cell < awakeLo || cell > awakeHi)) {
+      sleep(entity);
+    }
+  }
+
+  /**
+   * Stop managing an entity, e.g. when it's disposed. Doesn't wake the entity.
+   *
+   * @param entity entity to remove
+   */
+  public void remove(Entity entity) {
+    int cell = cellsById.remove(entity.getId(), NO_CELL);
+    if (cell == NO_CELL) {
+      return;
+    }
+    cells.get(cell).removeValue(entity, true);
+    sleeping.remove(entity.getId());
+  }
+
+  @Override
+  public void update() {
+    RenderService renderService = ServiceLocator.getRenderService();
+    if (renderService != null && renderService.getViewBounds(view)) {
+      update(view);
+    }
+  }
+
+  /**
+   * Wake and sleep cells around a view.
+   *
+   * @param view camera view bounds in world units
+   */
+  public void update(Rectangle view) {
+    int wakeLo = cellAt(view.x - margin);
+    int wakeHi = cellAt(view.x + view.width + margin);
+    int sleepLo = cellAt(view.x - margin - hysteresis);
+    int sleepHi = cellAt(view.x + view.width + margin + hysteresis);
+
+    if (!hasView) {
+      hasView = true;
+      awakeLo = wakeLo;
+      awakeHi = wakeHi;
+      IntArray keys = cells.keys().toArray();
+      for (int i = 0; i < keys.size; i++) {
+        relocate(keys.get(i));
+      }
+      keys = cells.keys().toArray();
+      for (int i = 0; i < keys.size; i++) {
+        if (keys.get(i) < awakeLo || keys.get(i) > awakeHi) {
+          setAwake(keys.get(i), false);
+        }
+      }
+      return;
+    }
+
+    // Awake cells stay awake until they're past the hysteresis, as long as they're still
+    // connected to the cells around the view
+    int newLo = wakeLo;
+    int newHi = wakeHi;
+    if (awakeLo <= sleepHi && awakeHi >= sleepLo) {
+      newLo = Math.min(wakeLo, Math.max(awakeLo, sleepLo));
+      newHi = Math.max(wakeHi, Math.min(awakeHi, sleepHi));
+    }
+
+    int oldLo = awakeLo;
+    int oldHi = awakeHi;
+    awakeLo = newLo;
+    awakeHi = newHi;
+    for (int cell = oldLo; cell <= oldHi; cell++) {
+      relocate(cell);
+    }
+    for (int cell = oldLo; cell <= oldHi; cell++) {
+      if (cell < newLo || cell > newHi) {
+        setAwake(cell, false);
+      }
+    }
+    for (int cell = newLo; cell <= newHi; cell++) {
+      if (cell < oldLo || cell > oldHi) {
+        setAwake(cell, true);
+      }
+    }
+  }
+
+  /** @return number of managed entities which are awake */
+  public int getActiveCount() {
+    return cellsById.size - sleeping.size;
+  }
+
+  /** @return number of managed entities which are asleep */
+  public int getDormantCount() {
+    return sleeping.size;
+  }
+
+  /**
+   * @param entity managed entity
+   * @return true if the entity has been put to sleep
+   */
+  public boolean isDormant(Entity entity) {
+    return sleeping.contains(entity.getId());
+  }
+
+  @Override
+  public void dispose() {
+    cells.clear();
+    cellsById.clear();
+    sleeping.clear();
+  }
+
+  /** Move awake entities in a cell into the cells they've wandered into. */
+  private void relocate(int cell) {
+    Array<Entity> entities = cells.get(cell);
+    if (entities == null) {
+      return;
+    }
+    int i = 0;
+    while (i < entities.size) {
+      Entity entity = entities.get(i);
+      int newCell = cellOf(entity);
+      if (newCell == cell || isDormant(entity)) {
+        i++;
+        continue;
+      }
+      // Unordered removal moves the last entity into this index, so don't advance
+      entities.removeIndex(i);
+      getCell(newCell).add(entity);
+      cellsById.put(entity.getId(), newCell);
+      if (newCell < awakeLo || newCell > awakeHi) {
+        sleep(entity);
+      }
+    }
+  }
+
+  private void setAwake(int cell, boolean awake) {
+    Array<Entity> entities = cells.get(cell);
+    if (entities == null) {
+      return;
+    }
+    for (int i = 0; i < entities.size; i++) {
+      if (awake) {
+        wake(entities.get(i));
+      } else {
+        sleep(entities.get(i));
+      }
+    }
+  }
+
+  private void sleep(Entity entity) {
+    if (sleeping.add(entity.getId())) {
+      entity.setEnabled(false);
+      setBodyActive(entity, false);
+    }
+  }
+
+  private void wake(Entity entity) {
+    if (sleeping.remove(entity.getId())) {
+      entity.setEnabled(true);
+      setBodyActive(entity, true);
+    }
+  }
+
+  private static void setBodyActive(Entity entity, boolean active) {
+    PhysicsComponent physicsComponent = entity.getComponent(PhysicsComponent.class);
+    if (physicsComponent != null) {
+      physicsComponent.getBody().setActive(active);
+    }
+  }
+
+  private Array<Entity> getCell(int cell) {
+    Array<Entity> entities = cells.get(cell);
+    if (entities == null) {
+      entities = new Array<>(false, 8);
+      cells.put(cell, entities);
+    }
+    return entities;
+  }
+
+  private int cellOf(Entity entity) {
+    return cellAt(entity.getCenterPosition(center).x);
+  }
+
+  private int cellAt(float x) {
+    return MathUtils.floor(x / cellWidth);
+  }
+}
@@ -4,36 +4,67 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.deco2800.game.areas.ForestGameArea;
 import com.deco2800.game.areas.GameArea;
 import com.deco2800.game.entities.Entity;
-import com.deco2800.game.physics.BodyUserData;
+import com.deco2800.game.entities.factories.ProjectilePool;
+import com.deco2800.game.physics.FixtureUtils;
+import com.deco2800.game.physics.PhysicsContactListener;
+import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
 
 /**
  * When this entity touches a valid enemy's bullet, deal damage to them and destroy the bullet.
+ * Bullets from a {@link ProjectilePool} are released back to the pool instead of destroyed.
  */
 public class BulletHitPlayer extends Component {
     private Entity target;
     private HitboxComponent hitboxComponent;
     private GameArea GameArea;
     private short Layer;
+    private ProjectilePool pool;
 
     public BulletHitPlayer(Entity target, GameArea GameArea) {
+        this(target, GameArea, null);
+    }
+
+    /**
+     * @param target the entity this bullet damages
+     * @param GameArea the game area
+     * @param pool pool to release the bullet to on hit, or null to destroy it
+     */
+    public BulletHitPlayer(Entity target, GameArea GameArea, ProjectilePool pool) {
         this.target = target;
         this.GameArea = GameArea;
+        this.pool = pool;
+    }
 
+    /**
+     * Set the entity this bullet damages. Used when a pooled bullet is reused.
+     * @param target the entity this bullet damages
+     */
+    public void setTarget(Entity target) {
+        this.target = target;
     }
 
     @Override
     public void create() {
         super.create();
-        entity.getEvents().addListener("collisionStart", this::Hit);
+        PhysicsContactListener.subscribe(entity, PhysicsLayer.ALL, PhysicsLayer.PLAYER);
+        entity.getEvents().addListener(PhysicsContactListener.COLLISION_START, this::Hit);
     }
 
     private void Hit(Fixture attack, Fixture player) {
-        Entity bullet = ((BodyUserData) attack.getBody().getUserData()).entity;
-        Entity target = ((BodyUserData) player.getBody().getUserData()).entity;
+        Entity bullet = FixtureUtils.getEntity(attack);
+        Entity target = FixtureUtils.getEntity(player);
+        if (!bullet.isEnabled()) {
+            // Already released this step, don't hit twice
+            return;
+        }
         if(target == this.target) {
-            bullet.getComponent(PhysicsComponent.class).getPhysics().addToDestroy(bullet);
+            if (pool != null) {
+                pool.release(bullet);
+            } else {
+                bullet.getComponent(PhysicsComponent.class).getPhysics().addToDestroy(bullet);
+            }
             target.getComponent(CombatStatsComponent.class).decreaseHealth(20);
         }
     }
@@ -3,11 +3,12 @@ package com.deco2800.game.components;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 public class CameraComponent extends Component {
   private final Camera camera;
-  private Vector2 lastPosition;
+  private final Vector2 lastPosition;
 
   public CameraComponent() {
     this(new OrthographicCamera());
@@ -20,10 +21,11 @@ public class CameraComponent extends Component {
 
   @Override
   public void update() {
-    Vector2 position = entity.getPosition();
-    if (!lastPosition.epsilonEquals(entity.getPosition())) {
-      camera.position.set(position.x, position.y, 0f);
-      lastPosition = position;
+    float x = entity.getX();
+    float y = entity.getY();
+    if (!lastPosition.epsilonEquals(x, y)) {
+      camera.position.set(x, y, 0f);
+      lastPosition.set(x, y);
       camera.update();
     }
   }
@@ -36,6 +38,20 @@ public class CameraComponent extends Component {
     return camera;
   }
 
+  /**
+   * Get the area of the world currently visible to the camera.
+   *
+   * @param out Rectangle to store the bounds in
+   * @return out
+   */
+  public Rectangle getBounds(Rectangle out) {
+    float zoom = (camera instanceof OrthographicCamera) ? ((OrthographicCamera) camera).zoom : 1f;
+    float width = camera.viewportWidth * zoom;
+    float height = camera.viewportHeight * zoom;
+    return out.set(
+        camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
+  }
+
   public void resize(int screenWidth, int screenHeight, float gameWidth) {
     float ratio = (float) screenHeight / screenWidth;
     camera.viewportWidth = gameWidth;
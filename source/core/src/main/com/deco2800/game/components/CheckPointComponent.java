@@ -5,7 +5,8 @@ import com.deco2800.game.GdxGame;
 import com.deco2800.game.areas.LevelTwoArea;
 import com.deco2800.game.areas.LevelThreeArea;
 import com.deco2800.game.entities.Entity;
-import com.deco2800.game.physics.BodyUserData;
+import com.deco2800.game.physics.FixtureUtils;
+import com.deco2800.game.physics.PhysicsContactListener;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.areas.ForestGameArea;
@@ -45,7 +46,8 @@ public class CheckPointComponent extends Component {
 
     @Override
     public void create() {
-        entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+        PhysicsContactListener.subscribe(entity, PhysicsLayer.ALL, targetLayer);
+        entity.getEvents().addListener(PhysicsContactListener.COLLISION_START, this::onCollisionStart);
         hitboxComponent = entity.getComponent(HitboxComponent.class);
     }
 
@@ -61,9 +63,9 @@ public class CheckPointComponent extends Component {
         }
 
         // Try to attack target.
-        Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
-        CombatStatsComponent targetStats = target.getComponent(CombatStatsComponent.class);
-        if (targetStats != null) {
+        Entity target = FixtureUtils.getEntity(other);
+        if (target != null && target.getComponent(CombatStatsComponent.class) != null) {
+            target.getEvents().trigger("checkPoint");
             area.setCheckPointStatus(1);
         }
 
@@ -13,6 +13,9 @@ public class Component {
   private static final Logger logger = LoggerFactory.getLogger(Component.class);
   protected Entity entity;
   protected boolean enabled = true;
+  /** Slots in the {@link ComponentScheduler} update lists, or -1 when not scheduled. */
+  int earlyUpdateSlot = -1;
+  int updateSlot = -1;
 
   /**
    * Called when the entity is created and registered. Initial logic such as calls to GetComponent
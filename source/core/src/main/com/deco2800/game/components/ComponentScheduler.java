@@ -0,0 +1,257 @@
+package com.deco2800.game.components;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Runs earlyUpdate() and update() on components, keeping a dense list of components for each
+ * {@link ComponentType}. Only types which override earlyUpdate() or update() get a list, so
+ * components with nothing to update (e.g. colliders on static walls) cost nothing per frame.
+ *
+ * <p>Update order:
+ *
+ * <ul>
+ *   <li>Every component's earlyUpdate() runs before any component's update().
+ *   <li>Within each phase, types are updated in order of their {@link ComponentType} ID. Components
+ *       of the same type are updated in the order they were scheduled, until one is unscheduled,
+ *       which moves the last component of that type into its slot.
+ *   <li>Components unscheduled during a phase are not updated again. Components scheduled during a
+ *       phase are updated in that phase only if their type hasn't been updated yet.
+ * </ul>
+ *
+ * Disabled components, and components of disabled entities, are skipped.
+ *
+ * <p>A type can be given a {@link BatchUpdater} to update all of its components together instead,
+ * e.g. to split the work across threads.
+ */
+public class ComponentScheduler {
+  private static final int INITIAL_CAPACITY = 8;
+
+  private final Array<UpdateList> earlyUpdateLists = new Array<>(true, INITIAL_CAPACITY);
+  private final Array<UpdateList> updateLists = new Array<>(true, INITIAL_CAPACITY);
+  private boolean updating = false;
+
+  /**
+   * Schedule a created component to be updated each frame, if its type overrides earlyUpdate() or
+   * update().
+   *
+   * @param component component to schedule
+   */
+  public void schedule(Component component) {
+    ComponentType type = ComponentType.getFrom(component.getClass());
+    if (type.hasEarlyUpdate()) {
+      component.earlyUpdateSlot = getList(earlyUpdateLists, type.getId(), true).add(component);
+    }
+    if (type.hasUpdate()) {
+      component.updateSlot = getList(updateLists, type.getId(), false).add(component);
+    }
+  }
+
+  /**
+   * Stop updating a component. Safe to call while updating.
+   *
+   * @param component component to unschedule
+   */
+  public void unschedule(Component component) {
+    if (component.earlyUpdateSlot == -1 && component.updateSlot == -1) {
+      return;
+    }
+    int typeId = ComponentType.getFrom(component.getClass()).getId();
+    if (component.earlyUpdateSlot != -1) {
+      earlyUpdateLists.get(typeId).remove(component.earlyUpdateSlot, updating);
+      component.earlyUpdateSlot = -1;
+    }
+    if (component.updateSlot != -1) {
+      updateLists.get(typeId).remove(component.updateSlot, updating);
+      component.updateSlot = -1;
+    }
+  }
+
+  /** Run earlyUpdate() on all scheduled components. */
+  public void earlyUpdate() {
+    updating = true;
+    try {
+      for (int i = 0; i < earlyUpdateLists.size; i++) {
+        UpdateList list = earlyUpdateLists.get(i);
+        if (list != null) {
+          list.earlyUpdate();
+        }
+      }
+    } finally {
+      updating = false;
+      compact(earlyUpdateLists);
+      compact(updateLists);
+    }
+  }
+
+  /** Run update() on all scheduled components. */
+  public void update() {
+    updating = true;
+    try {
+      for (int i = 0; i < updateLists.size; i++) {
+        UpdateList list = updateLists.get(i);
+        if (list != null) {
+          list.update();
+        }
+      }
+    } finally {
+      updating = false;
+      compact(earlyUpdateLists);
+      compact(updateLists);
+    }
+  }
+
+  /**
+   * Update all components of a type with a batch updater, instead of calling update() on each.
+   *
+   * @param type component type
+   * @param updater updater for the type's components
+   */
+  public void setBatchUpdater(Class<? extends Component> type, BatchUpdater updater) {
+    getList(updateLists, ComponentType.getFrom(type).getId(), false).batchUpdater = updater;
+  }
+
+  /**
+   * Check whether a component from a batch should be updated.
+   *
+   * @param component component from a batch, may be null
+   * @return true if the component is scheduled and it and its entity are enabled
+   */
+  public static boolean isActive(Component component) {
+    return component != null && component.enabled && component.entity.isEnabled();
+  }
+
+  /**
+   * @param component component to check
+   * @return true if the component is updated each frame
+   */
+  public boolean isScheduled(Component component) {
+    return component.earlyUpdateSlot != -1 || component.updateSlot != -1;
+  }
+
+  /** @return number of components scheduled for earlyUpdate() */
+  public int getEarlyUpdateCount() {
+    return count(earlyUpdateLists);
+  }
+
+  /** @return number of components scheduled for update() */
+  public int getUpdateCount() {
+    return count(updateLists);
+  }
+
+  private static UpdateList getList(Array<UpdateList> lists, int typeId, boolean early) {
+    if (typeId >= lists.size) {
+      lists.setSize(typeId + 1);
+    }
+    UpdateList list = lists.get(typeId);
+    if (list == null) {
+      list = new UpdateList(early);
+      lists.set(typeId, list);
+    }
+    return list;
+  }
+
+  private static void compact(Array<UpdateList> lists) {
+    for (int i = 0; i < lists.size; i++) {
+      UpdateList list = lists.get(i);
+      if (list != null) {
+        list.compact();
+      }
+    }
+  }
+
+  private static int count(Array<UpdateList> lists) {
+    int count = 0;
+    for (int i = 0; i < lists.size; i++) {
+      UpdateList list = lists.get(i);
+      if (list != null) {
+        count += list.components.size - list.emptySlots.size;
+      }
+    }
+    return count;
+  }
+
+  /** Components of a single type. Removal swaps the last component into the removed slot. */
+  private static class UpdateList {
+    private final Array<Component> components = new Array<>(false, INITIAL_CAPACITY);
+    private final IntArray emptySlots = new IntArray(false, INITIAL_CAPACITY);
+    private final boolean early;
+    private BatchUpdater batchUpdater;
+
+    UpdateList(boolean early) {
+      this.early = early;
+    }
+
+    int add(Component component) {
+      components.add(component);
+      return components.size - 1;
+    }
+
+    void remove(int slot, boolean defer) {
+      if (defer) {
+        components.set(slot, null);
+        emptySlots.add(slot);
+      } else {
+        removeSlot(slot);
+      }
+    }
+
+    void earlyUpdate() {
+      for (int i = 0; i < components.size; i++) {
+        Component component = components.get(i);
+        if (component != null && component.entity.isEnabled()) {
+          component.triggerEarlyUpdate();
+        }
+      }
+    }
+
+    void update() {
+      if (batchUpdater != null) {
+        batchUpdater.update(components);
+        return;
+      }
+      for (int i = 0; i < components.size; i++) {
+        Component component = components.get(i);
+        if (component != null && component.entity.isEnabled()) {
+          component.triggerUpdate();
+        }
+      }
+    }
+
+    void compact() {
+      if (emptySlots.size == 0) {
+        return;
+      }
+      // Fill the highest slots first, so the component moved into each slot is never an empty one
+      emptySlots.sort();
+      for (int i = emptySlots.size - 1; i >= 0; i--) {
+        removeSlot(emptySlots.get(i));
+      }
+      emptySlots.clear();
+    }
+
+    private void removeSlot(int slot) {
+      components.removeIndex(slot);
+      if (slot < components.size) {
+        Component moved = components.get(slot);
+        if (early) {
+          moved.earlyUpdateSlot = slot;
+        } else {
+          moved.updateSlot = slot;
+        }
+      }
+    }
+  }
+
+  /** Updates every component of one type at once. */
+  public interface BatchUpdater {
+    /**
+     * Update the components, in place of calling update() on each. Use {@link #isActive(Component)}
+     * to skip disabled components.
+     *
+     * @param components components of the type, in update order. Slots are null for components
+     *     unscheduled during this frame's update.
+     */
+    void update(Array<Component> components);
+  }
+}
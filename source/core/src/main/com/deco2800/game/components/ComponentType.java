@@ -5,6 +5,9 @@ import com.badlogic.gdx.utils.ObjectMap;
 /**
  * Internal type system for components. Used to generate unique IDs for each component type at
  * runtime, allowing entities to get components by type.
+ *
+ * <p>Each type also records whether it overrides {@link Component#earlyUpdate()} or {@link
+ * Component#update()}, so that components with nothing to update are never scheduled.
  */
 public class ComponentType {
   private static final ObjectMap<Class<? extends Component>, ComponentType> componentTypes =
@@ -12,11 +15,13 @@ public class ComponentType {
   private static int nextId = 0;
 
   private final int id;
+  private final boolean earlyUpdates;
+  private final boolean updates;
 
   public static ComponentType getFrom(Class<? extends Component> type) {
     ComponentType componentType = componentTypes.get(type);
     if (componentType == null) {
-      componentType = new ComponentType();
+      componentType = new ComponentType(type);
       componentTypes.put(type, componentType);
     }
     return componentType;
@@ -26,8 +31,29 @@ public class ComponentType {
     return id;
   }
 
-  private ComponentType() {
+  /** @return true if components of this type override earlyUpdate() */
+  public boolean hasEarlyUpdate() {
+    return earlyUpdates;
+  }
+
+  /** @return true if components of this type override update() */
+  public boolean hasUpdate() {
+    return updates;
+  }
+
+  private ComponentType(Class<? extends Component> type) {
     id = nextId;
     nextId++;
+    earlyUpdates = overrides(type, "earlyUpdate");
+    updates = overrides(type, "update");
+  }
+
+  private static boolean overrides(Class<? extends Component> type, String methodName) {
+    try {
+      return type.getMethod(methodName).getDeclaringClass() != Component.class;
+    } catch (NoSuchMethodException e) {
+      // Every component has the method, but schedule it in case
+      return true;
+    }
   }
 }
@@ -0,0 +1,132 @@
+package com.deco2800.game.components;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.deco2800.game.entities.factories.ProjectilePool;
+import com.deco2800.game.events.EventTracer;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Expires a projectile which has missed. A projectile expires when it has been alive for too long,
+ * has travelled too far from where it was fired, or has been outside the camera's view for too
+ * long. Expired projectiles are released to their {@link ProjectilePool}, or destroyed if they
+ * aren't pooled.
+ *
+ * <p>Pooled projectiles should be {@link #reset()} each time they are fired.
+ */
+public class ProjectileLifetimeComponent extends Component {
+  /** Seconds a projectile lives for if it doesn't hit anything. */
+  public static final float DEFAULT_LIFETIME = 8f;
+  /** Distance in world units a projectile travels before expiring. */
+  public static final float DEFAULT_RANGE = 30f;
+  /** Seconds a projectile can spend outside the camera's view before expiring. */
+  public static final float DEFAULT_OFF_SCREEN_TIME = 1f;
+
+  private final ProjectilePool pool;
+  private final float lifetime;
+  private final float range;
+  private final float offScreenTime;
+  private final Rectangle view = new Rectangle();
+  private final Rectangle bounds = new Rectangle();
+  private GameTime timeSource;
+
+  private boolean fired = false;
+  private float originX;
+  private float originY;
+  private float age;
+  private float timeOffScreen;
+
+  /** Create a lifetime for a projectile which is destroyed when it expires. */
+  public ProjectileLifetimeComponent() {
+    this(null);
+  }
+
+  /**
+   * Create a lifetime with the default limits.
+   *
+   * @param pool pool to release the projectile to when it expires, or null to destroy it
+   */
+  public ProjectileLifetimeComponent(ProjectilePool pool) {
+    this(pool, DEFAULT_LIFETIME, DEFAULT_RANGE, DEFAULT_OFF_SCREEN_TIME);
+  }
+
+  /**
+   * @param pool pool to release the projectile to when it expires, or null to destroy it
+   * @param lifetime seconds the projectile lives for
+   * @param range distance in world units the projectile travels before expiring
+   * @param offScreenTime seconds the projectile can spend outside the camera's view
+   */
+  public ProjectileLifetimeComponent(
+      ProjectilePool pool, float lifetime, float range, float offScreenTime) {
+    this.pool = pool;
+    this.lifetime = lifetime;
+    this.range = range;
+    this.offScreenTime = offScreenTime;
+  }
+
+  @Override
+  public void create() {
+    timeSource = ServiceLocator.getTimeSource();
+  }
+
+  /** Start the lifetime again. The projectile's position on its next update is where it was fired. */
+  public void reset() {
+    fired = false;
+    age = 0f;
+    timeOffScreen = 0f;
+  }
+
+  @Override
+  public void update() {
+    float x = entity.getX();
+    float y = entity.getY();
+    if (!fired) {
+      fired = true;
+      originX = x;
+      originY = y;
+      return;
+    }
+
+    float deltaTime = timeSource.getDeltaTime();
+    age += deltaTime;
+    if (age >= lifetime) {
+      expire("projectileExpired");
+      return;
+    }
+
+    float dx = x - originX;
+    float dy = y - originY;
+    if (dx * dx + dy * dy >= range * range) {
+      expire("projectileOutOfRange");
+      return;
+    }
+
+    RenderService renderService = ServiceLocator.getRenderService();
+    if (renderService != null && renderService.getViewBounds(view)) {
+      bounds.set(x, y, entity.getScaleX(), entity.getScaleY());
+      if (view.overlaps(bounds)) {
+        timeOffScreen = 0f;
+      } else {
+        timeOffScreen += deltaTime;
+        if (timeOffScreen >= offScreenTime) {
+          expire("projectileOffScreen");
+        }
+      }
+    }
+  }
+
+  private void expire(String reason) {
+    if (EventTracer.ENABLED) {
+      EventTracer.record(EventTracer.Category.ENTITY, reason, entity.getId());
+    }
+    if (pool != null) {
+      pool.release(entity);
+    } else {
+      // Disable first, so the projectile can't hit anything before it is destroyed
+      entity.setEnabled(false);
+      entity.getComponent(PhysicsComponent.class).getPhysics().addToDestroy(entity);
+    }
+  }
+}
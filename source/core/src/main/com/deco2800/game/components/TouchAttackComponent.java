@@ -6,6 +6,7 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.BodyUserData;
+import com.deco2800.game.physics.PhysicsContactListener;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
@@ -45,7 +46,8 @@ public class TouchAttackComponent extends Component {
 
   @Override
   public void create() {
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    PhysicsContactListener.subscribe(entity, PhysicsLayer.ALL, targetLayer);
+    entity.getEvents().addListener(PhysicsContactListener.COLLISION_START, this::onCollisionStart);
     combatStats = entity.getComponent(CombatStatsComponent.class);
     hitboxComponent = entity.getComponent(HitboxComponent.class);
   }
@@ -3,6 +3,14 @@ package com.deco2800.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.game.areas.GameArea;
+import com.deco2800.game.components.ActivationRegionComponent;
+import com.deco2800.game.physics.PerceptionService;
+import com.deco2800.game.physics.PhysicsContactListener;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.rendering.RenderStats;
+import com.deco2800.game.rendering.RenderStats.Stat;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
 
@@ -11,7 +19,20 @@ import com.deco2800.game.ui.UIComponent;
  */
 public class PerformanceDisplay extends UIComponent {
   private static final float Z_INDEX = 5f;
+  private final GameArea area;
   private Label profileLabel;
+  private final IntArray layers = new IntArray();
+  private final IntArray layersDrawn = new IntArray();
+  private final IntArray layersCulled = new IntArray();
+
+  public PerformanceDisplay() {
+    this(null);
+  }
+
+  /** @param area game area to show activation region stats for, or null */
+  public PerformanceDisplay(GameArea area) {
+    this.area = area;
+  }
 
   @Override
   public void create() {
@@ -40,14 +61,78 @@ public class PerformanceDisplay extends UIComponent {
   }
 
   private String getStats() {
+    RenderService renderService = ServiceLocator.getRenderService();
+    PerceptionService perception = ServiceLocator.getPhysicsService().getPerception();
+    PhysicsContactListener contacts =
+        ServiceLocator.getPhysicsService().getPhysics().getContactListener();
     String message = "Debug\n";
     message =
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
-            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000))
+            .concat(getRenderStats(renderService))
+            .concat(
+                String.format(
+                    "Entities: %d, Bodies: %d%n",
+                    ServiceLocator.getEntityService().getEntityCount(),
+                    ServiceLocator.getPhysicsService().getPhysics().getWorld().getBodyCount()))
+            .concat(
+                String.format(
+                    "Sight checks: %d raycast, %d cached%n",
+                    perception.getRaycastCount(), perception.getCachedCount()))
+            .concat(
+                String.format(
+                    "Contacts: %d delivered, %d dropped%n",
+                    contacts.getDispatchedCount(), contacts.getDroppedCount()))
+            .concat(
+                String.format(
+                    "Physics queries: %d per frame%n",
+                    ServiceLocator.getPhysicsService().getPhysics().getQueryCount()));
+    ActivationRegionComponent regions = area != null ? area.getActivationRegions() : null;
+    if (regions != null) {
+      message =
+          message.concat(
+              String.format(
+                  "Active: %d, Dormant: %d%n",
+                  regions.getActiveCount(), regions.getDormantCount()));
+    }
     return message;
   }
 
+  /** Render stats as min/avg/max over the sampled frames, then the last frame's layer counts. */
+  private String getRenderStats(RenderService renderService) {
+    RenderStats stats = renderService.getStats();
+    StringBuilder message =
+        new StringBuilder(
+            String.format("Render stats over %d frames (min/avg/max)%n", stats.getSampleCount()));
+    appendStat(message, stats, "Batch flushes", Stat.RENDER_CALLS);
+    appendStat(message, stats, "Max sprites per batch", Stat.MAX_SPRITES_IN_BATCH);
+    appendStat(message, stats, "Texture binds", Stat.TEXTURE_BINDS);
+    appendStat(message, stats, "Draw calls", Stat.DRAW_CALLS);
+    appendStat(message, stats, "Drawn", Stat.DRAWN);
+    appendStat(message, stats, "Culled", Stat.CULLED);
+    appendStat(message, stats, "Terrain cells", Stat.TERRAIN_CELLS);
+
+    layers.clear();
+    layersDrawn.clear();
+    layersCulled.clear();
+    renderService.getLayerCounts(layers, layersDrawn, layersCulled);
+    for (int i = 0; i < layers.size; i++) {
+      message.append(
+          String.format(
+              "Layer %d: %d drawn, %d culled%n",
+              layers.get(i), layersDrawn.get(i), layersCulled.get(i)));
+    }
+    return message.toString();
+  }
+
+  private static void appendStat(StringBuilder message, RenderStats stats, String name, Stat stat) {
+    message.append(
+        String.format(
+            "%s: %d/%.1f/%d%n",
+            name, stats.getMin(stat), stats.getAverage(stat), stats.getMax(stat)));
+  }
+
   @Override
   public float getZIndex() {
     return Z_INDEX;
@@ -9,7 +9,10 @@ import com.deco2800.game.components.Component;
 import com.deco2800.game.components.PlayerBuffs;
 import com.deco2800.game.components.player.PlayerStatsDisplay;
 import com.deco2800.game.entities.Entity;
-import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.BodyUserData;
+import com.deco2800.game.physics.FixtureUtils;
+import com.deco2800.game.physics.PhysicsContactListener;
+import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.screens.MainGameScreen;
 import com.deco2800.game.services.ServiceLocator;
@@ -244,7 +247,9 @@ public class BuffManager extends Component {
     @Override
     public void create() {
         super.create();
-        player.getEvents().addListener("collisionStart",
+        // Buffs are obstacle colliders
+        PhysicsContactListener.subscribe(player, PhysicsLayer.ALL, PhysicsLayer.OBSTACLE);
+        player.getEvents().addListener(PhysicsContactListener.COLLISION_START,
                 this::onCollision);
     }
 
@@ -258,22 +263,16 @@ public class BuffManager extends Component {
      * */
     public void onCollision(Fixture player, Fixture object) {
         // logger.info("Player has collided with something!");
-        Entity buff = null;
-        BuffTypes type = null;
-        BuffInformation buffInfo = null;
-
         /* Check if the player hit a buff */
-        for (Entity current : this.currentBuffs.keySet()) {
-            if (current.getComponent(ColliderComponent.class).getFixture()
-                    == object) {
-                buffInfo = this.currentBuffs.get(current);
-                buff = current;
-                type = buffInfo.getType();
-            }
+        if (!FixtureUtils.hasRole(object, BodyUserData.Role.BUFF)) {
+            return;
         }
+        Entity buff = FixtureUtils.getEntity(object);
+        BuffInformation buffInfo = this.currentBuffs.get(buff);
 
-        /* Apply the effects of the buff, if one was hit. */
-        if (type != null) {
+        /* Apply the effects of the buff, if it hasn't been picked up yet. */
+        if (buffInfo != null) {
+            BuffTypes type = buffInfo.getType();
             logger.info("Player has hit a buff!");
             selectBuffFunctionality(type, buff, buffInfo);
 
@@ -463,6 +462,7 @@ public class BuffManager extends Component {
      * */
     public void registerBuff(BuffInformation info) {
         this.currentBuffs.put(info.getBuff(), info);
+        FixtureUtils.setRole(info.getBuff(), BodyUserData.Role.BUFF);
         this.lastBuffSpawn = info.getTimeOfCreation();
     }
 
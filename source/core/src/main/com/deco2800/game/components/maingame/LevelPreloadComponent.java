@@ -0,0 +1,136 @@
+package com.deco2800.game.components.maingame;
+
+import com.deco2800.game.areas.LevelAssets;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.screens.MainGameScreen;
+import com.deco2800.game.services.AssetLoadHandle;
+import com.deco2800.game.services.AssetManifest;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Starts loading the next level's assets while the current level is played, so the portal at the
+ * end leads straight into it. Preloading starts once the player reaches a checkpoint or passes a
+ * percentage of the level, and loads a little each frame. Frames which ran over the target frame
+ * time get a smaller loading budget, and frames with time to spare a larger one.
+ *
+ * <p>The next level's assets are released if the player dies, or when the game screen is disposed.
+ * The loading screen acquires them again before they would be unloaded, so a portal transition
+ * keeps them.
+ */
+public class LevelPreloadComponent extends Component {
+  private static final Logger logger = LoggerFactory.getLogger(LevelPreloadComponent.class);
+  public static final float DEFAULT_START_PROGRESS = 50f;
+  private static final float TARGET_FRAME_MILLIS = 1000f / 60f;
+  static final int MIN_BUDGET_MILLIS = 1;
+  static final int MAX_BUDGET_MILLIS = 4;
+
+  private final Entity player;
+  private final AssetManifest nextLevelAssets;
+  private final float startProgress;
+  private final ResourceService resourceService;
+  private AssetLoadHandle handle;
+  private boolean released = false;
+  private int budgetMillis = MIN_BUDGET_MILLIS;
+
+  /**
+   * @param player player whose progress starts preloading
+   * @param level level being played
+   */
+  public LevelPreloadComponent(Entity player, MainGameScreen.Level level) {
+    this(player, level, DEFAULT_START_PROGRESS);
+  }
+
+  /**
+   * @param player player whose progress starts preloading
+   * @param level level being played
+   * @param startProgress progress percentage at which to start preloading
+   */
+  public LevelPreloadComponent(Entity player, MainGameScreen.Level level, float startProgress) {
+    this.player = player;
+    MainGameScreen.Level nextLevel = LevelAssets.getNextLevel(level);
+    this.nextLevelAssets = nextLevel == null ? null : LevelAssets.getLevel(nextLevel);
+    this.startProgress = startProgress;
+    this.resourceService = ServiceLocator.getResourceService();
+  }
+
+  @Override
+  public void create() {
+    if (nextLevelAssets == null) {
+      return;
+    }
+    player.getEvents().addListener("updateProgress", this::onProgress);
+    player.getEvents().addListener("checkPoint", this::startPreload);
+    player.getEvents().addListener("playerDeath", this::cancel);
+  }
+
+  @Override
+  public void update() {
+    if (handle == null || released || handle.isDone()) {
+      return;
+    }
+    adaptBudget();
+    resourceService.loadForMillis(budgetMillis);
+    if (handle.isDone()) {
+      logger.info("Preloaded {} assets for the next level", handle.getTotal());
+    }
+  }
+
+  /** Halve the loading budget after a slow frame, or grow it after a frame with time to spare. */
+  void adaptBudget() {
+    float frameMillis = ServiceLocator.getTimeSource().getRawDeltaTime() * 1000f;
+    if (frameMillis > TARGET_FRAME_MILLIS) {
+      budgetMillis = Math.max(MIN_BUDGET_MILLIS, budgetMillis / 2);
+    } else {
+      budgetMillis = Math.min(MAX_BUDGET_MILLIS, budgetMillis + 1);
+    }
+  }
+
+  private void onProgress(float progress) {
+    if (progress >= startProgress) {
+      startPreload();
+    }
+  }
+
+  /** Acquire the next level's assets, unless they've already been acquired or released. */
+  void startPreload() {
+    if (handle != null || released || nextLevelAssets == null) {
+      return;
+    }
+    logger.debug("Preloading next level");
+    handle = resourceService.acquire(nextLevelAssets);
+  }
+
+  /**
+   * Stop preloading and release the next level's assets. They're unloaded at the next screen
+   * change, unless something acquires them again first. The level won't be preloaded again.
+   */
+  void cancel() {
+    if (handle != null && !released) {
+      logger.debug("Cancelling next level preload");
+      resourceService.release(nextLevelAssets);
+    }
+    released = true;
+  }
+
+  /** @return handle of the next level's assets, or null if preloading hasn't started */
+  public AssetLoadHandle getHandle() {
+    return handle;
+  }
+
+  /** @return loading budget for the next frame in milliseconds */
+  int getBudgetMillis() {
+    return budgetMillis;
+  }
+
+  @Override
+  public void dispose() {
+    if (handle != null && !released) {
+      resourceService.release(nextLevelAssets);
+    }
+    released = true;
+  }
+}
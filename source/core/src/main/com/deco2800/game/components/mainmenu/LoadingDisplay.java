@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
+import com.deco2800.game.services.AssetLoadHandle;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
@@ -34,10 +35,17 @@ public class LoadingDisplay extends UIComponent {
     /* The resource service that holds all the assets required for the UI */
     private ResourceService resourceService;
 
+    /* The assets being loaded, which the loading bar shows the progress of */
+    private final AssetLoadHandle loading;
+
     private static final String MUSIC_FILE_PATH = "sounds/loading_background_music_new.mp3";
 
-    public LoadingDisplay(){
+    /**
+     * @param loading handle of the assets being loaded
+     */
+    public LoadingDisplay(AssetLoadHandle loading){
         resourceService = ServiceLocator.getResourceService();
+        this.loading = loading;
     }
 
     @Override
@@ -123,7 +131,8 @@ public class LoadingDisplay extends UIComponent {
     @Override
     protected void draw(SpriteBatch batch) {
         Gdx.gl.glClearColor(195/255f,206/255f,224/255f,1);
-        updateLoadingBar((int) (ServiceLocator.getResourceService().getAssetManager().getProgress() * 100));
+        // Round down to the nearest 10%, which each have a frame of the loading bar
+        updateLoadingBar((int) (loading.getProgress() * 10) * 10);
     }
 
     @Override
@@ -1,9 +1,13 @@
 package com.deco2800.game.components.player;
 
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.BodyUserData;
+import com.deco2800.game.physics.PhysicsContactListener;
+import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.services.ServiceLocator;
 
 import java.util.LinkedHashMap;
@@ -60,7 +64,9 @@ public class DoubleJumpComponent extends Component {
      * */
     @Override
     public void create() {
-        entity.getEvents().addListener("collisionStart",
+        // Anything solid can be landed on
+        PhysicsContactListener.subscribe(entity, PhysicsLayer.ALL, PhysicsLayer.ALL);
+        entity.getEvents().addListener(PhysicsContactListener.COLLISION_START,
                 this::onCollision);
     }
 
@@ -90,9 +96,11 @@ public class DoubleJumpComponent extends Component {
             }
 
             // Player should only jump again if they have landed on something
-            boolean isBeneath =
-                    ((collidedWith.getCenterPosition().y -
-                            entity.getCenterPosition().y) <= 0);
+            // Terrain shares one entity, so use the bounds of the box that was hit
+            float collidedY = object.getUserData() instanceof Rectangle
+                    ? ((Rectangle) object.getUserData()).getCenter(new Vector2()).y
+                    : collidedWith.getCenterPosition().y;
+            boolean isBeneath = ((collidedY - entity.getCenterPosition().y) <= 0);
 
             if (isBeneath) {
                 setLanded();
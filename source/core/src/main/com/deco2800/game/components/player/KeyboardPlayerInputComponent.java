@@ -60,7 +60,7 @@ public class KeyboardPlayerInputComponent extends InputComponent {
   public void update() {
     entity.getComponent(DoubleJumpComponent.class).checkJumpOnUpdate();
     // The player loses if they fall off the map
-    if (entity.getCenterPosition().y < 0.5) {
+    if (entity.getCenterY() < 0.5) {
       entity.getComponent(CombatStatsComponent.class).setHealth(0);
     }
   }
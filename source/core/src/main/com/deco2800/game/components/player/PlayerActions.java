@@ -139,9 +139,9 @@ public class PlayerActions extends Component {
    */
   void upgradeProgress() {
     if (walkDirection.x > 0) {
-      entity.getComponent(ProgressComponent.class).updateProgress(entity.getPosition().x);
+      entity.getComponent(ProgressComponent.class).updateProgress(entity.getX());
     }
-    entity.getComponent(InformPlayerComponent.class).setPosition(entity.getPosition().x);
+    entity.getComponent(InformPlayerComponent.class).setPosition(entity.getX());
   }
 
   /**
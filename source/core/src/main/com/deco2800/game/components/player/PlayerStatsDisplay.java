@@ -273,8 +273,8 @@ public class PlayerStatsDisplay extends UIComponent {
 
       /* Update the display */
       textureRegion.setTexture(manager.get(healthImage, Texture.class));
-      batch.draw(textureRegion,entity.getPosition().x - 1,
-              entity.getPosition().y + 1);
+      batch.draw(textureRegion,entity.getX() - 1,
+              entity.getY() + 1);
     }
 
 
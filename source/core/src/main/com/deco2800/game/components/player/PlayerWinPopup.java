@@ -12,6 +12,8 @@ import com.deco2800.game.components.maingame.PlayerWinActions;
 import com.deco2800.game.components.maingame.PlayerWinDisplay;
 import com.deco2800.game.components.maingame.PopupUIHandler;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.PhysicsContactListener;
+import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.ColliderComponent;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
@@ -78,7 +80,9 @@ public class PlayerWinPopup extends UIComponent {
     @Override
     public void create() {
         super.create();
-        player.getEvents().addListener("collisionStart",
+        // The portal is an obstacle collider
+        PhysicsContactListener.subscribe(player, PhysicsLayer.ALL, PhysicsLayer.OBSTACLE);
+        player.getEvents().addListener(PhysicsContactListener.COLLISION_START,
                 this::onCollision);
     }
 
@@ -33,6 +33,7 @@ public class SettingsMenuDisplay extends UIComponent {
 
   private Table rootTable;
   private TextField fpsText;
+  private TextField physicsRateText;
   private CheckBox fullScreenCheck;
   private CheckBox vsyncCheck;
   private Slider uiScaleSlider;
@@ -80,6 +81,9 @@ public class SettingsMenuDisplay extends UIComponent {
     Label fpsLabel = new Label("FPS Cap:", skin);
     fpsText = new TextField(Integer.toString(settings.fps), skin);
 
+    Label physicsRateLabel = new Label("Physics Rate:", skin);
+    physicsRateText = new TextField(Integer.toString(settings.physicsRate), skin);
+
     Label fullScreenLabel = new Label("Fullscreen:", skin);
     fullScreenCheck = new CheckBox("", skin);
     fullScreenCheck.setChecked(settings.fullscreen);
@@ -105,6 +109,10 @@ public class SettingsMenuDisplay extends UIComponent {
     table.add(fpsLabel).right().padRight(15f);
     table.add(fpsText).width(100).left();
 
+    table.row().padTop(10f);
+    table.add(physicsRateLabel).right().padRight(15f);
+    table.add(physicsRateText).width(100).left();
+
     table.row().padTop(10f);
     table.add(fullScreenLabel).right().padRight(15f);
     table.add(fullScreenCheck).left();
@@ -200,6 +208,10 @@ public class SettingsMenuDisplay extends UIComponent {
     if (fpsVal != null) {
       settings.fps = fpsVal;
     }
+    Integer physicsRateVal = parseOrNull(physicsRateText.getText());
+    if (physicsRateVal != null) {
+      settings.physicsRate = physicsRateVal;
+    }
     settings.fullscreen = fullScreenCheck.isChecked();
     settings.uiScale = uiScaleSlider.getValue();
     settings.displayMode = new DisplaySettings(displayModeSelect.getSelected().object);
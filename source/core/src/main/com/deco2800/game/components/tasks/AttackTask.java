@@ -1,5 +1,6 @@
 package com.deco2800.game.components.tasks;
 
+import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
@@ -59,7 +60,8 @@ public class AttackTask extends DefaultTask implements PriorityTask {
     }
 
     private float DistanceToTarget() {
-        return owner.getEntity().getPosition().dst(target.getPosition());
+        Entity self = owner.getEntity();
+        return Vector2.dst(self.getX(), self.getY(), target.getX(), target.getY());
     }
 
     private int Active() {
@@ -4,9 +4,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
-import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PerceptionService;
+import com.deco2800.game.physics.PerceptionService.Sight;
 import com.deco2800.game.physics.PhysicsLayer;
-import com.deco2800.game.physics.raycast.RaycastHit;
 import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.services.ServiceLocator;
 
@@ -16,9 +16,10 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   private final int priority;
   private final float viewDistance;
   private final float maxChaseDistance;
-  private final PhysicsEngine physics;
+  private final PerceptionService perception;
   private final DebugRenderer debugRenderer;
-  private final RaycastHit hit = new RaycastHit();
+  private final Vector2 targetPos = new Vector2();
+  private Sight sight;
   private MovementTask movementTask;
 
   /**
@@ -32,14 +33,14 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     this.priority = priority;
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
-    physics = ServiceLocator.getPhysicsService().getPhysics();
+    perception = ServiceLocator.getPhysicsService().getPerception();
     debugRenderer = ServiceLocator.getRenderService().getDebug();
   }
 
   @Override
   public void start() {
     super.start();
-    movementTask = new MovementTask(target.getPosition());
+    movementTask = new MovementTask(target.getPosition(targetPos));
     movementTask.create(owner);
     movementTask.start();
     
@@ -48,7 +49,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 
   @Override
   public void update() {
-    movementTask.setTarget(target.getPosition());
+    movementTask.setTarget(target.getPosition(targetPos));
     movementTask.update();
     if (movementTask.getStatus() != Status.ACTIVE) {
       movementTask.start();
@@ -71,7 +72,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   }
 
   private float getDistanceToTarget() {
-    return owner.getEntity().getPosition().dst(target.getPosition());
+    Entity self = owner.getEntity();
+    return Vector2.dst(self.getX(), self.getY(), target.getX(), target.getY());
   }
 
   private int getActivePriority() {
@@ -91,15 +93,14 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   }
 
   private boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
-
-    // If there is an obstacle in the path to the player, not visible.
-    if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
-      return false;
+    if (sight == null) {
+      // Tasks can be created before their owner is attached to an entity
+      sight = perception.track(owner.getEntity(), target, PhysicsLayer.OBSTACLE);
     }
-    debugRenderer.drawLine(from, to);
-    return true;
+
+    // If there is an obstacle in the path to the player, not visible. Cached for a few steps.
+    boolean visible = sight.isVisible();
+    debugRenderer.drawLine(sight.getFrom(), sight.getHitPoint());
+    return visible;
   }
 }
@@ -2,6 +2,7 @@ package com.deco2800.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
+import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
@@ -19,7 +20,7 @@ public class MovementTask extends DefaultTask {
   private Vector2 target;
   private float stopDistance = 0.01f;
   private long lastTimeMoved;
-  private Vector2 lastPos;
+  private final Vector2 lastPos = new Vector2();
   private PhysicsMovementComponent movementComponent;
 
   public MovementTask(Vector2 target) {
@@ -41,7 +42,7 @@ public class MovementTask extends DefaultTask {
     movementComponent.setMoving(true);
     logger.debug("Starting movement towards {}", target);
     lastTimeMoved = gameTime.getTime();
-    lastPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(lastPos);
   }
 
   @Override
@@ -74,13 +75,14 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean isAtTarget() {
-    return owner.getEntity().getPosition().dst(target) <= stopDistance;
+    Entity self = owner.getEntity();
+    return target.dst(self.getX(), self.getY()) <= stopDistance;
   }
 
   private void checkIfStuck() {
     if (didMove()) {
       lastTimeMoved = gameTime.getTime();
-      lastPos = owner.getEntity().getPosition();
+      owner.getEntity().getPosition(lastPos);
     } else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
       movementComponent.setMoving(false);
       status = Status.FAILED;
@@ -89,6 +91,7 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean didMove() {
-    return owner.getEntity().getPosition().dst2(lastPos) > 0.00001f;
+    Entity self = owner.getEntity();
+    return lastPos.dst2(self.getX(), self.getY()) > 0.00001f;
   }
 }
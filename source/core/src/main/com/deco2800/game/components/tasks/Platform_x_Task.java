@@ -1,6 +1,5 @@
 package com.deco2800.game.components.tasks;
 
-import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.physics.components.PhysicsComponent;
@@ -25,7 +24,7 @@ public class Platform_x_Task extends DefaultTask implements PriorityTask {
     @Override
     public void start() {
         super.start();
-        p_x = this.owner.getEntity().getPosition().x;
+        p_x = this.owner.getEntity().getX();
     }
 
     /**
@@ -33,16 +32,16 @@ public class Platform_x_Task extends DefaultTask implements PriorityTask {
      */
     @Override
     public void update() {
-        float position_x = this.owner.getEntity().getPosition().x;
+        float position_x = this.owner.getEntity().getX();
         if (isMove) {
             if(position_x <= p_x + x/2) {
-                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(new Vector2(1,0));
+                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(1, 0);
             } else {
                 isMove = false;
             }
         } else {
             if(position_x >= p_x - x/2) {
-                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(new Vector2(-1,0));
+                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(-1, 0);
             } else {
                 isMove = true;
             }
@@ -1,6 +1,5 @@
 package com.deco2800.game.components.tasks;
 
-import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.physics.components.PhysicsComponent;
@@ -26,7 +25,7 @@ public class Platform_y_Task extends DefaultTask implements PriorityTask {
     @Override
     public void start() {
         super.start();
-        p_y = this.owner.getEntity().getPosition().y;
+        p_y = this.owner.getEntity().getY();
     }
 
     /**
@@ -34,16 +33,16 @@ public class Platform_y_Task extends DefaultTask implements PriorityTask {
      */
     @Override
     public void update() {
-        float position_y = this.owner.getEntity().getPosition().y;
+        float position_y = this.owner.getEntity().getY();
         if (isMove) {
             if(position_y <= p_y + y/2) {
-                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(new Vector2(0,1));
+                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(0, 1);
             } else {
                 isMove = false;
             }
         } else {
             if(position_y >= p_y - y/2) {
-                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(new Vector2(0,-1));
+                this.owner.getEntity().getComponent(PhysicsComponent.class).getBody().setLinearVelocity(0, -1);
             } else {
                 isMove = true;
             }
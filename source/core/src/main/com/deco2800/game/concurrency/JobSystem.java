@@ -1,8 +1,10 @@
 package com.deco2800.game.concurrency;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -57,6 +59,53 @@ public class JobSystem {
     return CompletableFuture.supplyAsync(supplier, blockingExecutor);
   }
 
+  /**
+   * Run a loop body for every index from 0 to count, split into chunks which run in parallel. The
+   * calling thread runs the first chunk itself, then waits for the others, so all indices have been
+   * run when this returns. Use this to spread per-frame work across cores from the main loop.
+   *
+   * <p>The body is called from several threads at once, so it must only read shared state and only
+   * write to state belonging to its index.
+   *
+   * @param count number of indices
+   * @param chunkSize number of indices in each job. Too small and scheduling costs outweigh the
+   *     work.
+   * @param body method to run for each index
+   */
+  public static void parallelFor(int count, int chunkSize, IntConsumer body) {
+    if (count <= chunkSize) {
+      runRange(body, 0, count);
+      return;
+    }
+
+    int chunks = (count + chunkSize - 1) / chunkSize;
+    CompletableFuture<?>[] jobs = new CompletableFuture<?>[chunks - 1];
+    for (int chunk = 1; chunk < chunks; chunk++) {
+      int start = chunk * chunkSize;
+      int end = Math.min(count, start + chunkSize);
+      jobs[chunk - 1] = CompletableFuture.runAsync(() -> runRange(body, start, end), executor);
+    }
+
+    try {
+      runRange(body, 0, chunkSize);
+    } finally {
+      try {
+        CompletableFuture.allOf(jobs).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+  }
+
+  private static void runRange(IntConsumer body, int start, int end) {
+    for (int i = start; i < end; i++) {
+      body.accept(i);
+    }
+  }
+
   private JobSystem() {
     throw new IllegalStateException("Instantiating static util class");
   }
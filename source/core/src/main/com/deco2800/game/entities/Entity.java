@@ -6,6 +6,8 @@ import com.badlogic.gdx.utils.IntMap;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.components.ComponentType;
 import com.deco2800.game.events.EventHandler;
+import com.deco2800.game.events.EventKey;
+import com.deco2800.game.events.EventTracer;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,19 +25,24 @@ import org.slf4j.LoggerFactory;
  *   .addComponent(new PlayerControllerComponent());
  * ServiceLocator.getEntityService().register(player);
  * </pre>
+ *
+ * <p>Transform getters which return a {@link Vector2} copy the value, so they allocate. Code that
+ * runs every frame should use the primitive getters (e.g. {@link #getX()}) or the out-parameter
+ * overloads (e.g. {@link #getPosition(Vector2)}) instead.
  */
-public class Entity {
+public class Entity implements TransformView {
   private static final Logger logger = LoggerFactory.getLogger(Entity.class);
   private static int nextId = 0;
-  private static final String EVT_NAME_POS = "setPosition";
+  public static final EventKey EVT_POS = EventKey.of("setPosition");
 
   private final int id;
   private final IntMap<Component> components;
   private final EventHandler eventHandler;
   private boolean enabled = true;
   private boolean created = false;
-  private Vector2 position = Vector2.Zero.cpy();
-  private Vector2 scale = new Vector2(1, 1);
+  private final Vector2 position = Vector2.Zero.cpy();
+  private final Vector2 scale = new Vector2(1, 1);
+  private final TransformView transform = new ReadOnlyTransform();
   private Array<Component> createdComponents;
 
   public Entity() {
@@ -43,7 +50,7 @@ public class Entity {
     nextId++;
 
     components = new IntMap<>(4);
-    eventHandler = new EventHandler();
+    eventHandler = new EventHandler(id);
   }
 
   /**
@@ -53,10 +60,17 @@ public class Entity {
    * @param enabled true for enable, false for disable.
    */
   public void setEnabled(boolean enabled) {
-    logger.debug("Setting enabled={} on entity {}", enabled, this);
+    if (EventTracer.ENABLED) {
+      EventTracer.record(EventTracer.Category.ENTITY, enabled ? "enabled" : "disabled", id);
+    }
     this.enabled = enabled;
   }
 
+  /** @return true if the entity is enabled, false if disabled */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
   /**
    * Get the entity's game position.
    *
@@ -66,14 +80,45 @@ public class Entity {
     return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's game position into the given vector without allocating.
+   *
+   * @param out vector to store the position in
+   * @return out
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(position);
+  }
+
+  @Override
+  public float getX() {
+    return position.x;
+  }
+
+  @Override
+  public float getY() {
+    return position.y;
+  }
+
+  /**
+   * Get a read-only view of this entity's transform. The view reflects later changes to the
+   * entity, and reading from it does not allocate. The view is a separate object, so it can't be
+   * cast back to the entity to move it.
+   *
+   * @return transform view
+   */
+  public TransformView getTransform() {
+    return transform;
+  }
+
   /**
    * Set the entity's game position.
    *
    * @param position new position.
    */
   public void setPosition(Vector2 position) {
-    this.position = position.cpy();
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    this.position.set(position);
+    getEvents().trigger(EVT_POS, position.cpy());
   }
 
   /**
@@ -85,7 +130,7 @@ public class Entity {
   public void setPosition(float x, float y) {
     this.position.x = x;
     this.position.y = y;
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    getEvents().trigger(EVT_POS, position.cpy());
   }
 
   /**
@@ -95,9 +140,9 @@ public class Entity {
    * @param notify true to notify (default), false otherwise
    */
   public void setPosition(Vector2 position, boolean notify) {
-    this.position = position;
+    this.position.set(position);
     if (notify) {
-      getEvents().trigger(EVT_NAME_POS, position);
+      getEvents().trigger(EVT_POS, position);
     }
   }
 
@@ -110,13 +155,33 @@ public class Entity {
     return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's scale into the given vector without allocating.
+   *
+   * @param out vector to store the scale in
+   * @return out
+   */
+  public Vector2 getScale(Vector2 out) {
+    return out.set(scale);
+  }
+
+  @Override
+  public float getScaleX() {
+    return scale.x;
+  }
+
+  @Override
+  public float getScaleY() {
+    return scale.y;
+  }
+
   /**
    * Set the entity's scale.
    *
    * @param scale new scale in metres
    */
   public void setScale(Vector2 scale) {
-    this.scale = scale.cpy();
+    this.scale.set(scale);
   }
 
   /**
@@ -156,7 +221,27 @@ public class Entity {
    * @return center position
    */
   public Vector2 getCenterPosition() {
-    return getPosition().mulAdd(getScale(), 0.5f);
+    return getPosition().mulAdd(scale, 0.5f);
+  }
+
+  /**
+   * Copy the entity's center position into the given vector without allocating.
+   *
+   * @param out vector to store the center position in
+   * @return out
+   */
+  public Vector2 getCenterPosition(Vector2 out) {
+    return out.set(position).mulAdd(scale, 0.5f);
+  }
+
+  @Override
+  public float getCenterX() {
+    return position.x + scale.x * 0.5f;
+  }
+
+  @Override
+  public float getCenterY() {
+    return position.y + scale.y * 0.5f;
   }
 
   /**
@@ -226,8 +311,18 @@ public class Entity {
   }
 
   /**
-   * Perform an early update on all components. This is called by the entity service and should not
-   * be called manually.
+   * Get the components which were created with the entity.
+   *
+   * @return created components, or null if the entity hasn't been created
+   */
+  Array<Component> getCreatedComponents() {
+    return createdComponents;
+  }
+
+  /**
+   * Perform an early update on all components. The entity service updates components through its
+   * {@link com.deco2800.game.components.ComponentScheduler} instead, so this is only needed to
+   * update a single entity directly.
    */
   public void earlyUpdate() {
     if (!enabled) {
@@ -239,8 +334,9 @@ public class Entity {
   }
 
   /**
-   * Perform an update on all components. This is called by the entity service and should not be
-   * called manually.
+   * Perform an update on all components. The entity service updates components through its
+   * {@link com.deco2800.game.components.ComponentScheduler} instead, so this is only needed to
+   * update a single entity directly.
    */
   public void update() {
     if (!enabled) {
@@ -284,4 +380,37 @@ public class Entity {
   public String toString() {
     return String.format("Entity{id=%d}", id);
   }
+
+  /** Forwards reads to the entity, without exposing the entity itself. */
+  private class ReadOnlyTransform implements TransformView {
+    @Override
+    public float getX() {
+      return Entity.this.getX();
+    }
+
+    @Override
+    public float getY() {
+      return Entity.this.getY();
+    }
+
+    @Override
+    public float getScaleX() {
+      return Entity.this.getScaleX();
+    }
+
+    @Override
+    public float getScaleY() {
+      return Entity.this.getScaleY();
+    }
+
+    @Override
+    public float getCenterX() {
+      return Entity.this.getCenterX();
+    }
+
+    @Override
+    public float getCenterY() {
+      return Entity.this.getCenterY();
+    }
+  }
 }
@@ -1,6 +1,12 @@
 package com.deco2800.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.ai.tasks.AITaskBatchUpdater;
+import com.deco2800.game.ai.tasks.AITaskComponent;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.components.ComponentScheduler;
+import com.deco2800.game.events.EventHandler;
+import com.deco2800.game.events.EventKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,12 +16,25 @@ import org.slf4j.LoggerFactory;
  *
  * Avoid adding additional state here! Global access is often the easy but incorrect answer to
  * sharing data.
+ *
+ * <p>Entities are kept in an {@link EntityStore}, so registering and unregistering are constant
+ * time. Their components are updated by a {@link ComponentScheduler}, which only visits components
+ * that override earlyUpdate() or update(). See {@link ComponentScheduler} for the update order.
+ * AI task components are updated together by an {@link AITaskBatchUpdater}.
  */
 public class EntityService {
   private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
   private static final int INITIAL_CAPACITY = 16;
+  /** Triggered with the entity when an entity is unregistered. */
+  public static final EventKey EVT_UNREGISTER = EventKey.of("unregister");
+
+  private final EntityStore entities = new EntityStore(INITIAL_CAPACITY);
+  private final ComponentScheduler scheduler = new ComponentScheduler();
+  private final EventHandler eventHandler = new EventHandler();
 
-  private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+  public EntityService() {
+    scheduler.setBatchUpdater(AITaskComponent.class, new AITaskBatchUpdater());
+  }
 
   /**
    * Register a new entity with the entity service. The entity will be created and start updating.
@@ -23,8 +42,16 @@ public class EntityService {
    */
   public void register(Entity entity) {
     logger.debug("Registering {} in entity service", entity);
-    entities.add(entity);
+    boolean added = entities.add(entity);
     entity.create();
+    if (added) {
+      Array<Component> components = entity.getCreatedComponents();
+      if (components != null) {
+        for (Component component : components) {
+          scheduler.schedule(component);
+        }
+      }
+    }
   }
 
   /**
@@ -33,25 +60,60 @@ public class EntityService {
    */
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    if (entities.remove(entity)) {
+      Array<Component> components = entity.getCreatedComponents();
+      if (components != null) {
+        for (Component component : components) {
+          scheduler.unschedule(component);
+        }
+      }
+      eventHandler.trigger(EVT_UNREGISTER, entity);
+    }
+  }
+
+  /**
+   * Get the number of registered entities. If this keeps growing during a session, entities are
+   * being spawned without being disposed.
+   *
+   * @return number of registered entities
+   */
+  public int getEntityCount() {
+    return entities.size();
+  }
+
+  /** @return events triggered by the entity service */
+  public EventHandler getEvents() {
+    return eventHandler;
   }
 
   /**
-   * Update all registered entities. Should only be called from the main game loop.
+   * Update all registered entities, running earlyUpdate() on every component before update(). Should
+   * only be called from the main game loop.
    */
   public void update() {
-    for (Entity entity : entities) {
-      entity.earlyUpdate();
-      entity.update();
-    }
+    scheduler.earlyUpdate();
+    scheduler.update();
+  }
+
+  /** @return scheduler which updates the registered entities' components */
+  public ComponentScheduler getScheduler() {
+    return scheduler;
   }
 
   /**
    * Dispose all entities.
    */
   public void dispose() {
-    for (Entity entity : entities) {
-      entity.dispose();
+    entities.begin();
+    try {
+      for (int i = 0; i < entities.slots(); i++) {
+        Entity entity = entities.get(i);
+        if (entity != null) {
+          entity.dispose();
+        }
+      }
+    } finally {
+      entities.end();
     }
   }
 }
@@ -0,0 +1,178 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of entities with constant time add and remove. Each entity's slot is stored by its ID, and
+ * removing an entity moves the last entity into the removed slot.
+ *
+ * <p>Loops which may add or remove entities (for example by disposing them) should be wrapped in
+ * {@link #begin()} and {@link #end()}, and iterate over slots:
+ *
+ * <pre>
+ * store.begin();
+ * for (int i = 0; i &lt; store.slots(); i++) {
+ *   Entity entity = store.get(i);
+ *   if (entity != null) {
+ *     entity.update();
+ *   }
+ * }
+ * store.end();
+ * </pre>
+ *
+ * <p>Iteration order:
+ *
+ * <ul>
+ *   <li>Entities are visited in the order they were added, until an entity is removed. Removal
+ *       moves the most recently added entity into the removed slot, so the order of the remaining
+ *       entities is not kept.
+ *   <li>Entities added between begin() and end() are visited later in the same loop.
+ *   <li>Entities removed between begin() and end() leave an empty (null) slot, so they are not
+ *       visited again. The slots are filled when the outermost end() is called.
+ * </ul>
+ */
+public class EntityStore implements Iterable<Entity> {
+  private static final int NO_SLOT = -1;
+
+  private final Array<Entity> entities;
+  private final IntIntMap slotsById;
+  private final IntArray emptySlots = new IntArray();
+  private int iterating = 0;
+
+  public EntityStore(int initialCapacity) {
+    entities = new Array<>(false, initialCapacity);
+    slotsById = new IntIntMap(initialCapacity);
+  }
+
+  /**
+   * Add an entity to the end of the store.
+   *
+   * @param entity entity to add
+   * @return false if the entity was already in the store
+   */
+  public boolean add(Entity entity) {
+    if (slotsById.containsKey(entity.getId())) {
+      return false;
+    }
+    slotsById.put(entity.getId(), entities.size);
+    entities.add(entity);
+    return true;
+  }
+
+  /**
+   * Remove an entity. While iterating, its slot is emptied and only filled once iteration ends.
+   *
+   * @param entity entity to remove
+   * @return false if the entity was not in the store
+   */
+  public boolean remove(Entity entity) {
+    int slot = slotsById.remove(entity.getId(), NO_SLOT);
+    if (slot == NO_SLOT) {
+      return false;
+    }
+
+    if (iterating > 0) {
+      entities.set(slot, null);
+      emptySlots.add(slot);
+    } else {
+      removeSlot(slot);
+    }
+    return true;
+  }
+
+  /**
+   * @param entity entity to check for
+   * @return true if the entity is in the store and hasn't been removed
+   */
+  public boolean contains(Entity entity) {
+    return slotsById.containsKey(entity.getId());
+  }
+
+  /** @return number of entities in the store, not counting removed entities in empty slots */
+  public int size() {
+    return slotsById.size;
+  }
+
+  /** @return number of slots, including slots emptied while iterating */
+  public int slots() {
+    return entities.size;
+  }
+
+  /**
+   * @param slot slot index, less than {@link #slots()}
+   * @return entity in the slot, or null if it was removed while iterating
+   */
+  public Entity get(int slot) {
+    return entities.get(slot);
+  }
+
+  /** Start a loop over the store. Removals are deferred until the matching {@link #end()}. */
+  public void begin() {
+    iterating++;
+  }
+
+  /** End a loop over the store. Ending the outermost loop fills any emptied slots. */
+  public void end() {
+    if (iterating == 0) {
+      throw new IllegalStateException("end() called without begin()");
+    }
+    iterating--;
+    if (iterating == 0 && emptySlots.size > 0) {
+      // Fill the highest slots first, so the entity moved into each slot is never an empty one
+      emptySlots.sort();
+      for (int i = emptySlots.size - 1; i >= 0; i--) {
+        removeSlot(emptySlots.get(i));
+      }
+      emptySlots.clear();
+    }
+  }
+
+  /** Remove all entities. Should not be called while iterating. */
+  public void clear() {
+    entities.clear();
+    slotsById.clear();
+    emptySlots.clear();
+  }
+
+  /**
+   * Iterate over the entities in the store, skipping empty slots. This allocates an iterator, so
+   * prefer looping over slots in code which runs every frame.
+   */
+  @Override
+  public Iterator<Entity> iterator() {
+    return new EntityIterator();
+  }
+
+  private void removeSlot(int slot) {
+    // Unordered removal moves the last entity into the slot
+    entities.removeIndex(slot);
+    if (slot < entities.size) {
+      Entity moved = entities.get(slot);
+      slotsById.put(moved.getId(), slot);
+    }
+  }
+
+  private class EntityIterator implements Iterator<Entity> {
+    private int next = 0;
+
+    @Override
+    public boolean hasNext() {
+      while (next < entities.size && entities.get(next) == null) {
+        next++;
+      }
+      return next < entities.size;
+    }
+
+    @Override
+    public Entity next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return entities.get(next++);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.deco2800.game.entities;
+
+/**
+ * Read-only view of an entity's position and scale. Reading from the view never allocates, so it
+ * is safe to use in code which runs every frame, such as rendering, physics and AI.
+ */
+public interface TransformView {
+  /** @return x position of the bottom left corner */
+  float getX();
+
+  /** @return y position of the bottom left corner */
+  float getY();
+
+  /** @return width in metres */
+  float getScaleX();
+
+  /** @return height in metres */
+  float getScaleY();
+
+  /** @return x position of the center */
+  float getCenterX();
+
+  /** @return y position of the center */
+  float getCenterY();
+}
@@ -8,6 +8,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.deco2800.game.ai.tasks.AITaskComponent;
 import com.deco2800.game.areas.GameArea;
 import com.deco2800.game.components.BulletHitPlayer;
+import com.deco2800.game.components.ProjectileLifetimeComponent;
 import com.deco2800.game.components.TouchAttackComponent;
 import com.deco2800.game.components.enemy.AlienBossAttackListener;
 import com.deco2800.game.components.enemy.AlienBarbetteAttackListener;
@@ -19,6 +20,7 @@ import com.deco2800.game.components.tasks.*;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.entities.configs.*;
+import com.deco2800.game.entities.factories.ProjectilePool.ProjectileType;
 import com.deco2800.game.files.FileLoader;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.PhysicsUtils;
@@ -104,7 +106,8 @@ public class EnemyFactory {
                         //.addComponent(new PhysicsMovementComponent())
                         .addComponent(new PhysicsMovementComponent(new Vector2(5f, 5f)))
                         .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
+                        .addComponent(new BulletHitPlayer(target, gameArea))
+                        .addComponent(new ProjectileLifetimeComponent());
 
         alienMonsterWeapon.getComponent(TextureRenderComponent.class).scaleEntity();
         alienMonsterWeapon.scaleHeight(0.5f);
@@ -167,115 +170,13 @@ public class EnemyFactory {
      * @param gameArea the game area
      */
     public static void createAlienSoldierWeapon(Entity from, Entity target, GameArea gameArea) {
-        float x1 = from.getPosition().x;
-        float y1 = from.getPosition().y;
-
-        Vector2 target1 = new Vector2(x1 + 1, 0);
-        Vector2 target2 = new Vector2(x1 - 10, 0);
-        Vector2 target3 = new Vector2(x1 + 10, 0);
-        Vector2 target4 = new Vector2(x1 - 30, 0);
-        Vector2 target5 = new Vector2(x1 + 30, 0);
-
-        Entity alienSoldierWeapon1 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_solider_weapon_02.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(5f, 5f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        Entity alienSoldierWeapon2 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_solider_weapon_02.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(5f, 5f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        Entity alienSoldierWeapon3 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_solider_weapon_02.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(5f, 5f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        Entity alienSoldierWeapon4 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_solider_weapon_02.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(5f, 5f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        Entity alienSoldierWeapon5 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_solider_weapon_02.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(5f, 5f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        alienSoldierWeapon1.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienSoldierWeapon1.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienSoldierWeapon1, 0.3f, 0.3f);
-
-        alienSoldierWeapon2.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienSoldierWeapon2.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienSoldierWeapon2, 0.3f, 0.3f);
-
-        alienSoldierWeapon3.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienSoldierWeapon3.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienSoldierWeapon3, 0.3f, 0.3f);
-
-        alienSoldierWeapon4.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienSoldierWeapon4.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienSoldierWeapon4, 0.3f, 0.3f);
-
-        alienSoldierWeapon5.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienSoldierWeapon5.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienSoldierWeapon5, 0.3f, 0.3f);
-
-        alienSoldierWeapon1.setPosition(x1 - alienSoldierWeapon1.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienSoldierWeapon1.getScale().y / 2 + from.getScale().y / 2);
-
-        alienSoldierWeapon2.setPosition(x1 - alienSoldierWeapon2.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienSoldierWeapon2.getScale().y / 2 + from.getScale().y / 2);
-
-        alienSoldierWeapon3.setPosition(x1 - alienSoldierWeapon3.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienSoldierWeapon3.getScale().y / 2 + from.getScale().y / 2);
-
-        alienSoldierWeapon4.setPosition(x1 - alienSoldierWeapon4.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienSoldierWeapon4.getScale().y / 2 + from.getScale().y / 2);
-
-        alienSoldierWeapon5.setPosition(x1 - alienSoldierWeapon5.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienSoldierWeapon5.getScale().y / 2 + from.getScale().y / 2);
-
-        alienSoldierWeapon1.getComponent(PhysicsMovementComponent.class).setTarget(target1);
-        alienSoldierWeapon1.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienSoldierWeapon1.getComponent(ColliderComponent.class).setSensor(true);
+        float x1 = from.getX();
 
-        alienSoldierWeapon2.getComponent(PhysicsMovementComponent.class).setTarget(target2);
-        alienSoldierWeapon2.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienSoldierWeapon2.getComponent(ColliderComponent.class).setSensor(true);
-
-        alienSoldierWeapon3.getComponent(PhysicsMovementComponent.class).setTarget(target3);
-        alienSoldierWeapon3.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienSoldierWeapon3.getComponent(ColliderComponent.class).setSensor(true);
-
-        alienSoldierWeapon4.getComponent(PhysicsMovementComponent.class).setTarget(target4);
-        alienSoldierWeapon4.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienSoldierWeapon4.getComponent(ColliderComponent.class).setSensor(true);
-
-        alienSoldierWeapon5.getComponent(PhysicsMovementComponent.class).setTarget(target5);
-        alienSoldierWeapon5.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienSoldierWeapon5.getComponent(ColliderComponent.class).setSensor(true);
-
-        gameArea.spawnEntity(alienSoldierWeapon1);
-        gameArea.spawnEntity(alienSoldierWeapon2);
-        gameArea.spawnEntity(alienSoldierWeapon3);
-        gameArea.spawnEntity(alienSoldierWeapon4);
-        gameArea.spawnEntity(alienSoldierWeapon5);
+        fireProjectile(ProjectileType.ALIEN_SOLDIER, from, target, gameArea, new Vector2(x1 + 1, 0));
+        fireProjectile(ProjectileType.ALIEN_SOLDIER, from, target, gameArea, new Vector2(x1 - 10, 0));
+        fireProjectile(ProjectileType.ALIEN_SOLDIER, from, target, gameArea, new Vector2(x1 + 10, 0));
+        fireProjectile(ProjectileType.ALIEN_SOLDIER, from, target, gameArea, new Vector2(x1 - 30, 0));
+        fireProjectile(ProjectileType.ALIEN_SOLDIER, from, target, gameArea, new Vector2(x1 + 30, 0));
     }
 
     /**
@@ -325,94 +226,23 @@ public class EnemyFactory {
      * @param gameArea the game area
      */
     public static void createAlienBossWeapon(Entity from, Entity target, GameArea gameArea) {
-        float x1 = from.getPosition().x;
-        float y1 = from.getPosition().y;
-        float x2 = target.getPosition().x;
-        float y2 = target.getPosition().y;
+        float x1 = from.getX();
+        float y1 = from.getY();
+        float x2 = target.getX();
+        float y2 = target.getY();
 
+        // Fire one bullet straight at the target, and one 45 degrees either side of it
         Vector2 straightTarget = new Vector2(x2 - x1, y2 - y1);
+        Vector2 upRotate = straightTarget.cpy().rotateRad(MathUtils.PI / 4);
+        Vector2 downRotate = straightTarget.cpy().rotateRad(-MathUtils.PI / 4);
 
-        double upX = (Math.cos((Math.PI) / 4) * straightTarget.x) - (Math.sin((Math.PI) / 4) * straightTarget.y);
-        double upY = (Math.sin((Math.PI) / 4) * straightTarget.x) + (Math.cos((Math.PI) / 4) * straightTarget.y);
-        Vector2 upRotate = new Vector2((float) upX, (float) upY);
-
-        double downX = (Math.cos(-(Math.PI) / 4) * straightTarget.x) - (Math.sin(-(Math.PI) / 4) * straightTarget.y);
-        double downY = (Math.sin(-(Math.PI) / 4) * straightTarget.x) + (Math.cos(-(Math.PI) / 4) * straightTarget.y);
-        Vector2 downRotate = new Vector2((float) downX, (float) downY);
-
-        straightTarget = straightTarget.scl(100);
-        straightTarget = straightTarget.add(from.getPosition());
-
-        downRotate = downRotate.scl(100);
-        downRotate = downRotate.add(from.getPosition());
-
-        upRotate = upRotate.scl(100);
-        upRotate = upRotate.add(from.getPosition());
-
-        float rotation = (MathUtils.radiansToDegrees * MathUtils.atan2(straightTarget.y - y1, straightTarget.x - x1));
-        float rotationUp = (MathUtils.radiansToDegrees * MathUtils.atan2(upRotate.y - y1, upRotate.x - x1));
-        float rotationDown = (MathUtils.radiansToDegrees * MathUtils.atan2(downRotate.y - y1, downRotate.x - x1));
+        straightTarget.scl(100).add(x1, y1);
+        upRotate.scl(100).add(x1, y1);
+        downRotate.scl(100).add(x1, y1);
 
-        Entity alienBossWeapon1 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_boss_weapon_01.png", rotation))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(4f,4f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        Entity alienBossWeapon2 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_boss_weapon_01.png", rotationUp))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(4f, 4f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        Entity alienBossWeapon3 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_boss_weapon_01.png", rotationDown))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(4f, 4f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        alienBossWeapon1.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienBossWeapon1.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienBossWeapon1, 0.3f, 0.3f);
-
-        alienBossWeapon2.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienBossWeapon2.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienBossWeapon2, 0.3f, 0.3f);
-
-        alienBossWeapon3.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienBossWeapon3.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienBossWeapon3, 0.3f, 0.3f);
-
-        alienBossWeapon1.setPosition(x1 - alienBossWeapon1.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienBossWeapon1.getScale().y / 2 + from.getScale().y / 2);
-
-        alienBossWeapon2.setPosition(x1 - alienBossWeapon2.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienBossWeapon2.getScale().y / 2 + from.getScale().y / 2);
-
-        alienBossWeapon3.setPosition(x1 - alienBossWeapon3.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienBossWeapon3.getScale().y / 2 + from.getScale().y / 2);
-
-        alienBossWeapon1.getComponent(PhysicsMovementComponent.class).setTarget(straightTarget);
-        alienBossWeapon1.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienBossWeapon1.getComponent(ColliderComponent.class).setSensor(true);
-
-        alienBossWeapon2.getComponent(PhysicsMovementComponent.class).setTarget(upRotate);
-        alienBossWeapon2.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienBossWeapon2.getComponent(ColliderComponent.class).setSensor(true);
-
-        alienBossWeapon3.getComponent(PhysicsMovementComponent.class).setTarget(downRotate);
-        alienBossWeapon3.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienBossWeapon3.getComponent(ColliderComponent.class).setSensor(true);
-
-        gameArea.spawnEntity(alienBossWeapon1);
-        gameArea.spawnEntity(alienBossWeapon2);
-        gameArea.spawnEntity(alienBossWeapon3);
+        fireProjectile(ProjectileType.ALIEN_BOSS, from, target, gameArea, straightTarget);
+        fireProjectile(ProjectileType.ALIEN_BOSS, from, target, gameArea, upRotate);
+        fireProjectile(ProjectileType.ALIEN_BOSS, from, target, gameArea, downRotate);
     }
 
     /**
@@ -464,32 +294,7 @@ public class EnemyFactory {
      * @param gameArea the current game area
      */
     public static void createAlienBarbetteWeapon(Entity from, Entity target, GameArea gameArea) {
-        float x1 = from.getPosition().x;
-        float y1 = from.getPosition().y;
-
-        Vector2 target1 = new Vector2(0, 8);
-
-        Entity alienBarbetteWeapon1 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_wasp_weapon.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(10f, 10f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-        alienBarbetteWeapon1.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienBarbetteWeapon1.scaleHeight(0.3f);
-        PhysicsUtils.setScaledCollider(alienBarbetteWeapon1, 0.3f, 0.3f);
-
-        alienBarbetteWeapon1.setPosition(x1 - alienBarbetteWeapon1.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienBarbetteWeapon1.getScale().y / 2 + from.getScale().y / 2);
-
-
-        alienBarbetteWeapon1.getComponent(PhysicsMovementComponent.class).setTarget(target1);
-        alienBarbetteWeapon1.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienBarbetteWeapon1.getComponent(ColliderComponent.class).setSensor(true);
-
-        gameArea.spawnEntity(alienBarbetteWeapon1);
+        fireProjectile(ProjectileType.ALIEN_BARBETTE, from, target, gameArea, new Vector2(0, 8));
     }
 
     /**
@@ -538,47 +343,32 @@ public class EnemyFactory {
      * @param gameArea the current game area
      */
     public static void createAlienLaserHoleWeapon(Entity from, Entity target, GameArea gameArea) {
-        float x1 = from.getPosition().x;
-        float y1 = from.getPosition().y;
-
-        Vector2 target1 = new Vector2(93, -20);
-
-//        AITaskComponent aiComponent =
-//                new AITaskComponent()
-//                        .addTask(new WanderTask(new Vector2(0f, 0f), 0f));
-//
-//        AnimationRenderComponent animator =
-//                new AnimationRenderComponent(
-//                        ServiceLocator.getResourceService()
-//                                .getAsset("images/alienSquidLaser.atlas", TextureAtlas.class));
-//        animator.addAnimation("float", 0.2f, Animation.PlayMode.LOOP);
-
-        Entity alienBarbetteWeapon1 =
-                new Entity()
-                        .addComponent(new TextureRenderComponent("images/alien_squid_weapon.png"))
-                        .addComponent(new PhysicsComponent())
-                        .addComponent(new PhysicsMovementComponent(new Vector2(2f, 2f)))
-                        .addComponent(new ColliderComponent())
-                        .addComponent(new BulletHitPlayer(target, gameArea));
-
-//        alienBarbetteWeapon1.addComponent(animator)
-//                .addComponent(new ObstacleAnimationController());
-
-        alienBarbetteWeapon1.getComponent(TextureRenderComponent.class).scaleEntity();
-        alienBarbetteWeapon1.scaleHeight(5f);
-        PhysicsUtils.setScaledCollider(alienBarbetteWeapon1, 0.3f, 5f);
+        Entity laser =
+                fireProjectile(ProjectileType.ALIEN_LASER_HOLE, from, target, gameArea, new Vector2(93, -20));
 
-        alienBarbetteWeapon1.setPosition(x1 - alienBarbetteWeapon1.getScale().x / 2 + from.getScale().x / 2,
-                y1 - alienBarbetteWeapon1.getScale().y / 2 - from.getScale().y);
-
-        alienBarbetteWeapon1.getComponent(PhysicsMovementComponent.class).setTarget(target1);
-        alienBarbetteWeapon1.getComponent(PhysicsMovementComponent.class).setMoving(true);
-        alienBarbetteWeapon1.getComponent(ColliderComponent.class).setSensor(true);
-
-        gameArea.spawnEntity(alienBarbetteWeapon1);
+        // The laser starts below the laser hole rather than from its centre
+        laser.setPosition(laser.getX(), from.getY() - laser.getScaleY() / 2 - from.getScaleY());
     }
 
+    /**
+     * Fires a pooled projectile from the centre of an entity towards a point.
+     * @param type the type of projectile
+     * @param from the entity firing the projectile
+     * @param target the player character that the projectile can hit
+     * @param gameArea the current game area
+     * @param moveTo the point the projectile moves towards
+     * @return the fired projectile
+     */
+    private static Entity fireProjectile(
+            ProjectileType type, Entity from, Entity target, GameArea gameArea, Vector2 moveTo) {
+        Entity projectile = gameArea.getProjectilePool().obtain(type, target);
+        projectile.setPosition(
+                from.getX() - projectile.getScaleX() / 2 + from.getScaleX() / 2,
+                from.getY() - projectile.getScaleY() / 2 + from.getScaleY() / 2);
+
+        PhysicsMovementComponent movement = projectile.getComponent(PhysicsMovementComponent.class);
+        movement.setTarget(moveTo);
+        movement.setMoving(true);
+        return projectile;
+    }
 }
-
-
-
@@ -2,12 +2,16 @@ package com.deco2800.game.entities.factories;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.ai.tasks.AITaskComponent;
 import com.deco2800.game.areas.ForestGameArea;
 import com.deco2800.game.areas.LevelTwoArea;
 import com.deco2800.game.areas.LevelThreeArea;
+import com.deco2800.game.areas.terrain.TerrainColliderComponent;
+import com.deco2800.game.areas.terrain.TerrainCollisionBaker;
 import com.deco2800.game.components.CheckPointComponent;
 import com.deco2800.game.components.TouchAttackComponent;
 import com.deco2800.game.components.obstacle.ObstacleAnimationController;
@@ -560,6 +564,18 @@ public class ObstacleFactory {
     return wall;
   }
 
+  /**
+   * Creates the invisible collision geometry for a level's floors, as one static body.
+   * @param boxes Terrain boxes in tile units, see {@link TerrainCollisionBaker}
+   * @param tileSize Size of a tile in world units
+   * @return Terrain collider entity, to be spawned at the world origin
+   */
+  public static Entity createTerrainCollider(Array<Rectangle> boxes, float tileSize) {
+    return new Entity()
+        .addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
+        .addComponent(new TerrainColliderComponent(boxes, tileSize));
+  }
+
   public static Entity createDeathFloor(float width, float height) {
     DeathFloorConfig deathFloor = configs.deathFloor;
 
@@ -0,0 +1,224 @@
+package com.deco2800.game.entities.factories;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.deco2800.game.areas.GameArea;
+import com.deco2800.game.components.BulletHitPlayer;
+import com.deco2800.game.components.ProjectileLifetimeComponent;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsUtils;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.rendering.TextureRenderComponent;
+import com.deco2800.game.services.ServiceLocator;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recycles enemy projectile entities, so that firing doesn't create a new entity and physics body
+ * for every bullet. Each game area has its own pool, see {@link GameArea#getProjectilePool()}.
+ *
+ * <p>A released projectile is disabled and hidden straight away. Its body is deactivated after the
+ * current physics step (bodies can't be changed from inside a collision event), and only then can
+ * it be obtained again. Projectiles which miss are released by their {@link
+ * ProjectileLifetimeComponent}. Projectiles are spawned into the game area when first created, and
+ * are disposed with the rest of the area.
+ */
+public class ProjectilePool {
+  private static final Logger logger = LoggerFactory.getLogger(ProjectilePool.class);
+
+  private final GameArea gameArea;
+  private final PhysicsEngine physics;
+  private final Map<ProjectileType, Array<Entity>> free = new EnumMap<>(ProjectileType.class);
+  private final IntMap<ProjectileType> types = new IntMap<>();
+  private final Array<Entity> pending = new Array<>(false, 8);
+  private final Runnable deactivatePending = this::deactivatePending;
+
+  private int createdCount = 0;
+  private int reusedCount = 0;
+  private int releasedCount = 0;
+
+  /**
+   * Create a projectile pool using the global physics engine.
+   *
+   * @param gameArea area to spawn new projectiles in
+   */
+  public ProjectilePool(GameArea gameArea) {
+    this(gameArea, ServiceLocator.getPhysicsService().getPhysics());
+  }
+
+  /**
+   * Create a projectile pool
+   *
+   * @param gameArea area to spawn new projectiles in
+   * @param physics physics engine the projectiles' bodies belong to
+   */
+  public ProjectilePool(GameArea gameArea, PhysicsEngine physics) {
+    this.gameArea = gameArea;
+    this.physics = physics;
+    for (ProjectileType type : ProjectileType.values()) {
+      free.put(type, new Array<>(false, 8));
+    }
+  }
+
+  /**
+   * Get a projectile, reusing a released one if available. The projectile is already spawned and
+   * has no velocity, the caller should set its position and movement target.
+   *
+   * @param type type of projectile
+   * @param target the entity the projectile damages when it hits
+   * @return active projectile entity
+   */
+  public Entity obtain(ProjectileType type, Entity target) {
+    Array<Entity> typeFree = free.get(type);
+    Entity projectile;
+    if (typeFree.size > 0) {
+      projectile = typeFree.pop();
+      reusedCount++;
+      activate(projectile);
+      projectile.getComponent(ProjectileLifetimeComponent.class).reset();
+    } else {
+      projectile = create(type);
+      createdCount++;
+      types.put(projectile.getId(), type);
+      gameArea.spawnEntity(projectile);
+    }
+    projectile.getComponent(BulletHitPlayer.class).setTarget(target);
+    return projectile;
+  }
+
+  /**
+   * Return a projectile to the pool. Safe to call from collision events. Releasing a projectile
+   * which was already released does nothing.
+   *
+   * @param projectile projectile obtained from this pool
+   */
+  public void release(Entity projectile) {
+    if (!projectile.isEnabled() || !types.containsKey(projectile.getId())) {
+      return;
+    }
+    releasedCount++;
+    projectile.setEnabled(false);
+    projectile.getComponent(TextureRenderComponent.class).setVisible(false);
+
+    if (pending.isEmpty()) {
+      physics.runAfterStep(deactivatePending);
+    }
+    pending.add(projectile);
+  }
+
+  /** @return number of projectile entities created by the pool */
+  public int getCreatedCount() {
+    return createdCount;
+  }
+
+  /** @return number of times a released projectile was reused */
+  public int getReusedCount() {
+    return reusedCount;
+  }
+
+  /** @return number of times a projectile was released */
+  public int getReleasedCount() {
+    return releasedCount;
+  }
+
+  /** @return number of projectiles currently in use */
+  public int getActiveCount() {
+    return createdCount + reusedCount - releasedCount;
+  }
+
+  /** @return number of projectiles ready to be reused */
+  public int getFreeCount() {
+    int count = 0;
+    for (Array<Entity> typeFree : free.values()) {
+      count += typeFree.size;
+    }
+    return count;
+  }
+
+  /**
+   * Forget all pooled projectiles. The projectile entities themselves are disposed by the game
+   * area.
+   */
+  public void clear() {
+    logger.debug(
+        "Clearing projectile pool: created={}, reused={}, released={}",
+        createdCount,
+        reusedCount,
+        releasedCount);
+    for (Array<Entity> typeFree : free.values()) {
+      typeFree.clear();
+    }
+    types.clear();
+    pending.clear();
+  }
+
+  private void activate(Entity projectile) {
+    PhysicsComponent physicsComponent = projectile.getComponent(PhysicsComponent.class);
+    physicsComponent.setEnabled(true);
+    physicsComponent.getBody().setLinearVelocity(0f, 0f);
+    projectile.getComponent(TextureRenderComponent.class).setVisible(true);
+    projectile.setEnabled(true);
+  }
+
+  private void deactivatePending() {
+    for (Entity projectile : pending) {
+      PhysicsComponent physicsComponent = projectile.getComponent(PhysicsComponent.class);
+      Body body = physicsComponent.getBody();
+      body.setLinearVelocity(0f, 0f);
+      physicsComponent.setEnabled(false);
+
+      ProjectileType type = types.get(projectile.getId());
+      if (type != null) {
+        free.get(type).add(projectile);
+      }
+    }
+    pending.clear();
+  }
+
+  private Entity create(ProjectileType type) {
+    Entity projectile =
+        new Entity()
+            .addComponent(new TextureRenderComponent(type.texturePath))
+            .addComponent(new PhysicsComponent(physics))
+            .addComponent(new PhysicsMovementComponent(type.speed.cpy()))
+            .addComponent(new ColliderComponent())
+            .addComponent(new BulletHitPlayer(null, gameArea, this))
+            .addComponent(new ProjectileLifetimeComponent(this));
+
+    projectile.getComponent(TextureRenderComponent.class).scaleEntity();
+    projectile.scaleHeight(type.height);
+    PhysicsUtils.setScaledCollider(projectile, type.colliderScaleX, type.colliderScaleY);
+    projectile.getComponent(ColliderComponent.class).setSensor(true);
+    return projectile;
+  }
+
+  /** Kinds of enemy projectile, each of which is pooled separately. */
+  public enum ProjectileType {
+    ALIEN_SOLDIER("images/alien_solider_weapon_02.png", 5f, 0.3f, 0.3f, 0.3f),
+    ALIEN_BOSS("images/alien_boss_weapon_01.png", 4f, 0.3f, 0.3f, 0.3f),
+    ALIEN_BARBETTE("images/alien_wasp_weapon.png", 10f, 0.3f, 0.3f, 0.3f),
+    ALIEN_LASER_HOLE("images/alien_squid_weapon.png", 2f, 5f, 0.3f, 5f);
+
+    private final String texturePath;
+    private final Vector2 speed;
+    private final float height;
+    private final float colliderScaleX;
+    private final float colliderScaleY;
+
+    ProjectileType(
+        String texturePath, float speed, float height, float colliderScaleX, float colliderScaleY) {
+      this.texturePath = texturePath;
+      this.speed = new Vector2(speed, speed);
+      this.height = height;
+      this.colliderScaleX = colliderScaleX;
+      this.colliderScaleY = colliderScaleY;
+    }
+  }
+}
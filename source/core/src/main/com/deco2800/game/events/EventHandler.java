@@ -5,10 +5,6 @@ import com.deco2800.game.events.listeners.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
-
 /**
  * Send and receive events between objects. EventHandler provides an implementation of the Observer
  * pattern, also known as an event system or publish/subscribe. When an event is triggered with
@@ -19,14 +15,33 @@ import java.util.function.Consumer;
  *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
+ *
+ * <p>Events are identified by an {@link EventKey}. Listeners are stored in a table indexed by the
+ * key's ID, so triggering with a key is an array lookup. The String overloads intern the name into
+ * a key first, so prefer keeping a static key for events which fire often.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-  Map<String, Array<EventListener>> listeners;
+  @SuppressWarnings("unchecked")
+  private static final Array<EventListener>[] NO_LISTENERS = new Array[0];
+
+  /** Listeners for each event, indexed by {@link EventKey#getId()}. */
+  Array<EventListener>[] listeners;
+  private final int ownerId;
 
   public EventHandler() {
+    this(EventTracer.NO_ENTITY);
+  }
+
+  /**
+   * Create an event handler belonging to an entity
+   *
+   * @param ownerId ID of the entity, shown in event traces
+   */
+  public EventHandler(int ownerId) {
+    this.ownerId = ownerId;
     // Assume no events by default, which will be the case for most entities
-    listeners = new HashMap<>(0);
+    listeners = NO_LISTENERS;
   }
 
   /**
@@ -36,7 +51,17 @@ public class EventHandler {
    * @param listener function to call when event fires
    */
   public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   */
+  public void addListener(EventKey event, EventListener0 listener) {
+    registerListener(event, listener);
   }
 
   /**
@@ -47,7 +72,18 @@ public class EventHandler {
    * @param <T> argument type
    */
   public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   */
+  public <T> void addListener(EventKey event, EventListener1<T> listener) {
+    registerListener(event, listener);
   }
 
   /**
@@ -59,7 +95,19 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    */
   public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with two arguments
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  public <T0, T1> void addListener(EventKey event, EventListener2<T0, T1> listener) {
+    registerListener(event, listener);
   }
 
   /**
@@ -72,7 +120,20 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with three arguments
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void addListener(EventKey event, EventListener3<T0, T1, T2> listener) {
+    registerListener(event, listener);
   }
 
   /**
@@ -81,8 +142,23 @@ public class EventHandler {
    * @param eventName name of the event
    */
   public void trigger(String eventName) {
-    logTrigger(eventName);
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    trigger(EventKey.of(eventName));
+  }
+
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param event key of the event
+   */
+  public void trigger(EventKey event) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = getListeners(event);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener0) eventListeners.get(i)).handle();
+    }
   }
 
   /**
@@ -92,32 +168,65 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    trigger(EventKey.of(eventName), arg0);
   }
 
   /**
    * Trigger an event with one argument
    *
+   * @param event key of the event
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void trigger(EventKey event, T arg0) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = getListeners(event);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+    }
+  }
+
+  /**
+   * Trigger an event with two arguments
+   *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
    * @param arg1 arg 1 to pass to event
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    trigger(EventKey.of(eventName), arg0, arg1);
   }
 
   /**
-   * Trigger an event with one argument
+   * Trigger an event with two arguments
+   *
+   * @param event key of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1> void trigger(EventKey event, T0 arg0, T1 arg1) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = getListeners(event);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+    }
+  }
+
+  /**
+   * Trigger an event with three arguments
    *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
@@ -127,33 +236,78 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+    trigger(EventKey.of(eventName), arg0, arg1, arg2);
   }
 
-  private void registerListener(String eventName, EventListener listener) {
-    logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param event key of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param arg2 arg 2 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1, T2> void trigger(EventKey event, T0 arg0, T1 arg1, T2 arg2) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = getListeners(event);
     if (eventListeners == null) {
-      eventListeners = new Array<>(1);
-      listeners.put(eventName, eventListeners);
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
     }
-    eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
+  private void registerListener(EventKey event, EventListener listener) {
+    logger.debug("Adding listener {} to event {}", listener, event);
+    int id = event.getId();
+    if (id >= listeners.length) {
+      @SuppressWarnings("unchecked")
+      Array<EventListener>[] grown = new Array[id + 1];
+      System.arraycopy(listeners, 0, grown, 0, listeners.length);
+      listeners = grown;
     }
+    if (listeners[id] == null) {
+      listeners[id] = new Array<>(1);
+    }
+    listeners[id].add(listener);
   }
 
-  private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
+  /**
+   * Remove a listener from an event. Listeners are compared by identity, so pass the same instance
+   * which was added. Should not be called while the event is being triggered.
+   *
+   * @param event key of the event
+   * @param listener listener to remove
+   * @return true if the listener was removed
+   */
+  public boolean removeListener(EventKey event, EventListener listener) {
+    Array<EventListener> eventListeners = getListeners(event);
+    return eventListeners != null && eventListeners.removeValue(listener, true);
+  }
+
+  /**
+   * @param event key of the event
+   * @return true if any listeners have been added for the event
+   */
+  public boolean hasListeners(EventKey event) {
+    Array<EventListener> eventListeners = getListeners(event);
+    return eventListeners != null && eventListeners.size > 0;
+  }
+
+  private Array<EventListener> getListeners(EventKey event) {
+    int id = event.getId();
+    return id < listeners.length ? listeners[id] : null;
+  }
+
+  private void logTrigger(EventKey event) {
+    if (EventTracer.ENABLED) {
+      EventTracer.record(EventTracer.Category.EVENT, event.getName(), ownerId);
+    }
   }
 }
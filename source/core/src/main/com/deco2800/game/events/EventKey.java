@@ -0,0 +1,62 @@
+package com.deco2800.game.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An interned event name. Each distinct name maps to one key with a small integer ID, which the
+ * {@link EventHandler} uses to index its listener table instead of hashing the name on every
+ * trigger.
+ *
+ * <p>Events which fire often should keep their key in a static field:
+ *
+ * <pre>
+ * private static final EventKey COLLISION_START = EventKey.of("collisionStart");
+ * entity.getEvents().trigger(COLLISION_START, fixture, otherFixture);
+ * </pre>
+ *
+ * <p>Keys and names are interchangeable, so a listener added with a name is called when the event
+ * is triggered with its key, and vice versa.
+ */
+public final class EventKey {
+  private static final Map<String, EventKey> keys = new ConcurrentHashMap<>();
+  private static final AtomicInteger nextId = new AtomicInteger(0);
+
+  private final String name;
+  private final int id;
+
+  private EventKey(String name) {
+    this.name = name;
+    this.id = nextId.getAndIncrement();
+  }
+
+  /**
+   * Get the key for an event name, creating it if this is the first time the name is used.
+   *
+   * @param name name of the event
+   * @return key for the event
+   */
+  public static EventKey of(String name) {
+    EventKey key = keys.get(name);
+    if (key == null) {
+      key = keys.computeIfAbsent(name, EventKey::new);
+    }
+    return key;
+  }
+
+  /** @return name of the event */
+  public String getName() {
+    return name;
+  }
+
+  /** @return unique ID of the event, used to index listener tables */
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,115 @@
+package com.deco2800.game.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records recent engine events (event triggers, collisions, AI task changes) into a fixed size ring
+ * buffer, which can be dumped from the debug terminal with the "trace" command.
+ *
+ * <p>Tracing is off unless the game is started with {@code -Dgame.trace=true}. Call sites check
+ * {@link #ENABLED} before recording, and since it is a static final field the JIT removes the
+ * check entirely when tracing is off:
+ *
+ * <pre>
+ * if (EventTracer.ENABLED) {
+ *   EventTracer.record(EventTracer.Category.PHYSICS, "collisionStart", entity.getId());
+ * }
+ * </pre>
+ *
+ * Recording does not allocate, so tracing is cheap enough to leave on while playing.
+ */
+public final class EventTracer {
+  /** Whether tracing is enabled for this run of the game. */
+  public static final boolean ENABLED = Boolean.getBoolean("game.trace");
+  /** Number of records kept before the oldest are overwritten. */
+  public static final int CAPACITY = 1024;
+  /** Entity ID used when a record isn't about a specific entity. */
+  public static final int NO_ENTITY = -1;
+
+  private static final long[] times = new long[CAPACITY];
+  private static final Category[] categories = new Category[CAPACITY];
+  private static final String[] names = new String[CAPACITY];
+  private static final int[] entityIds = new int[CAPACITY];
+  private static int next = 0;
+  private static int size = 0;
+
+  private EventTracer() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * Record a trace. Callers should check {@link #ENABLED} first.
+   *
+   * @param category area of the engine the record comes from
+   * @param name name of what happened, e.g. the event name
+   * @param entityId ID of the entity involved, or {@link #NO_ENTITY}
+   */
+  public static synchronized void record(Category category, String name, int entityId) {
+    times[next] = System.nanoTime();
+    categories[next] = category;
+    names[next] = name;
+    entityIds[next] = entityId;
+    next = (next + 1) % CAPACITY;
+    if (size < CAPACITY) {
+      size++;
+    }
+  }
+
+  /** @return number of records currently held */
+  public static synchronized int size() {
+    return size;
+  }
+
+  /** Remove all records. */
+  public static synchronized void clear() {
+    next = 0;
+    size = 0;
+    for (int i = 0; i < CAPACITY; i++) {
+      names[i] = null;
+      categories[i] = null;
+    }
+  }
+
+  /**
+   * Format the held records, oldest first. Times are in milliseconds relative to the newest record.
+   *
+   * @return one line per record
+   */
+  public static synchronized List<String> dump() {
+    List<String> lines = new ArrayList<>(size);
+    if (size == 0) {
+      return lines;
+    }
+
+    int oldest = (next - size + CAPACITY) % CAPACITY;
+    long newestTime = times[(next - 1 + CAPACITY) % CAPACITY];
+    for (int i = 0; i < size; i++) {
+      int index = (oldest + i) % CAPACITY;
+      float millis = (times[index] - newestTime) / 1_000_000f;
+      if (entityIds[index] == NO_ENTITY) {
+        lines.add(
+            String.format(Locale.ROOT, "%9.3fms %-7s %s", millis, categories[index], names[index]));
+      } else {
+        lines.add(
+            String.format(
+                Locale.ROOT,
+                "%9.3fms %-7s %s entity=%d",
+                millis,
+                categories[index],
+                names[index],
+                entityIds[index]));
+      }
+    }
+    return lines;
+  }
+
+  /** Area of the engine a trace record comes from. */
+  public enum Category {
+    EVENT,
+    PHYSICS,
+    AI,
+    ENTITY
+  }
+}
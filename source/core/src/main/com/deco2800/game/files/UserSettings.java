@@ -3,6 +3,8 @@ package com.deco2800.game.files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics.DisplayMode;
 import com.deco2800.game.files.FileLoader.Location;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.services.ServiceLocator;
 
 import java.io.File;
 
@@ -48,6 +50,9 @@ public class UserSettings {
   public static void applySettings(Settings settings) {
     Gdx.graphics.setForegroundFPS(settings.fps);
     Gdx.graphics.setVSync(settings.vsync);
+    if (ServiceLocator.getPhysicsService() != null) {
+      ServiceLocator.getPhysicsService().getPhysics().setTickRate(settings.physicsRate);
+    }
 
     if (settings.fullscreen) {
       DisplayMode displayMode = findMatching(settings.displayMode);
@@ -83,6 +88,11 @@ public class UserSettings {
      * FPS cap of the game. Independant of screen FPS.
      */
     public int fps = 60;
+    /**
+     * Physics steps per second. Independent of the FPS cap, since rendering
+     * interpolates between steps.
+     */
+    public int physicsRate = PhysicsEngine.DEFAULT_TICK_RATE;
     public boolean fullscreen = true;
     public boolean vsync = true;
     /**
@@ -12,4 +12,20 @@ public class BodyUserData {
    * The entity to which this body is attached
    */
   public Entity entity;
+
+  /** What the entity is to things colliding with it. See {@link FixtureUtils}. */
+  public Role role = Role.NONE;
+
+  /**
+   * Layers of other fixtures this body wants contact events for, indexed by the bit of its own
+   * fixture's layer. Null if the entity hasn't subscribed to any contacts. See {@link
+   * PhysicsContactListener#subscribe}.
+   */
+  public short[] contactRoutes;
+
+  /** Typed roles, so collision listeners can tell what they hit without searching. */
+  public enum Role {
+    NONE,
+    BUFF
+  }
 }
@@ -0,0 +1,61 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.BodyUserData.Role;
+import com.deco2800.game.physics.components.PhysicsComponent;
+
+/**
+ * Reads the entity and role stored in a fixture's {@link BodyUserData}. Collision listeners should
+ * use these rather than searching their entities for the fixture they were given.
+ */
+public class FixtureUtils {
+  /**
+   * @param fixture fixture from a collision
+   * @return entity owning the fixture, or null if it isn't attached to an entity
+   */
+  public static Entity getEntity(Fixture fixture) {
+    BodyUserData userData = getUserData(fixture);
+    return userData != null ? userData.entity : null;
+  }
+
+  /**
+   * @param fixture fixture from a collision
+   * @return role of the entity owning the fixture, or NONE if it hasn't been given one
+   */
+  public static Role getRole(Fixture fixture) {
+    BodyUserData userData = getUserData(fixture);
+    return userData != null ? userData.role : Role.NONE;
+  }
+
+  /**
+   * @param fixture fixture from a collision
+   * @param role role to check for
+   * @return true if the entity owning the fixture has the role
+   */
+  public static boolean hasRole(Fixture fixture, Role role) {
+    return getRole(fixture) == role;
+  }
+
+  /**
+   * Give an entity a role. Does nothing for entities without a {@link PhysicsComponent}, since
+   * they can't collide.
+   *
+   * @param entity entity with a physics component
+   * @param role the entity's role
+   */
+  public static void setRole(Entity entity, Role role) {
+    PhysicsComponent physicsComponent = entity.getComponent(PhysicsComponent.class);
+    if (physicsComponent != null) {
+      physicsComponent.getUserData().role = role;
+    }
+  }
+
+  private static BodyUserData getUserData(Fixture fixture) {
+    return (BodyUserData) fixture.getBody().getUserData();
+  }
+
+  private FixtureUtils() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
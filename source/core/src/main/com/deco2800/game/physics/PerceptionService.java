@@ -0,0 +1,141 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.raycast.RaycastHit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares line of sight checks between AI tasks. Each {@link Sight} caches whether its target is
+ * visible, and only raycasts again once the result is a few physics steps old or either entity has
+ * moved noticeably. Sights are refreshed on different steps from each other, so many enemies
+ * tracking the same target don't all raycast on the same frame. The step a sight refreshes on comes
+ * from its observer's ID, so it doesn't depend on which thread tracks it first.
+ *
+ * <p>Each sight should only be used by one task at a time, but different sights can be checked from
+ * different threads.
+ */
+public class PerceptionService {
+  /** Number of physics steps a visibility result is reused for. */
+  public static final int DEFAULT_REFRESH_STEPS = 6;
+  /** Distance either entity can move before a cached result is discarded. */
+  public static final float DEFAULT_MOVE_THRESHOLD = 0.5f;
+
+  private final PhysicsEngine physics;
+  private final int refreshSteps;
+  private final float moveThresholdSq;
+  private final LongAdder raycastCount = new LongAdder();
+  private final LongAdder cachedCount = new LongAdder();
+
+  public PerceptionService(PhysicsEngine physics) {
+    this(physics, DEFAULT_REFRESH_STEPS, DEFAULT_MOVE_THRESHOLD);
+  }
+
+  /**
+   * @param physics physics engine to raycast against
+   * @param refreshSteps number of physics steps a visibility result is reused for
+   * @param moveThreshold distance either entity can move before a cached result is discarded
+   */
+  public PerceptionService(PhysicsEngine physics, int refreshSteps, float moveThreshold) {
+    this.physics = physics;
+    this.refreshSteps = Math.max(1, refreshSteps);
+    this.moveThresholdSq = moveThreshold * moveThreshold;
+  }
+
+  /**
+   * Start tracking line of sight between two entities.
+   *
+   * @param observer entity looking at the target
+   * @param target entity being looked at
+   * @param layerMask physics layers which block line of sight
+   * @return sight which caches the visibility of the target
+   */
+  public Sight track(Entity observer, Entity target, short layerMask) {
+    return new Sight(observer, target, layerMask, observer.getId() % refreshSteps);
+  }
+
+  /** @return number of visibility checks which needed a raycast */
+  public long getRaycastCount() {
+    return raycastCount.sum();
+  }
+
+  /** @return number of visibility checks which were served from cache */
+  public long getCachedCount() {
+    return cachedCount.sum();
+  }
+
+  /** Reset the raycast and cached counters. */
+  public void resetCounts() {
+    raycastCount.reset();
+    cachedCount.reset();
+  }
+
+  /** Cached line of sight from one entity to another. */
+  public class Sight {
+    private final Entity observer;
+    private final Entity target;
+    private final short layerMask;
+    private final int phase;
+    private final RaycastHit hit = new RaycastHit();
+    private final Vector2 from = new Vector2();
+    private final Vector2 to = new Vector2();
+    private final Vector2 hitPoint = new Vector2();
+    private final Vector2 currentFrom = new Vector2();
+    private final Vector2 currentTo = new Vector2();
+    private boolean checked = false;
+    private long checkedStep;
+    private boolean visible;
+
+    private Sight(Entity observer, Entity target, short layerMask, int phase) {
+      this.observer = observer;
+      this.target = target;
+      this.layerMask = layerMask;
+      this.phase = phase;
+    }
+
+    /**
+     * Check whether the target is visible from the observer, raycasting only if the cached result
+     * is out of date.
+     *
+     * @return true if no obstacle is between the centers of the observer and target
+     */
+    public boolean isVisible() {
+      observer.getCenterPosition(currentFrom);
+      target.getCenterPosition(currentTo);
+      long step = physics.getStepCount();
+
+      if (checked
+          && step - checkedStep < refreshSteps
+          && from.dst2(currentFrom) <= moveThresholdSq
+          && to.dst2(currentTo) <= moveThresholdSq) {
+        cachedCount.increment();
+        return visible;
+      }
+
+      raycastCount.increment();
+      from.set(currentFrom);
+      to.set(currentTo);
+      visible = !physics.raycast(from, to, layerMask, hit);
+      hitPoint.set(visible ? to : hit.point);
+      // Backdate the first check so each sight refreshes on a different step
+      checkedStep = checked ? step : step - phase;
+      checked = true;
+      return visible;
+    }
+
+    /** @return observer's center when visibility was last checked */
+    public Vector2 getFrom() {
+      return from;
+    }
+
+    /** @return target's center when visibility was last checked */
+    public Vector2 getTo() {
+      return to;
+    }
+
+    /** @return where line of sight was blocked, or the target's center if it was visible */
+    public Vector2 getHitPoint() {
+      return hitPoint;
+    }
+  }
+}
@@ -1,8 +1,13 @@
 package com.deco2800.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.events.EventKey;
+import com.deco2800.game.events.EventTracer;
+import com.deco2800.game.physics.components.PhysicsComponent;
 
 /**
  * Box2D collision events fire globally on the physics world, not per-object. The contact listener
@@ -13,20 +18,67 @@ import org.slf4j.LoggerFactory;
  *
  * <p>On contact end: evt = "collisionEnd", params = ({@link Fixture} thisFixture, {@link Fixture}
  * otherFixture)
+ *
+ * <p>Entities choose which contacts they receive with {@link #subscribe(Entity, short, short)}.
+ * Contacts between layers nobody subscribed to are dropped before reaching any event handler.
+ * Entities which haven't subscribed receive every contact, but only while they have a listener for
+ * the event.
+ *
+ * <p>Contacts made while the world is stepping are queued and delivered together once the step has
+ * finished, so listeners are free to move, activate or destroy bodies. Fixtures destroyed by a
+ * listener are remembered until the batch ends, and later contacts with them are skipped rather
+ * than reading freed fixtures.
  */
 public class PhysicsContactListener implements ContactListener {
-  private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+  public static final EventKey COLLISION_START = EventKey.of("collisionStart");
+  public static final EventKey COLLISION_END = EventKey.of("collisionEnd");
+  private static final int LAYER_COUNT = 16;
+
+  // Pairs of (thisFixture, otherFixture) waiting to be delivered
+  private final Array<Fixture> pending = new Array<>(true, 32, Fixture.class);
+  private final BooleanArray pendingStart = new BooleanArray(true, 16);
+  // Fixtures destroyed while the queued contacts are being delivered
+  private final ObjectSet<Fixture> destroyed = new ObjectSet<>();
+  private boolean stepping = false;
+  private boolean delivering = false;
+  private long dispatchedCount = 0;
+  private long droppedCount = 0;
+
+  /**
+   * Receive contacts between some of an entity's layers and some layers of other fixtures. Can be
+   * called more than once to add more routes. Entities without a {@link PhysicsComponent} never
+   * receive contacts, so this does nothing for them.
+   *
+   * @param entity entity to receive "collisionStart" and "collisionEnd" events
+   * @param ownLayers layers of the entity's fixtures, see {@link PhysicsLayer}
+   * @param otherLayers layers of other fixtures to receive contacts with
+   */
+  public static void subscribe(Entity entity, short ownLayers, short otherLayers) {
+    PhysicsComponent physicsComponent = entity.getComponent(PhysicsComponent.class);
+    if (physicsComponent == null) {
+      return;
+    }
+    BodyUserData userData = physicsComponent.getUserData();
+    if (userData.contactRoutes == null) {
+      userData.contactRoutes = new short[LAYER_COUNT];
+    }
+    for (int bit = 0; bit < LAYER_COUNT; bit++) {
+      if ((ownLayers & (1 << bit)) != 0) {
+        userData.contactRoutes[bit] |= otherLayers;
+      }
+    }
+  }
 
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    route(contact.getFixtureA(), contact.getFixtureB(), true);
+    route(contact.getFixtureB(), contact.getFixtureA(), true);
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    route(contact.getFixtureA(), contact.getFixtureB(), false);
+    route(contact.getFixtureB(), contact.getFixtureA(), false);
   }
 
   @Override
@@ -39,10 +91,113 @@ public class PhysicsContactListener implements ContactListener {
     // Nothing to do after resolving contact
   }
 
-  private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+  /** Start queueing contacts. Called by the physics engine before each world step. */
+  public void beginStep() {
+    stepping = true;
+  }
+
+  /** Deliver the contacts queued during the step. Called by the physics engine after each step. */
+  public void endStep() {
+    stepping = false;
+    delivering = true;
+    // Contacts ended by listeners are delivered straight away, so nothing is queued during this loop
+    for (int i = 0; i < pendingStart.size; i++) {
+      Fixture fixture = pending.get(i * 2);
+      Fixture otherFixture = pending.get(i * 2 + 1);
+      if (destroyed.size > 0 && (destroyed.contains(fixture) || destroyed.contains(otherFixture))) {
+        continue;
+      }
+      triggerEventOn(
+          fixture, pendingStart.get(i) ? COLLISION_START : COLLISION_END, otherFixture);
+    }
+    delivering = false;
+    destroyed.clear();
+    pending.clear();
+    pendingStart.clear();
+  }
+
+  /**
+   * Note that a fixture is about to be destroyed, so queued contacts with it are skipped. Called by
+   * the physics engine.
+   *
+   * @param fixture fixture about to be destroyed
+   */
+  public void fixtureDestroyed(Fixture fixture) {
+    if (delivering) {
+      destroyed.add(fixture);
+    }
+  }
+
+  /**
+   * Note that a body is about to be destroyed, so queued contacts with its fixtures are skipped.
+   * Called by the physics engine.
+   *
+   * @param body body about to be destroyed
+   */
+  public void bodyDestroyed(Body body) {
+    if (delivering) {
+      Array<Fixture> fixtures = body.getFixtureList();
+      for (int i = 0; i < fixtures.size; i++) {
+        destroyed.add(fixtures.get(i));
+      }
+    }
+  }
+
+  /** @return number of contact events delivered to entities */
+  public long getDispatchedCount() {
+    return dispatchedCount;
+  }
+
+  /** @return number of contact events dropped because nobody subscribed to them */
+  public long getDroppedCount() {
+    return droppedCount;
+  }
+
+  private void route(Fixture fixture, Fixture otherFixture, boolean start) {
+    if (!wants(fixture, otherFixture, start ? COLLISION_START : COLLISION_END)) {
+      droppedCount++;
+      return;
+    }
+    if (stepping) {
+      pending.add(fixture);
+      pending.add(otherFixture);
+      pendingStart.add(start);
+    } else {
+      // Contacts ended outside a step, e.g. by destroying or deactivating a body
+      triggerEventOn(fixture, start ? COLLISION_START : COLLISION_END, otherFixture);
+    }
+  }
+
+  private static boolean wants(Fixture fixture, Fixture otherFixture, EventKey evt) {
+    BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
+    if (userData == null || userData.entity == null) {
+      return false;
+    }
+    short[] routes = userData.contactRoutes;
+    if (routes == null) {
+      return userData.entity.getEvents().hasListeners(evt);
+    }
+
+    int otherLayers = otherFixture.getFilterData().categoryBits;
+    int ownLayers = fixture.getFilterData().categoryBits & 0xFFFF;
+    while (ownLayers != 0) {
+      int bit = Integer.numberOfTrailingZeros(ownLayers);
+      if ((routes[bit] & otherLayers) != 0) {
+        return true;
+      }
+      ownLayers &= ownLayers - 1;
+    }
+    return false;
+  }
+
+  private void triggerEventOn(Fixture fixture, EventKey evt, Fixture otherFixture) {
     BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
+    // The entity may have been disposed by an earlier listener in the batch
     if (userData != null && userData.entity != null) {
-      logger.debug("{} on entity {}", evt, userData.entity);
+      if (EventTracer.ENABLED) {
+        EventTracer.record(EventTracer.Category.PHYSICS, evt.getName(), userData.entity.getId());
+      }
+      dispatchedCount++;
       userData.entity.getEvents().trigger(evt, fixture, otherFixture);
     }
   }
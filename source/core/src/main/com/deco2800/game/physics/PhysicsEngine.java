@@ -1,11 +1,16 @@
 package com.deco2800.game.physics;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.physics.raycast.AllHitCallback;
+import com.deco2800.game.physics.raycast.OverlapCallback;
 import com.deco2800.game.physics.raycast.RaycastHit;
+import com.deco2800.game.physics.raycast.RaycastHitBuffer;
 import com.deco2800.game.physics.raycast.SingleHitCallback;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
@@ -18,23 +23,45 @@ import java.util.List;
 /**
  * Process game physics using the Box2D library. See the Box2D documentation for examples or use
  * cases.
+ *
+ * <p>Raycasts are synchronized, so AI running on worker threads can use them while the world isn't
+ * stepping. Everything else must be called from the main thread.
+ *
+ * <p>The world is stepped at a fixed tick rate, which doesn't need to match the frame rate. Time left
+ * over after the last step is kept as the interpolation alpha, which renderers use to draw bodies
+ * between their previous and current step positions.
  */
 public class PhysicsEngine implements Disposable {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsEngine.class);
   private static final float MAX_UPDATE_TIME = 0.25f;
-  private static final float PHYSICS_TIMESTEP = 0.016f;
+  public static final int DEFAULT_TICK_RATE = 60;
+  public static final int MIN_TICK_RATE = 20;
+  public static final int MAX_TICK_RATE = 240;
   private static final Vector2 GRAVITY = new Vector2(0f, -0f);
   private static final int VELOCITY_ITERATIONS = 6;
   private static final int POSITION_ITERATIONS = 2;
+  // Centre then corners of a box, as multiples of its half size
+  private static final float[] BOX_CAST_OFFSETS = {0f, 0f, -1f, -1f, 1f, -1f, -1f, 1f, 1f, 1f};
 
   private final World world;
   private final GameTime timeSource;
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  private final PhysicsContactListener contactListener = new PhysicsContactListener();
+  private final OverlapCallback overlapCallback = new OverlapCallback();
+  private final RaycastHit castHit = new RaycastHit();
+  private float timestep = 1f / DEFAULT_TICK_RATE;
   private float accumulator;
+  private long stepCount = 0;
+  private int queryCount = 0;
+  private int lastQueryCount = 0;
+  /* Non-static bodies whose previous positions are stored before each frame's last step */
+  private final Array<PhysicsComponent> interpolated = new Array<>(false, 64);
 
   /* List of entities to be destroyed on the next world step */
   private List<Entity> toDestroy;
+  /* Actions to run once the current world step has finished */
+  private final Array<Runnable> afterStep = new Array<>(false, 4);
 
   public PhysicsEngine() {
     this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -42,12 +69,17 @@ public class PhysicsEngine implements Disposable {
 
   public PhysicsEngine(World world, GameTime timeSource) {
     this.world = world;
-    world.setContactListener(new PhysicsContactListener());
+    world.setContactListener(contactListener);
     this.timeSource = timeSource;
     this.toDestroy = new ArrayList<>();
   }
 
   public void update() {
+    synchronized (this) {
+      lastQueryCount = queryCount;
+      queryCount = 0;
+    }
+
     // Updating physics isn't as easy as triggering an update every frame. Each frame could take a
     // different amount of time to run, but physics simulations are only stable if computed at a
     // consistent frame rate! See: https://gafferongames.com/post/fix_your_timestep/
@@ -57,18 +89,39 @@ public class PhysicsEngine implements Disposable {
 
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
-    while (accumulator >= PHYSICS_TIMESTEP) {
-      world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-      accumulator -= PHYSICS_TIMESTEP;
+    while (accumulator >= timestep) {
+      if (accumulator < 2 * timestep) {
+        // Last step this frame, so keep where bodies were for interpolation
+        for (int i = 0; i < interpolated.size; i++) {
+          interpolated.get(i).storePreviousPosition();
+        }
+      }
+      contactListener.beginStep();
+      world.step(timestep, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+      contactListener.endStep();
+      runAfterStepActions();
+      accumulator -= timestep;
+      stepCount++;
     }
 
-    /* Destroy the queued entities */
-    for (Entity buff : this.toDestroy) {
-      buff.dispose();
+    /* Run actions queued outside of a step, in case there were no steps this frame */
+    runAfterStepActions();
+
+    /* Destroy the queued entities. Indexed, since an iterator would be allocated every frame */
+    for (int i = 0; i < this.toDestroy.size(); i++) {
+      this.toDestroy.get(i).dispose();
     }
     this.toDestroy.clear();
   }
 
+  private void runAfterStepActions() {
+    // Actions may queue more actions, which run in the same pass
+    for (int i = 0; i < afterStep.size; i++) {
+      afterStep.get(i).run();
+    }
+    afterStep.clear();
+  }
+
   /**
    * Add an entity to the queue to be removed on the next world step.
    *
@@ -78,6 +131,23 @@ public class PhysicsEngine implements Disposable {
     this.toDestroy.add(entity);
   }
 
+  /** @return listener which routes contacts to entities */
+  public PhysicsContactListener getContactListener() {
+    return contactListener;
+  }
+
+  /**
+   * Run an action once the current world step has finished, before the next step in the same
+   * frame. Actions queued outside of a step run after the next step, or at the end of the update if
+   * there are no steps. Bodies can't be activated, deactivated or moved while the world is
+   * stepping, so code which may run during a step should use this to change them.
+   *
+   * @param action action to run. Reuse the same instance where possible to avoid allocating.
+   */
+  public void runAfterStep(Runnable action) {
+    afterStep.add(action);
+  }
+
   public Body createBody(BodyDef bodyDef) {
     logger.debug("Creating physics body {}", bodyDef);
     return world.createBody(bodyDef);
@@ -85,9 +155,22 @@ public class PhysicsEngine implements Disposable {
 
   public void destroyBody(Body body) {
     logger.debug("Destroying physics body {}", body);
+    contactListener.bodyDestroyed(body);
     world.destroyBody(body);
   }
 
+  /**
+   * Destroy one of a body's fixtures, making sure contacts queued with it aren't delivered.
+   *
+   * @param body body the fixture belongs to
+   * @param fixture fixture to destroy
+   */
+  public void destroyFixture(Body body, Fixture fixture) {
+    logger.debug("Destroying physics fixture {}", fixture);
+    contactListener.fixtureDestroyed(fixture);
+    body.destroyFixture(fixture);
+  }
+
   public Joint createJoint(JointDef jointDef) {
     logger.debug("Creating physics joint {}", jointDef);
     return world.createJoint(jointDef);
@@ -102,6 +185,55 @@ public class PhysicsEngine implements Disposable {
     return world;
   }
 
+  /**
+   * Set how many times the world is stepped per second, independent of the frame rate.
+   *
+   * @param stepsPerSecond tick rate, clamped between {@link #MIN_TICK_RATE} and {@link
+   *     #MAX_TICK_RATE}
+   */
+  public void setTickRate(int stepsPerSecond) {
+    timestep = 1f / MathUtils.clamp(stepsPerSecond, MIN_TICK_RATE, MAX_TICK_RATE);
+  }
+
+  /** @return length of each world step in seconds */
+  public float getTimestep() {
+    return timestep;
+  }
+
+  /**
+   * Get how far between the last two steps to draw bodies, from the time left over after the last
+   * step.
+   *
+   * @return interpolation alpha, from 0 (previous step) up to 1 (current step)
+   */
+  public float getAlpha() {
+    return accumulator / timestep;
+  }
+
+  /**
+   * Store a body's position before the last step of each frame, for interpolation.
+   *
+   * @param component physics component with a non-static body
+   */
+  public void addInterpolated(PhysicsComponent component) {
+    interpolated.add(component);
+  }
+
+  /** @param component physics component to stop interpolating */
+  public void removeInterpolated(PhysicsComponent component) {
+    interpolated.removeValue(component, true);
+  }
+
+  /** @return number of world steps taken so far */
+  public long getStepCount() {
+    return stepCount;
+  }
+
+  /** @return number of raycasts and queries made during the last frame */
+  public int getQueryCount() {
+    return lastQueryCount;
+  }
+
   /**
    * Cast a ray in a straight line from one point to another, checking for a collision against any
    * colliders.
@@ -127,11 +259,25 @@ public class PhysicsEngine implements Disposable {
    * @return true if a collider was hit, false otherwise.
    */
   public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
-    singleHitCallback.didHit = false;
-    singleHitCallback.layerMask = layerMask;
-    singleHitCallback.hit = hit;
-    world.rayCast(singleHitCallback, from, to);
-    return singleHitCallback.didHit;
+    return raycast(from.x, from.y, to.x, to.y, layerMask, hit);
+  }
+
+  /**
+   * Cast a ray in a straight line from one point to another, checking for a collision against
+   * colliders in the specified layers. Takes coordinates so callers don't need vectors for the ray.
+   *
+   * @param fromX x of the starting point of the ray.
+   * @param fromY y of the starting point of the ray.
+   * @param toX x of the end point of the ray.
+   * @param toY y of the end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @param hit The hit of the closest collider will be stored in this.
+   * @return true if a collider was hit, false otherwise.
+   */
+  public synchronized boolean raycast(
+      float fromX, float fromY, float toX, float toY, short layerMask, RaycastHit hit) {
+    queryCount++;
+    return castRay(fromX, fromY, toX, toY, layerMask, hit);
   }
 
   /**
@@ -148,7 +294,8 @@ public class PhysicsEngine implements Disposable {
 
   /**
    * Cast a ray in a straight line from one point to another, checking for all collision against
-   * colliders in the specified layers.
+   * colliders in the specified layers. Allocates the hits, so prefer {@link #raycastAll(float,
+   * float, float, float, short, RaycastHitBuffer)} for raycasts made every frame.
    *
    * @param from The starting point of the ray.
    * @param to The end point of the ray.
@@ -157,9 +304,109 @@ public class PhysicsEngine implements Disposable {
    * @return All hits made by the ray, unordered. Empty if no hits were made.
    */
   public RaycastHit[] raycastAll(Vector2 from, Vector2 to, short layerMask) {
+    RaycastHitBuffer buffer = new RaycastHitBuffer(0);
+    raycastAll(from.x, from.y, to.x, to.y, layerMask, buffer);
+    RaycastHit[] hits = new RaycastHit[buffer.size()];
+    for (int i = 0; i < hits.length; i++) {
+      hits[i] = buffer.get(i);
+    }
+    return hits;
+  }
+
+  /**
+   * Cast a ray in a straight line from one point to another, storing all collisions against
+   * colliders in the specified layers in a reusable buffer.
+   *
+   * @param fromX x of the starting point of the ray.
+   * @param fromY y of the starting point of the ray.
+   * @param toX x of the end point of the ray.
+   * @param toY y of the end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @param hits Cleared, then filled with all hits made by the ray, unordered.
+   * @return number of hits
+   */
+  public synchronized int raycastAll(
+      float fromX, float fromY, float toX, float toY, short layerMask, RaycastHitBuffer hits) {
+    queryCount++;
+    hits.clear();
     allHitCallback.layerMask = layerMask;
-    world.rayCast(allHitCallback, from, to);
-    return allHitCallback.getHitsAndClear();
+    allHitCallback.hits = hits;
+    world.rayCast(allHitCallback, fromX, fromY, toX, toY);
+    allHitCallback.hits = null;
+    return hits.size();
+  }
+
+  /**
+   * Find colliders in the specified layers overlapping an area. Box2D checks each collider's
+   * bounding box, which is slightly larger than the collider, so callers needing an exact overlap
+   * should check the shapes of the colliders found.
+   *
+   * @param lowerX left of the area
+   * @param lowerY bottom of the area
+   * @param upperX right of the area
+   * @param upperY top of the area
+   * @param layerMask The physics layer mask which specifies layers to find.
+   * @param out fixtures found are added to this array, which isn't cleared first
+   * @return number of fixtures found
+   */
+  public synchronized int queryAABB(
+      float lowerX, float lowerY, float upperX, float upperY, short layerMask, Array<Fixture> out) {
+    queryCount++;
+    overlapCallback.layerMask = layerMask;
+    overlapCallback.fixtures = out;
+    overlapCallback.count = 0;
+    world.QueryAABB(overlapCallback, lowerX, lowerY, upperX, upperY);
+    overlapCallback.fixtures = null;
+    return overlapCallback.count;
+  }
+
+  /**
+   * Sweep a box along a straight line, finding the first collider in the specified layers it would
+   * hit. Box2D can't cast shapes, so rays are cast from the centre and corners of the box and the
+   * closest hit is kept. Colliders thinner than the box which fit between the rays can be missed.
+   *
+   * @param centerX x of the centre of the box
+   * @param centerY y of the centre of the box
+   * @param halfWidth half the width of the box
+   * @param halfHeight half the height of the box
+   * @param dx distance to move the box along x
+   * @param dy distance to move the box along y
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @param hit The closest hit will be stored in this. Its fraction is how far the box can move.
+   * @return true if a collider was hit, false otherwise.
+   */
+  public synchronized boolean boxCast(
+      float centerX,
+      float centerY,
+      float halfWidth,
+      float halfHeight,
+      float dx,
+      float dy,
+      short layerMask,
+      RaycastHit hit) {
+    queryCount++;
+    boolean didHit = false;
+    hit.fraction = 1f;
+    for (int i = 0; i < BOX_CAST_OFFSETS.length; i += 2) {
+      float x = centerX + BOX_CAST_OFFSETS[i] * halfWidth;
+      float y = centerY + BOX_CAST_OFFSETS[i + 1] * halfHeight;
+      if (castRay(x, y, x + dx, y + dy, layerMask, castHit) && castHit.fraction < hit.fraction) {
+        hit.set(castHit);
+        didHit = true;
+      }
+    }
+    castHit.fixture = null;
+    return didHit;
+  }
+
+  private boolean castRay(
+      float fromX, float fromY, float toX, float toY, short layerMask, RaycastHit hit) {
+    singleHitCallback.didHit = false;
+    singleHitCallback.layerMask = layerMask;
+    singleHitCallback.hit = hit;
+    world.rayCast(singleHitCallback, fromX, fromY, toX, toY);
+    singleHitCallback.hit = null;
+    return singleHitCallback.didHit;
   }
 
   @Override
@@ -3,9 +3,13 @@ package com.deco2800.game.physics;
 /**
  * Provides a global access point to the physics engine. This is necessary for physics-based
  * entities to add or remove themselves from the world, as well as update their position each frame.
+ * Also provides the perception service, which caches line of sight checks against the world, and
+ * optionally a spatial hash, which finds physics entities near a point.
  */
 public class PhysicsService {
   private final PhysicsEngine engine;
+  private final PerceptionService perception;
+  private SpatialHashService spatialHash;
 
   public PhysicsService() {
     this(new PhysicsEngine());
@@ -13,9 +17,32 @@ public class PhysicsService {
 
   public PhysicsService(PhysicsEngine engine) {
     this.engine = engine;
+    this.perception = new PerceptionService(engine);
   }
 
   public PhysicsEngine getPhysics() {
     return engine;
   }
+
+  public PerceptionService getPerception() {
+    return perception;
+  }
+
+  /**
+   * Start tracking physics entities in a spatial hash. It's off by default, so entities don't pay
+   * to update it unless something queries it. Only entities created after this are tracked.
+   *
+   * @return the spatial hash
+   */
+  public SpatialHashService enableSpatialHash() {
+    if (spatialHash == null) {
+      spatialHash = new SpatialHashService();
+    }
+    return spatialHash;
+  }
+
+  /** @return spatial hash of physics entities, or null if it hasn't been enabled */
+  public SpatialHashService getSpatialHash() {
+    return spatialHash;
+  }
 }
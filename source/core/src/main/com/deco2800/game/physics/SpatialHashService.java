@@ -0,0 +1,276 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.deco2800.game.entities.Entity;
+
+/**
+ * Finds physics entities near a point without asking Box2D. Entities are bucketed into square
+ * cells of the world by their centre, which each physics component updates before every frame.
+ * Queries only look at the cells they overlap, and can be filtered by the {@link PhysicsLayer}s of
+ * the entity's fixtures. Disabled entities, such as sleeping enemies and pooled projectiles, are
+ * never found, since their positions aren't kept up to date.
+ *
+ * <p>Updates must be made from the main thread. Queries can also be made from AI worker threads
+ * while no updates are happening.
+ */
+public class SpatialHashService {
+  public static final float DEFAULT_CELL_SIZE = 4f;
+
+  private final float cellSize;
+  private final LongMap<Array<Entry>> cells = new LongMap<>();
+  private final IntMap<Entry> entries = new IntMap<>();
+  // Bounds of every cell which has been used, so nearest queries know when to stop
+  private int minCellX = Integer.MAX_VALUE;
+  private int minCellY = Integer.MAX_VALUE;
+  private int maxCellX = Integer.MIN_VALUE;
+  private int maxCellY = Integer.MIN_VALUE;
+  // Closest entries found by the current nearest query, in order
+  private final Array<Entity> nearest = new Array<>();
+  private final FloatArray nearestDst2 = new FloatArray();
+
+  public SpatialHashService() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /** @param cellSize width and height of each cell in world units */
+  public SpatialHashService(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Add an entity, or move it if it has already been added.
+   *
+   * @param entity entity to track
+   * @param x x of the entity's centre
+   * @param y y of the entity's centre
+   * @param layers layers of the entity's fixtures
+   */
+  public void update(Entity entity, float x, float y, short layers) {
+    Entry entry = entries.get(entity.getId());
+    int cellX = cellAt(x);
+    int cellY = cellAt(y);
+    long cell = key(cellX, cellY);
+    if (entry == null) {
+      entry = new Entry(entity);
+      entries.put(entity.getId(), entry);
+      getCell(cell, cellX, cellY).add(entry);
+    } else if (entry.cell != cell) {
+      cells.get(entry.cell).removeValue(entry, true);
+      getCell(cell, cellX, cellY).add(entry);
+    }
+    entry.cell = cell;
+    entry.x = x;
+    entry.y = y;
+    entry.layers = layers;
+  }
+
+  /** @param entity entity to stop tracking */
+  public void remove(Entity entity) {
+    Entry entry = entries.remove(entity.getId());
+    if (entry != null) {
+      cells.get(entry.cell).removeValue(entry, true);
+    }
+  }
+
+  /** @return number of entities being tracked */
+  public int size() {
+    return entries.size;
+  }
+
+  /**
+   * Find entities within a distance of a point.
+   *
+   * @param x x of the point
+   * @param y y of the point
+   * @param radius distance from the point
+   * @param layerMask layers of entities to find
+   * @param out entities found are added to this array, unordered
+   * @return number of entities found
+   */
+  public int queryRadius(float x, float y, float radius, short layerMask, Array<Entity> out) {
+    float radius2 = radius * radius;
+    int lastX = cellAt(x + radius);
+    int lastY = cellAt(y + radius);
+    int found = 0;
+    for (int cellX = cellAt(x - radius); cellX <= lastX; cellX++) {
+      for (int cellY = cellAt(y - radius); cellY <= lastY; cellY++) {
+        Array<Entry> cell = cells.get(key(cellX, cellY));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          Entry entry = cell.get(i);
+          if (entry.matches(layerMask) && entry.dst2(x, y) <= radius2) {
+            out.add(entry.entity);
+            found++;
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Find entities with their centre inside an area.
+   *
+   * @param lowerX left of the area
+   * @param lowerY bottom of the area
+   * @param upperX right of the area
+   * @param upperY top of the area
+   * @param layerMask layers of entities to find
+   * @param out entities found are added to this array, unordered
+   * @return number of entities found
+   */
+  public int queryAABB(
+      float lowerX, float lowerY, float upperX, float upperY, short layerMask, Array<Entity> out) {
+    int lastX = cellAt(upperX);
+    int lastY = cellAt(upperY);
+    int found = 0;
+    for (int cellX = cellAt(lowerX); cellX <= lastX; cellX++) {
+      for (int cellY = cellAt(lowerY); cellY <= lastY; cellY++) {
+        Array<Entry> cell = cells.get(key(cellX, cellY));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          Entry entry = cell.get(i);
+          if (entry.matches(layerMask)
+              && entry.x >= lowerX
+              && entry.x <= upperX
+              && entry.y >= lowerY
+              && entry.y <= upperY) {
+            out.add(entry.entity);
+            found++;
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Find the closest entities to a point. Searches rings of cells outwards from the point, stopping
+   * once no unsearched cell could hold a closer entity.
+   *
+   * @param x x of the point
+   * @param y y of the point
+   * @param count maximum number of entities to find
+   * @param maxRadius only find entities within this distance of the point
+   * @param layerMask layers of entities to find
+   * @param out entities found are added to this array, closest first
+   * @return number of entities found
+   */
+  public synchronized int queryNearest(
+      float x, float y, int count, float maxRadius, short layerMask, Array<Entity> out) {
+    if (count <= 0 || entries.size == 0) {
+      return 0;
+    }
+    nearest.clear();
+    nearestDst2.clear();
+    float maxDst2 = maxRadius * maxRadius;
+    int centerX = cellAt(x);
+    int centerY = cellAt(y);
+    int maxRing =
+        Math.max(
+            Math.max(centerX - minCellX, maxCellX - centerX),
+            Math.max(centerY - minCellY, maxCellY - centerY));
+    float radiusRings = maxRadius / cellSize;
+    if (radiusRings < maxRing) {
+      maxRing = (int) Math.ceil(radiusRings);
+    }
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+        // Only the edge of the ring, since the inside has already been searched
+        int step = (cellX == centerX - ring || cellX == centerX + ring) ? 1 : 2 * ring;
+        for (int cellY = centerY - ring; cellY <= centerY + ring; cellY += step) {
+          addNearest(cells.get(key(cellX, cellY)), x, y, count, maxDst2, layerMask);
+        }
+      }
+      // Entities outside this ring are at least this far away
+      float searched = ring * cellSize;
+      if (nearest.size == count && nearestDst2.peek() <= searched * searched) {
+        break;
+      }
+    }
+
+    out.addAll(nearest);
+    int found = nearest.size;
+    nearest.clear();
+    return found;
+  }
+
+  /** Insert entries from a cell into the sorted list of closest entries. */
+  private void addNearest(
+      Array<Entry> cell, float x, float y, int count, float maxDst2, short layerMask) {
+    if (cell == null) {
+      return;
+    }
+    for (int i = 0; i < cell.size; i++) {
+      Entry entry = cell.get(i);
+      float dst2 = entry.dst2(x, y);
+      if (!entry.matches(layerMask)
+          || dst2 > maxDst2
+          || (nearest.size == count && dst2 >= nearestDst2.peek())) {
+        continue;
+      }
+      if (nearest.size == count) {
+        nearest.pop();
+        nearestDst2.pop();
+      }
+      int index = nearest.size;
+      while (index > 0 && nearestDst2.get(index - 1) > dst2) {
+        index--;
+      }
+      nearest.insert(index, entry.entity);
+      nearestDst2.insert(index, dst2);
+    }
+  }
+
+  private Array<Entry> getCell(long cell, int cellX, int cellY) {
+    Array<Entry> entriesInCell = cells.get(cell);
+    if (entriesInCell == null) {
+      entriesInCell = new Array<>(false, 8);
+      cells.put(cell, entriesInCell);
+      minCellX = Math.min(minCellX, cellX);
+      minCellY = Math.min(minCellY, cellY);
+      maxCellX = Math.max(maxCellX, cellX);
+      maxCellY = Math.max(maxCellY, cellY);
+    }
+    return entriesInCell;
+  }
+
+  private int cellAt(float coordinate) {
+    return MathUtils.floor(coordinate / cellSize);
+  }
+
+  private static long key(int cellX, int cellY) {
+    return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+  }
+
+  private static class Entry {
+    final Entity entity;
+    float x;
+    float y;
+    short layers;
+    long cell;
+
+    Entry(Entity entity) {
+      this.entity = entity;
+    }
+
+    boolean matches(short layerMask) {
+      return (layers & layerMask) != 0 && entity.isEnabled();
+    }
+
+    float dst2(float px, float py) {
+      float dx = x - px;
+      float dy = y - py;
+      return dx * dx + dy * dy;
+    }
+  }
+}
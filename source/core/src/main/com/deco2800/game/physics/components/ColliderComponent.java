@@ -31,8 +31,9 @@ public class ColliderComponent extends Component {
       fixtureDef.shape = makeBoundingBox();
     }
 
-    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
-    fixture = physBody.createFixture(fixtureDef);
+    PhysicsComponent physicsComponent = entity.getComponent(PhysicsComponent.class);
+    fixture = physicsComponent.getBody().createFixture(fixtureDef);
+    physicsComponent.refreshLayers();
   }
 
   public void setBoundingBox() {
@@ -201,6 +202,7 @@ public class ColliderComponent extends Component {
       Filter filter = fixture.getFilterData();
       filter.categoryBits = layerMask;
       fixture.setFilterData(filter);
+      entity.getComponent(PhysicsComponent.class).refreshLayers();
     }
     return this;
   }
@@ -218,9 +220,11 @@ public class ColliderComponent extends Component {
   @Override
   public void dispose() {
     super.dispose();
-    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
+    PhysicsComponent physicsComponent = entity.getComponent(PhysicsComponent.class);
+    Body physBody = physicsComponent.getBody();
     if (physBody.getFixtureList().contains(fixture, true)) {
-      physBody.destroyFixture(fixture);
+      physicsComponent.getPhysics().destroyFixture(physBody, fixture);
+      physicsComponent.refreshLayers();
     }
   }
 
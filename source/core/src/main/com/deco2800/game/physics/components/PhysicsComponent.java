@@ -4,23 +4,42 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.components.Component;
+import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.BodyUserData;
 import com.deco2800.game.physics.PhysicsContactListener;
 import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.SpatialHashService;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Lets an entity be controlled by physics. Do not directly modify the position of a physics-enabled
  * entity. Instead, use forces to move it.
  *
- * <p>Entities with a PhysicsComponent will fire "collisionStart" and "collisionEnd" events. See
- * {@link PhysicsContactListener }
+ * <p>Entities with a PhysicsComponent will fire "collisionStart" and "collisionEnd" events for the
+ * layers they subscribe to. See {@link PhysicsContactListener#subscribe}
+ *
+ * <p>Non-static bodies also keep their position from before the last physics step, so they can be
+ * drawn between steps with {@link #getInterpolatedPosition(Vector2)}.
+ *
+ * <p>If the physics service has a {@link SpatialHashService}, enabled entities in its world are
+ * kept up to date in it.
  */
 public class PhysicsComponent extends Component {
   private static final float GROUND_FRICTION = 5f;
   private final PhysicsEngine physics;
   private final Body body;
+  private final BodyUserData userData = new BodyUserData();
+  private final Vector2 previousPosition = new Vector2();
+  private boolean interpolated = false;
+  private SpatialHashService spatialHash;
+  private final Vector2 center = new Vector2();
+  private short layers;
+  private boolean layersChanged = true;
+  private boolean hashed = false;
 
   /** Create a physics component with default settings. */
   public PhysicsComponent() {
@@ -42,6 +61,7 @@ public class PhysicsComponent extends Component {
     bodyDef.angle = 0f;
     bodyDef.active = false;
     body = physics.createBody(bodyDef);
+    body.setUserData(userData);
   }
 
   /**
@@ -72,16 +92,56 @@ public class PhysicsComponent extends Component {
     return body;
   }
 
+  /**
+   * Get the data attached to the physics body, which routes contacts to the entity.
+   *
+   * @return body user data
+   */
+  public BodyUserData getUserData() {
+    return userData;
+  }
+
   @Override
   public void create() {
     body.setTransform(entity.getPosition(), 0f);
     body.setActive(true);
-
-    BodyUserData userData = new BodyUserData();
+    entity.getPosition(previousPosition);
+    if (body.getType() != BodyType.StaticBody) {
+      physics.addInterpolated(this);
+      interpolated = true;
+    }
     userData.entity = entity;
-    body.setUserData(userData);
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null && physicsService.getPhysics() == physics) {
+      spatialHash = physicsService.getSpatialHash();
+    }
+
+    entity.getEvents().addListener(Entity.EVT_POS, this::teleport);
+  }
+
+  /**
+   * Get the position to draw the body at, between its position before the last physics step and
+   * its current position. Static bodies are always at their current position.
+   *
+   * @param out vector to store the position in
+   * @return out
+   */
+  public Vector2 getInterpolatedPosition(Vector2 out) {
+    if (!interpolated) {
+      return out.set(body.getPosition());
+    }
+    return out.set(previousPosition).lerp(body.getPosition(), physics.getAlpha());
+  }
 
-    entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+  /** Store the current body position as the previous position. Called by the physics engine. */
+  public void storePreviousPosition() {
+    previousPosition.set(body.getPosition());
+  }
+
+  private void teleport(Vector2 pos) {
+    body.setTransform(pos, 0f);
+    // Don't interpolate from the old position
+    previousPosition.set(pos);
   }
 
   /**
@@ -91,12 +151,54 @@ public class PhysicsComponent extends Component {
   @Override
   public void earlyUpdate() {
     Vector2 bodyPos = body.getPosition();
-    // Don't notify position changes due to physics
+    // Don't notify position changes due to physics. The position is copied, so no allocation.
     entity.setPosition(bodyPos, false);
+
+    if (spatialHash != null && enabled) {
+      if (layersChanged) {
+        layers = getLayers();
+        layersChanged = false;
+      }
+      entity.getCenterPosition(center);
+      spatialHash.update(entity, center.x, center.y, layers);
+      hashed = true;
+    }
+  }
+
+  /**
+   * Read the layers of the body's fixtures again before the next update. Called when a fixture is
+   * added or removed, or its filter changes.
+   */
+  public void refreshLayers() {
+    layersChanged = true;
+  }
+
+  private short getLayers() {
+    short bodyLayers = 0;
+    Array<Fixture> fixtures = body.getFixtureList();
+    if (fixtures == null) {
+      return bodyLayers;
+    }
+    for (Fixture fixture : fixtures) {
+      bodyLayers |= fixture.getFilterData().categoryBits;
+    }
+    return bodyLayers;
+  }
+
+  private void removeFromHash() {
+    if (hashed) {
+      spatialHash.remove(entity);
+      hashed = false;
+    }
   }
 
   @Override
   public void dispose() {
+    removeFromHash();
+    if (interpolated) {
+      physics.removeInterpolated(this);
+      interpolated = false;
+    }
     physics.destroyBody(body);
   }
 
@@ -104,6 +206,10 @@ public class PhysicsComponent extends Component {
   public void setEnabled(boolean enabled) {
     super.setEnabled(enabled);
     body.setActive(enabled);
+    // Released and sleeping entities shouldn't be found where they were left
+    if (!enabled) {
+      removeFromHash();
+    }
   }
 
   public enum AlignX {
@@ -3,36 +3,20 @@ package com.deco2800.game.physics.raycast;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
-import com.badlogic.gdx.utils.Array;
 
 /**
- * Cast a ray against all colliders that match the layer mask. All hits will be stored, with an empty
- * array if no hits occurred.
+ * Cast a ray against all colliders that match the layer mask. All hits will be added to the hit
+ * buffer, which is left empty if no hits occurred.
  */
 public class AllHitCallback implements RayCastCallback {
-  private final Array<RaycastHit> raycastHits;
   public short layerMask = ~0;
-
-  public AllHitCallback() {
-    this.raycastHits = new Array<>(false, 4);
-  }
-
-  public RaycastHit[] getHitsAndClear() {
-    RaycastHit[] hits = raycastHits.toArray();
-    raycastHits.clear();
-    return hits;
-  }
+  public RaycastHitBuffer hits;
 
   @Override
   public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
     if ((fixture.getFilterData().categoryBits & layerMask) != 0) {
-      RaycastHit hit = new RaycastHit();
-      hit.fixture = fixture;
-      hit.normal = normal;
-      hit.point = point;
-      raycastHits.add(hit);
-      return fraction;
+      hits.add().set(fixture, point, normal, fraction);
     }
-    return 1;
+    return 1; // Don't clip the ray, so hits further along are still reported
   }
 }
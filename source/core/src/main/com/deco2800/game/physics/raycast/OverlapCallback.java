@@ -0,0 +1,21 @@
+package com.deco2800.game.physics.raycast;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.utils.Array;
+
+/** Find all colliders that match the layer mask with bounds overlapping an area. */
+public class OverlapCallback implements QueryCallback {
+  public short layerMask = ~0;
+  public Array<Fixture> fixtures;
+  public int count;
+
+  @Override
+  public boolean reportFixture(Fixture fixture) {
+    if ((fixture.getFilterData().categoryBits & layerMask) != 0) {
+      fixtures.add(fixture);
+      count++;
+    }
+    return true; // Keep looking for more fixtures
+  }
+}
@@ -3,15 +3,38 @@ package com.deco2800.game.physics.raycast;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 
-/** Stores information about a raycast hit. */
+/** Stores information about a raycast hit. Reuse hits between raycasts to avoid allocating. */
 public class RaycastHit {
 
   /** Fixture which was hit. */
   public Fixture fixture;
 
   /** Point at which the raycast hit the fixture. */
-  public Vector2 point;
+  public Vector2 point = new Vector2();
 
   /** the normal vector of the collider surface at the hit point. */
-  public Vector2 normal;
+  public Vector2 normal = new Vector2();
+
+  /** Fraction of the way along the ray at which the fixture was hit, from 0 to 1. */
+  public float fraction;
+
+  /**
+   * Copy a hit reported by Box2D. The point and normal are copied, since Box2D reuses its vectors
+   * for every fixture reported.
+   */
+  void set(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+    this.fixture = fixture;
+    this.point.set(point);
+    this.normal.set(normal);
+    this.fraction = fraction;
+  }
+
+  /**
+   * Copy another hit into this one.
+   *
+   * @param other hit to copy
+   */
+  public void set(RaycastHit other) {
+    set(other.fixture, other.point, other.normal, other.fraction);
+  }
 }
@@ -0,0 +1,70 @@
+package com.deco2800.game.physics.raycast;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Reusable list of raycast hits, filled by {@link
+ * com.deco2800.game.physics.PhysicsEngine#raycastAll(float, float, float, float, short,
+ * RaycastHitBuffer)}. Hits are kept when the buffer is cleared, so filling it again only allocates
+ * if more hits are found than ever before.
+ */
+public class RaycastHitBuffer {
+  private final Array<RaycastHit> hits;
+  private int size = 0;
+
+  public RaycastHitBuffer() {
+    this(4);
+  }
+
+  /** @param capacity number of hits to allocate up front */
+  public RaycastHitBuffer(int capacity) {
+    hits = new Array<>(true, capacity, RaycastHit.class);
+    for (int i = 0; i < capacity; i++) {
+      hits.add(new RaycastHit());
+    }
+  }
+
+  /** @return number of hits in the buffer */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index index of the hit, less than {@link #size()}
+   * @return hit at the index, unordered. Only valid until the buffer is next filled.
+   */
+  public RaycastHit get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+    }
+    return hits.get(index);
+  }
+
+  /** @return the hit closest to the start of the ray, or null if there were no hits */
+  public RaycastHit getClosest() {
+    RaycastHit closest = null;
+    for (int i = 0; i < size; i++) {
+      RaycastHit hit = hits.get(i);
+      if (closest == null || hit.fraction < closest.fraction) {
+        closest = hit;
+      }
+    }
+    return closest;
+  }
+
+  /** Remove all hits, keeping them for reuse. */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      hits.get(i).fixture = null;
+    }
+    size = 0;
+  }
+
+  /** @return the next unused hit, added to the end of the buffer */
+  RaycastHit add() {
+    if (size == hits.size) {
+      hits.add(new RaycastHit());
+    }
+    return hits.get(size++);
+  }
+}
@@ -0,0 +1,149 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Builds each animation once and shares it between every entity which plays it, so spawning many
+ * of the same enemy doesn't search the atlas and copy its frames again for each one. Animations are
+ * keyed by atlas, region name, frame duration and play mode. Each {@link AnimationRenderComponent}
+ * keeps its own play time, so sharing an animation doesn't share playback.
+ *
+ * <p>Shared animations can't be changed. Animations from an atlas must be removed with {@link
+ * #remove(TextureAtlas)} when the atlas is disposed, which the resource service does when it
+ * unloads the atlas. Only used from the main thread.
+ */
+public class AnimationLibrary {
+  private final IdentityMap<TextureAtlas, AtlasAnimations> atlases = new IdentityMap<>();
+  // Reused to look up animations without allocating a key
+  private final Key lookup = new Key();
+  private int size = 0;
+
+  /**
+   * Get the shared animation of an atlas's regions, building it the first time it's asked for.
+   *
+   * @param atlas atlas containing the animation's frames
+   * @param name name of the animation's regions in the atlas
+   * @param frameDuration how long to show each frame, in seconds
+   * @param playMode how the animation should be played
+   * @return shared animation, or null if the atlas has no regions with the name
+   */
+  public Animation<TextureRegion> get(
+      TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+    AtlasAnimations cached = atlases.get(atlas);
+    if (cached == null) {
+      cached = new AtlasAnimations();
+      atlases.put(atlas, cached);
+    }
+
+    lookup.set(name, frameDuration, playMode);
+    Animation<TextureRegion> animation = cached.animations.get(lookup);
+    if (animation != null) {
+      return animation;
+    }
+
+    Array<AtlasRegion> regions = cached.regions.get(name);
+    if (regions == null) {
+      regions = atlas.findRegions(name);
+      if (regions == null || regions.size == 0) {
+        return null;
+      }
+      cached.regions.put(name, regions);
+    }
+    animation = new SharedAnimation(frameDuration, regions, playMode);
+    cached.animations.put(new Key().set(name, frameDuration, playMode), animation);
+    size++;
+    return animation;
+  }
+
+  /**
+   * Forget every animation from an atlas. Call when the atlas is disposed.
+   *
+   * @param atlas atlas which is being disposed
+   */
+  public void remove(TextureAtlas atlas) {
+    AtlasAnimations removed = atlases.remove(atlas);
+    if (removed != null) {
+      size -= removed.animations.size;
+    }
+  }
+
+  /** Forget every animation. */
+  public void clear() {
+    atlases.clear();
+    size = 0;
+  }
+
+  /** @return number of animations built */
+  public int size() {
+    return size;
+  }
+
+  private static class AtlasAnimations {
+    final ObjectMap<String, Array<AtlasRegion>> regions = new ObjectMap<>();
+    final ObjectMap<Key, Animation<TextureRegion>> animations = new ObjectMap<>();
+  }
+
+  private static class Key {
+    String name;
+    float frameDuration;
+    PlayMode playMode;
+
+    Key set(String name, float frameDuration, PlayMode playMode) {
+      this.name = name;
+      this.frameDuration = frameDuration;
+      this.playMode = playMode;
+      return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return name.equals(other.name)
+          && Float.compare(frameDuration, other.frameDuration) == 0
+          && playMode == other.playMode;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = name.hashCode();
+      hash = 31 * hash + Float.floatToIntBits(frameDuration);
+      return 31 * hash + playMode.ordinal();
+    }
+  }
+
+  /** Animation which can't be changed once built, since other entities are playing it. */
+  private static class SharedAnimation extends Animation<TextureRegion> {
+    private boolean built;
+
+    SharedAnimation(float frameDuration, Array<AtlasRegion> regions, PlayMode playMode) {
+      super(frameDuration, regions, playMode);
+      built = true;
+    }
+
+    @Override
+    public void setPlayMode(PlayMode playMode) {
+      if (built) {
+        throw new UnsupportedOperationException("Shared animations can't be changed");
+      }
+      super.setPlayMode(playMode);
+    }
+
+    @Override
+    public void setFrameDuration(float frameDuration) {
+      if (built) {
+        throw new UnsupportedOperationException("Shared animations can't be changed");
+      }
+      super.setFrameDuration(frameDuration);
+    }
+  }
+}
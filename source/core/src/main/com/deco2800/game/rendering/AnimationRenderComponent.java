@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,15 +33,21 @@ import java.util.Map;
  * - libgdx texture packer (included in External Libraries/gdx-tools) <br>
  * - gdx-texture-packer-gui (recommended) https://github.com/crashinvaders/gdx-texture-packer-gui <br>
  * - other third-party tools, e.g. https://www.codeandweb.com/texturepacker <br>
+ *
+ * <p>Animations are shared with other entities through the resource service's {@link
+ * AnimationLibrary}. The atlas belongs to the resource service, so isn't disposed with the
+ * component.
  */
 public class AnimationRenderComponent extends RenderComponent {
   private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
   private final GameTime timeSource;
   private final TextureAtlas atlas;
+  private final AnimationLibrary library;
   private final Map<String, Animation<TextureRegion>> animations;
   private Animation<TextureRegion> currentAnimation;
   private String currentAnimationName;
   private float animationPlayTime;
+  private final Vector2 position = new Vector2();
 
   /**
    * Create the component for a given texture atlas.
@@ -50,6 +57,8 @@ public class AnimationRenderComponent extends RenderComponent {
     this.atlas = atlas;
     this.animations = new HashMap<>(4);
     timeSource = ServiceLocator.getTimeSource();
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    library = resourceService == null ? null : resourceService.getAnimationLibrary();
   }
 
   /**
@@ -72,23 +81,35 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added successfully, false otherwise
    */
   public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-    Array<AtlasRegion> regions = atlas.findRegions(name);
-    if (regions == null || regions.size == 0) {
-      logger.warn("Animation {} not found in texture atlas", name);
-      return false;
-    } else if (animations.containsKey(name)) {
+    if (animations.containsKey(name)) {
       logger.warn(
           "Animation {} already added in texture atlas. Animations should only be added once.",
           name);
       return false;
     }
 
-    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
+    Animation<TextureRegion> animation = createAnimation(name, frameDuration, playMode);
+    if (animation == null) {
+      logger.warn("Animation {} not found in texture atlas", name);
+      return false;
+    }
     animations.put(name, animation);
     logger.debug("Adding animation {}", name);
     return true;
   }
 
+  private Animation<TextureRegion> createAnimation(
+      String name, float frameDuration, PlayMode playMode) {
+    if (library != null) {
+      return library.get(atlas, name, frameDuration, playMode);
+    }
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      return null;
+    }
+    return new Animation<>(frameDuration, regions, playMode);
+  }
+
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
     TextureRegion defaultTexture = this.atlas.findRegion("default");
@@ -172,9 +193,20 @@ public class AnimationRenderComponent extends RenderComponent {
       return;
     }
       TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-      Vector2 pos = entity.getPosition();
-      Vector2 scale = entity.getScale();
-      batch.draw(region, pos.x, pos.y, scale.x, scale.y);
+      getRenderPosition(position);
+      batch.draw(region, position.x, position.y, entity.getScaleX(), entity.getScaleY());
+    advancePlayTime();
+  }
+
+  @Override
+  protected void skipDraw() {
+    // Keep playing off screen, so the animation isn't frozen when it comes back into view
+    if (currentAnimation != null) {
+      advancePlayTime();
+    }
+  }
+
+  private void advancePlayTime() {
     if (this.enabled) {
       animationPlayTime += timeSource.getDeltaTime();
     }
@@ -182,7 +214,7 @@ public class AnimationRenderComponent extends RenderComponent {
 
   @Override
   public void dispose() {
-    atlas.dispose();
+    // The atlas belongs to the resource service, and may still be used by other entities or levels
     super.dispose();
   }
 }
@@ -11,7 +11,10 @@ import com.badlogic.gdx.physics.box2d.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Provides functionality to draw lines/shapes to the screen for debug purposes. */
+/**
+ * Provides functionality to draw lines/shapes to the screen for debug purposes. Shapes can be drawn
+ * from worker threads, e.g. by AI tasks evaluated in parallel.
+ */
 public class DebugRenderer {
   private static final Logger logger = LoggerFactory.getLogger(DebugRenderer.class);
   private final Box2DDebugRenderer physicsRenderer;
@@ -57,7 +60,7 @@ public class DebugRenderer {
    * @param color line color
    * @param lineWidth line width
    */
-  public void drawLine(Vector2 from, Vector2 to, Color color, float lineWidth) {
+  public synchronized void drawLine(Vector2 from, Vector2 to, Color color, float lineWidth) {
     ensureCapacity();
     DrawRequest request = drawRequests[requestCount];
     request.drawRequestType = DrawRequestType.LINE;
@@ -86,7 +89,7 @@ public class DebugRenderer {
    * @param color line color
    * @param lineWidth line width
    */
-  public void drawRectangle(Vector2 pos, Vector2 size, Color color, float lineWidth) {
+  public synchronized void drawRectangle(Vector2 pos, Vector2 size, Color color, float lineWidth) {
     ensureCapacity();
     DrawRequest request = drawRequests[requestCount];
     request.drawRequestType = DrawRequestType.RECT;
@@ -107,8 +110,10 @@ public class DebugRenderer {
     return active;
   }
 
-  public void render(Matrix4 projMatrix) {
+  public synchronized void render(Matrix4 projMatrix) {
     if (!active) {
+      // Still drop this frame's requests, or they pile up while debug drawing is off
+      requestCount = 0;
       return;
     }
 
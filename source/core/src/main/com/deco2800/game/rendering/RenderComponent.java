@@ -1,20 +1,35 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.components.Component;
+import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
  * A generic component for rendering an entity. Registers itself with the render service in order to
  * be rendered each frame. Child classes can implement different kinds of rendering behaviour.
+ *
+ * <p>When the Z index changes between frames, the component reports it to the render service so
+ * that its layer is re-sorted.
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  private RenderService renderService;
+  private float lastZIndex = Float.NaN;
+  private PhysicsComponent physicsComponent;
+  private boolean visible = true;
+  private final Vector2 boundsPosition = new Vector2();
 
   @Override
   public void create() {
-    ServiceLocator.getRenderService().register(this);
+    renderService = ServiceLocator.getRenderService();
+    renderService.register(this);
+    if (entity != null) {
+      physicsComponent = entity.getComponent(PhysicsComponent.class);
+    }
   }
 
   @Override
@@ -24,7 +39,46 @@ public abstract class RenderComponent extends Component implements Renderable, D
 
   @Override
   public void render(SpriteBatch batch) {
+    if (!visible) {
+      return;
+    }
     draw(batch);
+    checkZIndex();
+  }
+
+  @Override
+  public void renderCulled() {
+    if (!visible) {
+      return;
+    }
+    skipDraw();
+    checkZIndex();
+  }
+
+  /**
+   * Show or hide the component. Unlike {@link #setEnabled(boolean)}, which only stops updates, a
+   * hidden component isn't drawn.
+   *
+   * @param visible true to draw the component
+   */
+  public void setVisible(boolean visible) {
+    this.visible = visible;
+  }
+
+  /** @return true if the component is drawn */
+  public boolean isVisible() {
+    return visible;
+  }
+
+  private void checkZIndex() {
+    if (renderService == null) {
+      return;
+    }
+    float zIndex = getZIndex();
+    if (zIndex != lastZIndex) {
+      lastZIndex = zIndex;
+      renderService.markDirty(this);
+    }
   }
 
   @Override
@@ -40,7 +94,38 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getY();
+  }
+
+  /**
+   * Bounds of the entity, from where it's drawn and its scale. Child classes which draw outside of these
+   * bounds should override this, or return false to never be culled.
+   *
+   * @param out Rectangle to store the bounds in.
+   * @return true if the bounds were written to out
+   */
+  @Override
+  public boolean getBounds(Rectangle out) {
+    if (entity == null) {
+      return false;
+    }
+    getRenderPosition(boundsPosition);
+    out.set(boundsPosition.x, boundsPosition.y, entity.getScaleX(), entity.getScaleY());
+    return true;
+  }
+
+  /**
+   * Position to draw the entity at. Entities with physics are drawn between their last two physics
+   * steps, so their movement is smooth when the frame rate doesn't match the physics tick rate.
+   *
+   * @param out vector to store the position in
+   * @return out
+   */
+  protected Vector2 getRenderPosition(Vector2 out) {
+    if (physicsComponent != null) {
+      return physicsComponent.getInterpolatedPosition(out);
+    }
+    return out.set(entity.getX(), entity.getY());
   }
 
   /**
@@ -49,4 +134,11 @@ public abstract class RenderComponent extends Component implements Renderable, D
    * @param batch Batch to render to.
    */
   protected abstract void draw(SpriteBatch batch);
+
+  /**
+   * Called instead of {@link #draw(SpriteBatch)} on frames where the entity is outside the camera.
+   * Child classes which change state as they draw, such as advancing an animation, should do it
+   * here as well.
+   */
+  protected void skipDraw() {}
 }
@@ -1,26 +1,41 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 import com.deco2800.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
  * this service has render() called once per frame.
+ *
+ * <p>Each layer is only re-sorted when it has been marked dirty, either by registering a new
+ * renderable or by a renderable reporting a Z index change through {@link #markDirty(Renderable)}.
+ * Layers are usually close to sorted, so an insertion sort is used.
+ *
+ * <p>When given the camera's view bounds, renderables with bounds outside of the view aren't drawn,
+ * but still have {@link Renderable#renderCulled()} called so their per-frame state keeps up.
+ * Drawn and culled counts are kept for each layer, and sampled into the shared {@link RenderStats}.
  */
 public class RenderService implements Disposable {
   private static final int INITIAL_LAYER_CAPACITY = 4;
   private static final int INITIAL_CAPACITY = 4;
   private Stage stage;
   private DebugRenderer debugRenderer;
+  private final Rectangle bounds = new Rectangle();
+  private final Rectangle viewBounds = new Rectangle();
+  private boolean hasView = false;
+  private int drawnCount = 0;
+  private int culledCount = 0;
+  private final RenderStats stats = new RenderStats();
 
   /**
    * Map from layer to list of renderables, allows us to render each layer in the correct order
    */
-  private final SortedIntMap<Array<Renderable>> renderables =
-      new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final SortedIntMap<RenderLayer> renderables = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
 
   /**
    * Register a new renderable.
@@ -29,22 +44,38 @@ public class RenderService implements Disposable {
    */
   public void register(Renderable renderable) {
     int layerIndex = renderable.getLayer();
-    if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+    RenderLayer layer = renderables.get(layerIndex);
+    if (layer == null) {
+      layer = new RenderLayer(layerIndex);
+      renderables.put(layerIndex, layer);
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
-    layer.add(renderable);
+    layer.renderables.add(renderable);
+    layer.dirty = true;
   }
 
   /**
-   * Unregister a renderable.
+   * Unregister a renderable. Removal keeps the remaining renderables in order, so the layer does
+   * not need to be re-sorted.
    *
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
+    RenderLayer layer = renderables.get(renderable.getLayer());
     if (layer != null) {
-      layer.removeValue(renderable, true);
+      layer.renderables.removeValue(renderable, true);
+    }
+  }
+
+  /**
+   * Report that a renderable's Z index has changed, so its layer is re-sorted before the next
+   * render.
+   *
+   * @param renderable renderable which changed Z index.
+   */
+  public void markDirty(Renderable renderable) {
+    RenderLayer layer = renderables.get(renderable.getLayer());
+    if (layer != null) {
+      layer.dirty = true;
     }
   }
 
@@ -54,14 +85,105 @@ public class RenderService implements Disposable {
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
-    for (Array<Renderable> layer : renderables) {
-      // Sort into rendering order
-      layer.sort();
+    render(batch, null);
+  }
+
+  /**
+   * Trigger rendering on the given batch, skipping renderables outside of the view. This should be
+   * called only from the main renderer.
+   *
+   * @param batch batch to render to.
+   * @param view world space area visible to the camera, or null to render everything.
+   */
+  public void render(SpriteBatch batch, Rectangle view) {
+    drawnCount = 0;
+    culledCount = 0;
+    hasView = view != null;
+    if (hasView) {
+      viewBounds.set(view);
+    }
+    for (RenderLayer layer : renderables) {
+      // Sort into rendering order, only if something in the layer has changed
+      if (layer.dirty) {
+        layer.dirty = false;
+        insertionSort(layer.renderables);
+      }
 
-      for (Renderable renderable : layer) {
+      layer.drawnCount = 0;
+      layer.culledCount = 0;
+      for (Renderable renderable : layer.renderables) {
+        if (view != null && renderable.getBounds(bounds) && !view.overlaps(bounds)) {
+          renderable.renderCulled();
+          layer.culledCount++;
+          continue;
+        }
         renderable.render(batch);
+        layer.drawnCount++;
       }
+      drawnCount += layer.drawnCount;
+      culledCount += layer.culledCount;
     }
+    stats.set(RenderStats.Stat.DRAWN, drawnCount);
+    stats.set(RenderStats.Stat.CULLED, culledCount);
+  }
+
+  /**
+   * Stable insertion sort. This is O(n) when the layer is already sorted, and close to it when only a
+   * few renderables have moved since the last frame.
+   */
+  private static void insertionSort(Array<Renderable> layer) {
+    for (int i = 1; i < layer.size; i++) {
+      Renderable current = layer.get(i);
+      int j = i - 1;
+      while (j >= 0 && layer.get(j).compareTo(current) > 0) {
+        layer.set(j + 1, layer.get(j));
+        j--;
+      }
+      layer.set(j + 1, current);
+    }
+  }
+
+  /**
+   * Get the view the last frame was rendered with.
+   *
+   * @param out rectangle to store the view bounds in
+   * @return true if the last frame had a view, false if it rendered everything
+   */
+  public boolean getViewBounds(Rectangle out) {
+    if (hasView) {
+      out.set(viewBounds);
+    }
+    return hasView;
+  }
+
+  /** @return Number of renderables drawn in the last frame */
+  public int getDrawnCount() {
+    return drawnCount;
+  }
+
+  /** @return Number of renderables skipped in the last frame for being outside the view */
+  public int getCulledCount() {
+    return culledCount;
+  }
+
+  /**
+   * Get the drawn and culled counts of each layer in the last frame, in rendering order.
+   *
+   * @param layers layer indices are added to this array
+   * @param drawn number of renderables drawn in each layer are added to this array
+   * @param culled number of renderables culled in each layer are added to this array
+   */
+  public void getLayerCounts(IntArray layers, IntArray drawn, IntArray culled) {
+    for (RenderLayer layer : renderables) {
+      layers.add(layer.index);
+      drawn.add(layer.drawnCount);
+      culled.add(layer.culledCount);
+    }
+  }
+
+  /** @return Per-frame rendering stats, shared by everything which renders the game */
+  public RenderStats getStats() {
+    return stats;
   }
 
   public void setStage(Stage stage) {
@@ -84,4 +206,17 @@ public class RenderService implements Disposable {
   public void dispose() {
     renderables.clear();
   }
+
+  /** Renderables in a single layer, kept in Z index order. */
+  private static class RenderLayer {
+    private final Array<Renderable> renderables = new Array<>(INITIAL_CAPACITY);
+    private final int index;
+    private boolean dirty = false;
+    private int drawnCount = 0;
+    private int culledCount = 0;
+
+    private RenderLayer(int index) {
+      this.index = index;
+    }
+  }
 }
@@ -0,0 +1,134 @@
+package com.deco2800.game.rendering;
+
+/**
+ * Per-frame rendering counters, such as sprite batch flushes and texture binds, sampled into a ring
+ * buffer so the debug overlay can show the minimum, average and maximum over recent frames rather
+ * than a single noisy value.
+ *
+ * <p>Counters are added to during a frame and sampled by {@link #endFrame()}, which also resets
+ * them for the next frame.
+ */
+public class RenderStats {
+  public static final int DEFAULT_FRAMES = 120;
+
+  private final int frames;
+  private final int[][] samples;
+  private final int[] current = new int[Stat.values().length];
+  private int head = 0;
+  private int count = 0;
+  private boolean enabled = false;
+
+  public RenderStats() {
+    this(DEFAULT_FRAMES);
+  }
+
+  /** @param frames number of frames to keep samples for */
+  public RenderStats(int frames) {
+    if (frames <= 0) {
+      throw new IllegalArgumentException("Must keep at least one frame of samples");
+    }
+    this.frames = frames;
+    this.samples = new int[Stat.values().length][frames];
+  }
+
+  /**
+   * Whether expensive stats, like GL call counts, should be gathered. Cheap counters are always
+   * gathered.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /** Add to a counter for the current frame. */
+  public void add(Stat stat, int amount) {
+    current[stat.ordinal()] += amount;
+  }
+
+  /** Set a counter for the current frame. */
+  public void set(Stat stat, int value) {
+    current[stat.ordinal()] = value;
+  }
+
+  /** Sample every counter into the ring buffer, overwriting the oldest frame, then reset them. */
+  public void endFrame() {
+    for (int i = 0; i < current.length; i++) {
+      samples[i][head] = current[i];
+      current[i] = 0;
+    }
+    head = (head + 1) % frames;
+    if (count < frames) {
+      count++;
+    }
+  }
+
+  /** @return number of frames sampled, up to the size of the buffer */
+  public int getSampleCount() {
+    return count;
+  }
+
+  /** @return value from the most recently sampled frame, or 0 if none have been */
+  public int getLast(Stat stat) {
+    if (count == 0) {
+      return 0;
+    }
+    return samples[stat.ordinal()][(head + frames - 1) % frames];
+  }
+
+  /** @return smallest value over the sampled frames, or 0 if none have been */
+  public int getMin(Stat stat) {
+    if (count == 0) {
+      return 0;
+    }
+    int[] values = samples[stat.ordinal()];
+    int min = Integer.MAX_VALUE;
+    for (int i = 0; i < count; i++) {
+      min = Math.min(min, values[i]);
+    }
+    return min;
+  }
+
+  /** @return largest value over the sampled frames, or 0 if none have been */
+  public int getMax(Stat stat) {
+    int[] values = samples[stat.ordinal()];
+    int max = 0;
+    for (int i = 0; i < count; i++) {
+      max = Math.max(max, values[i]);
+    }
+    return max;
+  }
+
+  /** @return mean value over the sampled frames, or 0 if none have been */
+  public float getAverage(Stat stat) {
+    if (count == 0) {
+      return 0f;
+    }
+    int[] values = samples[stat.ordinal()];
+    long total = 0;
+    for (int i = 0; i < count; i++) {
+      total += values[i];
+    }
+    return (float) total / count;
+  }
+
+  /** Counters gathered each frame. */
+  public enum Stat {
+    /** Times the game sprite batch flushed to the GPU */
+    RENDER_CALLS,
+    /** Most sprites drawn by the game sprite batch in a single flush */
+    MAX_SPRITES_IN_BATCH,
+    /** Texture binds across all rendering, only gathered while enabled */
+    TEXTURE_BINDS,
+    /** GL draw calls across all rendering, only gathered while enabled */
+    DRAW_CALLS,
+    /** Renderables drawn */
+    DRAWN,
+    /** Renderables skipped for being outside the view */
+    CULLED,
+    /** Tiled map cells within the view, only gathered while enabled */
+    TERRAIN_CELLS
+  }
+}
@@ -1,6 +1,7 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -23,4 +24,20 @@ public interface Renderable extends Comparable<Renderable> {
    * @return layer
    */
   int getLayer();
+
+  /**
+   * World space bounds of the renderable, used to skip rendering when it is outside the camera.
+   * Renderables which don't have bounds (e.g. UI) are always rendered.
+   * @param out Rectangle to store the bounds in.
+   * @return true if the bounds were written to out, false if this renderable should never be culled.
+   */
+  default boolean getBounds(Rectangle out) {
+    return false;
+  }
+
+  /**
+   * Called instead of render() on frames where the renderable is outside the camera, so it can
+   * keep state which changes every frame, such as animation time, up to date.
+   */
+  default void renderCulled() {}
 }
@@ -3,11 +3,14 @@ package com.deco2800.game.rendering;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.deco2800.game.components.CameraComponent;
+import com.deco2800.game.rendering.RenderStats.Stat;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +18,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Core rendering system for the game. Controls the game's camera and runs rendering on all
  * renderables each frame.
+ *
+ * <p>Sprite batch flushes are sampled into the render service's {@link RenderStats} every frame.
+ * While the debug renderer is active, GL calls are also counted with a {@link GLProfiler}, which is
+ * disabled again afterwards since it wraps every GL call.
  */
 public class Renderer implements Disposable {
   private static final float GAME_SCREEN_WIDTH = 20f;
@@ -26,6 +33,8 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private final Rectangle viewBounds = new Rectangle();
+  private GLProfiler profiler;
 
   /**
    * Create a new renderer with default settings
@@ -95,14 +104,44 @@ public class Renderer implements Disposable {
     Matrix4 projMatrix = camera.getProjectionMatrix();
     batch.setProjectionMatrix(projMatrix);
     Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    RenderStats stats = renderService.getStats();
+    updateProfiler(stats);
 
+    batch.maxSpritesInBatch = 0;
     batch.begin();
-    renderService.render(batch);
+    renderService.render(batch, camera.getBounds(viewBounds));
     batch.end();
+    // Read before the stage draws, since it may share the batch
+    stats.set(Stat.RENDER_CALLS, batch.renderCalls);
+    stats.set(Stat.MAX_SPRITES_IN_BATCH, batch.maxSpritesInBatch);
     debugRenderer.render(projMatrix);
 
     stage.act();
     stage.draw();
+
+    if (profiler != null && profiler.isEnabled()) {
+      stats.set(Stat.TEXTURE_BINDS, profiler.getTextureBindings());
+      stats.set(Stat.DRAW_CALLS, profiler.getDrawCalls());
+      profiler.reset();
+    }
+    stats.endFrame();
+  }
+
+  /** Only profile GL calls while the debug stats can be seen. */
+  private void updateProfiler(RenderStats stats) {
+    boolean profiling = debugRenderer.getActive();
+    stats.setEnabled(profiling);
+    if (profiling) {
+      if (profiler == null) {
+        profiler = new GLProfiler(Gdx.graphics);
+      }
+      if (!profiler.isEnabled()) {
+        profiler.enable();
+        profiler.reset();
+      }
+    } else if (profiler != null && profiler.isEnabled()) {
+      profiler.disable();
+    }
   }
 
   /**
@@ -132,6 +171,9 @@ public class Renderer implements Disposable {
 
   @Override
   public void dispose() {
+    if (profiler != null) {
+      profiler.disable();
+    }
     stage.dispose();
     batch.dispose();
   }
@@ -4,42 +4,69 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 
-/** Render a static texture. */
+/**
+ * Render a static texture. Textures loaded by path are drawn from their packed atlas region if
+ * they've been packed, so consecutive sprites can share a texture. See {@link
+ * ResourceService#packTextures(String[])}.
+ */
 public class TextureRenderComponent extends RenderComponent {
   private final Texture texture;
-  private TextureRegion textureRegion;
+  private final TextureRegion textureRegion;
   private float rotation = 0;
+  private final Vector2 position = new Vector2();
 
   /**
    * @param texturePath internal path of static teture to render. Will be scaled to the entity's
    *     scale.
    */
   public TextureRenderComponent(String texturePath) {
-    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService.isPacked(texturePath)) {
+      this.texture = null;
+      this.textureRegion = resourceService.getTextureRegion(texturePath);
+    } else {
+      this.texture = resourceService.getAsset(texturePath, Texture.class);
+      this.textureRegion = null;
+    }
   }
 
   public TextureRenderComponent(String texturePath, float rotation) {
-    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+    this(texturePath);
     this.rotation = rotation;
-    textureRegion = new TextureRegion(this.texture);
   }
 
   /** @param texture Static texture to render. Will be scaled to the entity's scale. */
   public TextureRenderComponent(Texture texture) {
     this.texture = texture;
+    this.textureRegion = null;
+  }
+
+  /** @param textureRegion Static region to render. Will be scaled to the entity's scale. */
+  public TextureRenderComponent(TextureRegion textureRegion) {
+    this.texture = null;
+    this.textureRegion = textureRegion;
   }
 
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
-    entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    if (textureRegion != null) {
+      entity.setScale(
+          1f, (float) textureRegion.getRegionHeight() / textureRegion.getRegionWidth());
+    } else {
+      entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    }
   }
 
   @Override
   public void draw(SpriteBatch batch) {
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
-    batch.draw(texture, position.x, position.y, scale.x, scale.y);
+    getRenderPosition(position);
+    if (textureRegion != null) {
+      batch.draw(textureRegion, position.x, position.y, entity.getScaleX(), entity.getScaleY());
+    } else {
+      batch.draw(texture, position.x, position.y, entity.getScaleX(), entity.getScaleY());
+    }
   }
 }
@@ -8,6 +8,8 @@ import com.deco2800.game.entities.EntityService;
 import com.deco2800.game.entities.factories.RenderFactory;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.Renderer;
+import com.deco2800.game.services.AssetLoadHandle;
+import com.deco2800.game.services.AssetManifest;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -26,6 +28,9 @@ public class IntroScreen extends ScreenAdapter {
             "images/screen4.png",
             "images/screen5.png"};
     private static final String[] mainMenuClickSounds = {"sounds/click.mp3"};
+    private final AssetManifest introAssets = new AssetManifest();
+    private AssetLoadHandle introLoad;
+    private boolean uiCreated = false;
 
     /**
      * Constructor for the intro screen. Takes the current GdxGame
@@ -45,11 +50,17 @@ public class IntroScreen extends ScreenAdapter {
         this.resourceService = ServiceLocator.getResourceService();
 
         loadAssets();
-        createUI();
     }
 
     @Override
     public void render(float delta) {
+        // The ui is created once its assets have loaded, without blocking the first frames
+        if (!uiCreated) {
+            resourceService.loadForMillis(ResourceService.FRAME_LOAD_BUDGET_MILLIS);
+            if (introLoad.isDone()) {
+                createUI();
+            }
+        }
         ServiceLocator.getEntityService().update();
         renderer.render();
     }
@@ -71,27 +82,22 @@ public class IntroScreen extends ScreenAdapter {
     }
 
     /**
-     * Loads all the assets required for the game scenes.
+     * Starts loading all the assets required for the game scenes.
      */
     private void loadAssets() {
         logger.debug("Loading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadMusic(introScreenMusic);
-
-        resourceService.loadTextures(screenTextures);
-        resourceService.loadSounds(mainMenuClickSounds);
-        ServiceLocator.getResourceService().loadAll();
+        introAssets.music = introScreenMusic;
+        introAssets.textures = screenTextures;
+        introAssets.sounds = mainMenuClickSounds;
+        introLoad = resourceService.acquire(introAssets);
     }
 
     /**
-     * Unloads assets loaded through loadAssets.
+     * Releases assets acquired through loadAssets.
      */
     private void unloadAssets() {
-        logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(screenTextures);
-        resourceService.unloadAssets(introScreenMusic);
-        resourceService.unloadAssets(mainMenuClickSounds);
+        logger.debug("Releasing assets");
+        resourceService.release(introAssets);
     }
 
     /**
@@ -103,5 +109,6 @@ public class IntroScreen extends ScreenAdapter {
         Entity ui = new Entity();
         ui.addComponent(new IntroDisplay(game));
         ServiceLocator.getEntityService().register(ui);
+        uiCreated = true;
     }
 }
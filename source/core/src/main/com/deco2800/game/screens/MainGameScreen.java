@@ -19,10 +19,12 @@ import com.deco2800.game.entities.factories.RenderFactory;
 import com.deco2800.game.input.InputComponent;
 import com.deco2800.game.input.InputDecorator;
 import com.deco2800.game.input.InputService;
+import com.deco2800.game.files.UserSettings;
 import com.deco2800.game.physics.PhysicsEngine;
 import com.deco2800.game.physics.PhysicsService;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.Renderer;
+import com.deco2800.game.services.AssetManifest;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
@@ -38,8 +40,7 @@ import org.slf4j.LoggerFactory;
  */
 public class MainGameScreen extends ScreenAdapter {
   private static final Logger logger = LoggerFactory.getLogger(MainGameScreen.class);
-  private static final String[] mainGameTextures = {"images/heart.png",
-          "images/lives_icon2.png"};
+  /* Popup textures are loaded with the game manifest in configs/levelAssets.json */
 
   /* Textures for the pause menu */
   private static final String[] pauseMenuTextures =
@@ -67,20 +68,7 @@ public class MainGameScreen extends ScreenAdapter {
                   "images/no.png",
                   "images/yes.png"};
 
-  /* Textures for the buffs and debuffs */
-  private static final String[] buffsAndDebuffsTextures =
-          {"images/Invincibility.png",
-                  "images/decreaseHealth.png",
-                  "images/Double Hurt.png",
-                  "images/decrease20Pickup.png",
-                  "images/increase20Pickup.png",
-                  "images/oxygen .png",
-                  "images/sprint (1).png"};
-
   private static final Vector2 CAMERA_POSITION = new Vector2(10f, 7.5f);
-  /* background and click effect */
-  private static final String[] mainMenuMusic = {"sounds/background.mp3"};
-  private static final String[] mainMenuClickSounds = {"sounds/click.mp3"};
   private final GdxGame game;
   private final Renderer renderer;
   private final PhysicsEngine physicsEngine;
@@ -88,6 +76,8 @@ public class MainGameScreen extends ScreenAdapter {
   public SaveData saveData;
 
   private ForestGameArea currentMap;
+  private AssetManifest[] levelAssets;
+  private Level level;
   private final TerrainFactory terrainFactory;
   private Entity ui;
 
@@ -110,8 +100,11 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerTimeSource(new GameTime());
 
     PhysicsService physicsService = new PhysicsService();
+    // Buff spawning checks for nearby enemies
+    physicsService.enableSpatialHash();
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
+    physicsEngine.setTickRate(UserSettings.get().physicsRate);
 
     ServiceLocator.registerInputService(new InputService());
     ServiceLocator.registerResourceService(resourceService);
@@ -123,7 +116,7 @@ public class MainGameScreen extends ScreenAdapter {
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
     renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
 
-    loadAssets();
+    loadAssets(level);
 
     logger.debug("Initialising main game screen entities");
     this.terrainFactory = new TerrainFactory(renderer.getCamera());
@@ -158,8 +151,11 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerTimeSource(new GameTime());
 
     PhysicsService physicsService = new PhysicsService();
+    // Buff spawning checks for nearby enemies
+    physicsService.enableSpatialHash();
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
+    physicsEngine.setTickRate(UserSettings.get().physicsRate);
 
     ServiceLocator.registerInputService(new InputService());
     ServiceLocator.registerResourceService(resourceService);
@@ -171,7 +167,7 @@ public class MainGameScreen extends ScreenAdapter {
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
     renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
 
-    loadAssets();
+    loadAssets(level);
     load();
     logger.debug("Initialising main game screen entities");
     this.terrainFactory = new TerrainFactory(renderer.getCamera());
@@ -192,8 +188,11 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerTimeSource(new GameTime());
 
     PhysicsService physicsService = new PhysicsService();
+    // Buff spawning checks for nearby enemies
+    physicsService.enableSpatialHash();
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
+    physicsEngine.setTickRate(UserSettings.get().physicsRate);
 
     ServiceLocator.registerInputService(new InputService());
     ServiceLocator.registerResourceService(resourceService);
@@ -205,7 +204,7 @@ public class MainGameScreen extends ScreenAdapter {
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
     renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
 
-    loadAssets();
+    loadAssets(level);
     load();
     logger.debug("Initialising main game screen entities");
     this.terrainFactory = new TerrainFactory(renderer.getCamera());
@@ -269,8 +268,11 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerTimeSource(new GameTime());
 
     PhysicsService physicsService = new PhysicsService();
+    // Buff spawning checks for nearby enemies
+    physicsService.enableSpatialHash();
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
+    physicsEngine.setTickRate(UserSettings.get().physicsRate);
 
     ServiceLocator.registerInputService(new InputService());
     ServiceLocator.registerResourceService(resourceService);
@@ -282,7 +284,7 @@ public class MainGameScreen extends ScreenAdapter {
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
     renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
 
-    loadAssets();
+    loadAssets(Level.ONE);
     load();
     logger.debug("Initialising main game screen entities");
     //TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
@@ -302,14 +304,14 @@ public class MainGameScreen extends ScreenAdapter {
   public void render(float delta) {
     if (game.getState() == GdxGame.GameState.RUNNING) {
       this.currentMap.introCam(CAMERA_POSITION,7, 2.5f, renderer.getCamera());
-      this.currentMap.resetCam(renderer.getCamera());
       physicsEngine.update();
       ServiceLocator.getEntityService().update();
+      this.currentMap.resetCam(renderer.getCamera());
     }
 
     if (game.getScreenType() == GdxGame.ScreenType.MAIN_GAME ||
             game.getScreenType() == GdxGame.ScreenType.RESPAWN1){
-      this.currentMap.isPause(game.getState(), this.currentMap.getAllEntities(), 2.5f, game.getScreenType());
+      this.currentMap.isPause(game.getState(), this.currentMap.getEntityStore(), 2.5f, game.getScreenType());
 
     }
 
@@ -342,40 +344,36 @@ public class MainGameScreen extends ScreenAdapter {
 
     ServiceLocator.getEntityService().dispose();
     ServiceLocator.getRenderService().dispose();
-    ServiceLocator.getResourceService().dispose();
 
     this.buffManager.disposeAll();
 
     ServiceLocator.clear();
   }
 
-  private void loadAssets() {
+  /**
+   * Acquire the level's asset manifests. Assets still loaded from the previous level or the loading
+   * screen are kept, so only the level's new assets have to be loaded here.
+   *
+   * @param level level being played
+   */
+  private void loadAssets(Level level) {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(mainGameTextures);
-
-    /* Load the textures for the pop-up menus */
-    resourceService.loadTextures(pauseMenuTextures);
-    resourceService.loadTextures(winMenuTextures);
-    resourceService.loadTextures(lossMenuTextures);
-    resourceService.loadTextures(finalLossTextures);
-    resourceService.loadTextures(buffsAndDebuffsTextures);
-    resourceService.loadSounds(mainMenuMusic);
-    resourceService.loadSounds(mainMenuClickSounds);
-    ServiceLocator.getResourceService().loadAll();
+    this.level = level;
+    levelAssets = LevelAssets.forLevel(level);
+    resourceService.acquire(levelAssets);
+    // Share atlas pages between sprites, so they're drawn without switching textures. The level's
+    // own textures get their own pages, which are disposed when the level's textures are unloaded.
+    // The loading screen has usually packed them already, so this only waits if it hasn't
+    resourceService.packTextures(LevelAssets.getShared().textures);
+    resourceService.packTextures(LevelAssets.getLevel(level).textures);
+    resourceService.loadAll();
   }
 
+  /** Release the level's manifests, to be unloaded once the next screen has acquired its own. */
   private void unloadAssets() {
-    logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(mainGameTextures);
-    resourceService.unloadAssets(pauseMenuTextures);
-    resourceService.unloadAssets(winMenuTextures);
-    resourceService.unloadAssets(lossMenuTextures);
-    resourceService.unloadAssets(finalLossTextures);
-    resourceService.unloadAssets(buffsAndDebuffsTextures);
-    resourceService.unloadAssets(mainMenuMusic);
-    resourceService.unloadAssets(mainMenuClickSounds);
+    logger.debug("Releasing assets");
+    ServiceLocator.getResourceService().release(levelAssets);
   }
 
   /**
@@ -390,7 +388,7 @@ public class MainGameScreen extends ScreenAdapter {
 
     this.ui = new Entity();
     ui.addComponent(new InputDecorator(stage, 10))
-        .addComponent(new PerformanceDisplay())
+        .addComponent(new PerformanceDisplay(this.currentMap))
         .addComponent(new MainGameActions(this.game))
         .addComponent(new MainGameExitDisplay())
         .addComponent(new Terminal())
@@ -405,6 +403,7 @@ public class MainGameScreen extends ScreenAdapter {
         .addComponent(new FinalLossPopUp(this.game, currentMap.getPlayer(),
                 new PopupUIHandler(finalLossTextures)))
         .addComponent(new PopupMenuActions(this.game, this.currentMap))
+        .addComponent(new LevelPreloadComponent(currentMap.getPlayer(), this.level))
         .addComponent(this.buffManager = new BuffManager(this,
                 this.currentMap));
 
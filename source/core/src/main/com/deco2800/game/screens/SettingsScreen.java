@@ -11,6 +11,8 @@ import com.deco2800.game.input.InputDecorator;
 import com.deco2800.game.input.InputService;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.Renderer;
+import com.deco2800.game.services.AssetLoadHandle;
+import com.deco2800.game.services.AssetManifest;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
@@ -26,6 +28,9 @@ public class SettingsScreen extends ScreenAdapter {
   ResourceService resourceService;
 
   private static final String[] mainMenuMusic = {"sounds/background.mp3"};
+  private final AssetManifest settingsAssets = new AssetManifest();
+  private AssetLoadHandle settingsLoad;
+  private boolean uiCreated = false;
 
   public SettingsScreen(GdxGame game) {
     this.game = game;
@@ -42,11 +47,16 @@ public class SettingsScreen extends ScreenAdapter {
     this.resourceService = ServiceLocator.getResourceService();
 
     loadAssets();
-    createUI();
   }
 
   @Override
   public void render(float delta) {
+    if (!uiCreated) {
+      resourceService.loadForMillis(ResourceService.FRAME_LOAD_BUDGET_MILLIS);
+      if (settingsLoad.isDone()) {
+        createUI();
+      }
+    }
     ServiceLocator.getEntityService().update();
     renderer.render();
   }
@@ -59,23 +69,24 @@ public class SettingsScreen extends ScreenAdapter {
   @Override
   public void dispose() {
     renderer.dispose();
-    unloadAssets();
     ServiceLocator.getRenderService().dispose();
+    // The ui stops its music when disposed, so unload afterwards
     ServiceLocator.getEntityService().dispose();
+    unloadAssets();
     ServiceLocator.clear();
   }
 
   private void loadAssets() {
     logger.debug("Loading music");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadMusic(mainMenuMusic);
-    ServiceLocator.getResourceService().loadAll();
+    settingsAssets.music = mainMenuMusic;
+    settingsLoad = resourceService.acquire(settingsAssets);
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(mainMenuMusic);
+    // This screen has its own resource service, so nothing else will unload them
+    resourceService.release(settingsAssets);
+    resourceService.unloadUnreferenced();
   }
 
   /**
@@ -88,5 +99,6 @@ public class SettingsScreen extends ScreenAdapter {
     Entity ui = new Entity();
     ui.addComponent(new SettingsMenuDisplay(game)).addComponent(new InputDecorator(stage, 10));
     ServiceLocator.getEntityService().register(ui);
+    uiCreated = true;
   }
 }
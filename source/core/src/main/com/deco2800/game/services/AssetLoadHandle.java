@@ -0,0 +1,43 @@
+package com.deco2800.game.services;
+
+/**
+ * Tracks the assets queued by one call to {@link ResourceService#acquire(AssetManifest...)}, so a
+ * screen can show progress and wait for its own assets without blocking. Only updated from the
+ * render thread, by {@link ResourceService#loadForMillis(int)} or {@link ResourceService#loadAll()}.
+ */
+public class AssetLoadHandle {
+  private int total = 0;
+  private int finished = 0;
+  private int failed = 0;
+
+  void add() {
+    total++;
+  }
+
+  void finish(boolean loaded) {
+    finished++;
+    if (!loaded) {
+      failed++;
+    }
+  }
+
+  /** @return number of assets which needed loading */
+  public int getTotal() {
+    return total;
+  }
+
+  /** @return fraction of the assets which have finished loading, from 0 to 1 */
+  public float getProgress() {
+    return total == 0 ? 1f : (float) finished / total;
+  }
+
+  /** @return true once every asset has loaded or failed to load */
+  public boolean isDone() {
+    return finished >= total;
+  }
+
+  /** @return number of assets which couldn't be loaded */
+  public int getFailedCount() {
+    return failed;
+  }
+}
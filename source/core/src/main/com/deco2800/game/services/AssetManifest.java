@@ -0,0 +1,18 @@
+package com.deco2800.game.services;
+
+/**
+ * Assets needed by a screen or level, grouped by type. Manifests are read from JSON configs and
+ * passed to {@link ResourceService#acquire(AssetManifest...)}, so assets shared between manifests
+ * stay loaded while any of them are in use.
+ */
+public class AssetManifest {
+  public String[] textures = {};
+  public String[] textureAtlases = {};
+  public String[] sounds = {};
+  public String[] music = {};
+
+  /** @return total number of assets in the manifest */
+  public int size() {
+    return textures.length + textureAtlases.length + sounds.length + music.length;
+  }
+}
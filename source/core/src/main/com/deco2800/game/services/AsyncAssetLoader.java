@@ -0,0 +1,297 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.TextureData.TextureDataType;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.deco2800.game.concurrency.JobSystem;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads textures, texture atlases, sounds and music without blocking the render thread. Reading
+ * and decoding files happens in jobs on {@link JobSystem#launchBlocking}, a few at a time so
+ * decoded images don't pile up in memory. Uploading images to the GPU has to happen on the render
+ * thread, so {@link #update(int)} finishes as many loads as fit in a time budget each frame.
+ *
+ * <p>Everything other than the decoding jobs must be called from the render thread.
+ */
+class AsyncAssetLoader {
+  private static final Logger logger = LoggerFactory.getLogger(AsyncAssetLoader.class);
+  private static final int MAX_DECODE_JOBS = 4;
+
+  private final ObjectMap<String, Object> assets = new ObjectMap<>();
+  // Assets waiting to be decoded or uploaded, in the order they were queued
+  private final Array<PendingAsset> pending = new Array<>();
+  private final ObjectMap<String, PendingAsset> pendingByName = new ObjectMap<>();
+  private int decoding = 0;
+
+  /**
+   * Queue an asset to load. If it's already queued, the handle also waits for it.
+   *
+   * @param name internal path of the asset
+   * @param type texture, texture atlas, sound or music
+   * @param handle handle to report to when the asset has loaded
+   */
+  void load(String name, Class<?> type, AssetLoadHandle handle) {
+    PendingAsset asset = pendingByName.get(name);
+    if (asset == null) {
+      asset = new PendingAsset(name, type);
+      pending.add(asset);
+      pendingByName.put(name, asset);
+    }
+    asset.cancelled = false;
+    asset.handles.add(handle);
+    handle.add();
+  }
+
+  /** @return true if the asset is queued and hasn't finished loading */
+  boolean isLoading(String name) {
+    PendingAsset asset = pendingByName.get(name);
+    return asset != null && !asset.cancelled;
+  }
+
+  /** @return the loaded asset, or null if it isn't loaded or is another type */
+  <T> T get(String name, Class<T> type) {
+    Object asset = assets.get(name);
+    return type.isInstance(asset) ? type.cast(asset) : null;
+  }
+
+  /**
+   * Dispose a loaded asset, or cancel it if it's still loading.
+   *
+   * @param name internal path of the asset
+   * @return true if the asset was loaded or queued by this loader
+   */
+  boolean unload(String name) {
+    Object asset = assets.remove(name);
+    if (asset != null) {
+      ((Disposable) asset).dispose();
+      return true;
+    }
+    PendingAsset loading = pendingByName.get(name);
+    if (loading == null || loading.cancelled) {
+      return false;
+    }
+    cancel(loading);
+    return true;
+  }
+
+  /**
+   * Finish loading whichever assets are ready, for up to a time budget. At least one asset is
+   * finished each call if any are ready, so loading always makes progress.
+   *
+   * @param budgetMillis time to spend uploading assets
+   * @return true once nothing is left to load
+   */
+  boolean update(int budgetMillis) {
+    long end = System.nanoTime() + budgetMillis * 1000000L;
+    do {
+      startJobs();
+      PendingAsset decoded = nextDecoded();
+      if (decoded == null) {
+        break;
+      }
+      finish(decoded);
+    } while (System.nanoTime() < end);
+    startJobs();
+    return pending.isEmpty();
+  }
+
+  /** Block until every queued asset has loaded. */
+  void finishLoading() {
+    while (pending.notEmpty()) {
+      startJobs();
+      finish(pending.first());
+    }
+  }
+
+  /** Dispose every loaded asset and cancel everything still loading. */
+  void clear() {
+    for (Object asset : assets.values()) {
+      ((Disposable) asset).dispose();
+    }
+    assets.clear();
+    for (PendingAsset asset : pending) {
+      asset.cancelled = true;
+      finishHandles(asset, false);
+      if (asset.job != null) {
+        asset.job.thenAccept(AsyncAssetLoader::disposeDecoded);
+      }
+    }
+    pending.clear();
+    pendingByName.clear();
+    decoding = 0;
+  }
+
+  private void cancel(PendingAsset asset) {
+    asset.cancelled = true;
+    finishHandles(asset, false);
+    if (asset.job == null) {
+      pending.removeValue(asset, true);
+      pendingByName.remove(asset.name);
+    }
+  }
+
+  private void startJobs() {
+    for (int i = 0; i < pending.size && decoding < MAX_DECODE_JOBS; i++) {
+      PendingAsset asset = pending.get(i);
+      if (asset.job == null) {
+        String name = asset.name;
+        Class<?> type = asset.type;
+        asset.job = JobSystem.launchBlocking(() -> decode(name, type));
+        decoding++;
+      }
+    }
+  }
+
+  private PendingAsset nextDecoded() {
+    for (PendingAsset asset : pending) {
+      if (asset.job != null && asset.job.isDone()) {
+        return asset;
+      }
+    }
+    return null;
+  }
+
+  /** Wait for an asset's job, then upload it on this thread. */
+  private void finish(PendingAsset asset) {
+    pending.removeValue(asset, true);
+    pendingByName.remove(asset.name);
+    decoding--;
+
+    Object decoded;
+    try {
+      decoded = asset.job.join();
+    } catch (CompletionException e) {
+      logger.error("Could not load {}: {}", asset.name, e.getCause().getMessage());
+      finishHandles(asset, false);
+      return;
+    }
+    if (asset.cancelled) {
+      disposeDecoded(decoded);
+      return;
+    }
+    assets.put(asset.name, upload(asset.type, decoded));
+    finishHandles(asset, true);
+  }
+
+  private static void finishHandles(PendingAsset asset, boolean loaded) {
+    for (AssetLoadHandle handle : asset.handles) {
+      handle.finish(loaded);
+    }
+    asset.handles.clear();
+  }
+
+  /** Read and decode an asset's files. Runs on a job thread, so mustn't touch GL. */
+  private static Object decode(String name, Class<?> type) {
+    FileHandle file = Gdx.files.internal(name);
+    if (!file.exists()) {
+      throw new GdxRuntimeException("File not found: " + name);
+    }
+    if (type == Texture.class) {
+      return decodeTexture(file, null, false);
+    } else if (type == TextureAtlas.class) {
+      TextureAtlasData data = new TextureAtlasData(file, file.parent(), false);
+      Array<TextureData> pages = new Array<>(data.getPages().size);
+      for (TextureAtlasData.Page page : data.getPages()) {
+        pages.add(decodeTexture(page.textureFile, page.format, page.useMipMaps));
+      }
+      return new DecodedAtlas(data, pages);
+    } else if (type == Sound.class) {
+      return Gdx.audio.newSound(file);
+    } else {
+      return Gdx.audio.newMusic(file);
+    }
+  }
+
+  /** Read and decode an image, ready to upload. Safe to call from a job thread. */
+  static TextureData decodeTexture(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+    TextureData data = TextureData.Factory.loadFromFile(file, format, useMipMaps);
+    if (!data.isPrepared()) {
+      data.prepare();
+    }
+    return data;
+  }
+
+  /** Create GL objects from decoded data. Must run on the render thread. */
+  private static Object upload(Class<?> type, Object decoded) {
+    if (type == Texture.class) {
+      return new Texture((TextureData) decoded);
+    } else if (type == TextureAtlas.class) {
+      DecodedAtlas atlas = (DecodedAtlas) decoded;
+      return uploadAtlas(atlas.data, atlas.pages);
+    }
+    return decoded;
+  }
+
+  /**
+   * Create an atlas from its data and decoded pages. Must run on the render thread.
+   *
+   * @param data atlas data
+   * @param pages decoded image for each of the data's pages, in order
+   * @return atlas, which disposes the page textures with itself
+   */
+  static TextureAtlas uploadAtlas(TextureAtlasData data, Array<TextureData> pages) {
+    Array<TextureAtlasData.Page> dataPages = data.getPages();
+    for (int i = 0; i < dataPages.size; i++) {
+      // The atlas sets each page's filter and wrap
+      dataPages.get(i).texture = new Texture(pages.get(i));
+    }
+    return new TextureAtlas(data);
+  }
+
+  private static void disposeDecoded(Object decoded) {
+    if (decoded instanceof TextureData) {
+      disposeTextureData((TextureData) decoded);
+    } else if (decoded instanceof DecodedAtlas) {
+      for (TextureData page : ((DecodedAtlas) decoded).pages) {
+        disposeTextureData(page);
+      }
+    } else if (decoded instanceof Disposable) {
+      ((Disposable) decoded).dispose();
+    }
+  }
+
+  /** Free a decoded image which won't be uploaded. */
+  static void disposeTextureData(TextureData data) {
+    if (data.getType() == TextureDataType.Pixmap && data.isPrepared() && data.disposePixmap()) {
+      data.consumePixmap().dispose();
+    }
+  }
+
+  private static class PendingAsset {
+    final String name;
+    final Class<?> type;
+    final Array<AssetLoadHandle> handles = new Array<>(false, 2);
+    CompletableFuture<Object> job;
+    boolean cancelled = false;
+
+    PendingAsset(String name, Class<?> type) {
+      this.name = name;
+      this.type = type;
+    }
+  }
+
+  private static class DecodedAtlas {
+    final TextureAtlasData data;
+    final Array<TextureData> pages;
+
+    DecodedAtlas(TextureAtlasData data, Array<TextureData> pages) {
+      this.data = data;
+      this.pages = pages;
+    }
+  }
+}
@@ -1,22 +1,67 @@
 package com.deco2800.game.services;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.deco2800.game.concurrency.JobSystem;
+import com.deco2800.game.rendering.AnimationLibrary;
+import com.deco2800.game.services.TextureAtlasPacker.PackedAtlas;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
+ *
+ * <p>Textures can also be packed into shared atlas pages with {@link #packTextures(String[])}.
+ * {@link #getTextureRegion(String)} then returns the packed region, so sprites drawn from the same
+ * page don't break up the sprite batch. Packing runs on a job and is uploaded by the same calls
+ * which finish loading.
+ *
+ * <p>Screens and levels should {@link #acquire(AssetManifest...)} the manifests they need and
+ * {@link #release(AssetManifest...)} them when done. Assets are reference counted across manifests,
+ * and released assets are only unloaded by {@link #unloadUnreferenced()}. Calling that once the
+ * next screen has acquired its manifests means a transition only loads the assets it adds and
+ * unloads the assets it drops, keeping everything shared loaded.
+ *
+ * <p>Acquired textures, atlases, sounds and music load without blocking: files are decoded on job
+ * threads, and {@link #loadForMillis(int)} uploads them a frame budget at a time. The {@link
+ * AssetLoadHandle} returned by acquire shows when a screen's own assets are ready.
  */
 public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+  /** Time to spend loading each frame while a screen is drawn, in milliseconds */
+  public static final int FRAME_LOAD_BUDGET_MILLIS = 8;
+  private static final String ATLAS_CACHE_DIR = "DECO2800Game/atlas-cache";
   private final AssetManager assetManager;
+  private final AsyncAssetLoader asyncLoader = new AsyncAssetLoader();
+  private final AnimationLibrary animationLibrary = new AnimationLibrary();
+  private TextureAtlasPacker atlasPacker;
+  // Texture name to its region in a packed atlas, and the atlas it's in
+  private final ObjectMap<String, TextureRegion> packedRegions = new ObjectMap<>();
+  private final ObjectMap<String, TextureAtlas> packedAtlases = new ObjectMap<>();
+  // Textures being packed on jobs, and textures which couldn't be packed so aren't tried again
+  private final Array<PendingPack> pendingPacks = new Array<>();
+  private final ObjectSet<String> unpackable = new ObjectSet<>();
+  // Regions covering whole textures which weren't packed
+  private final ObjectMap<String, TextureRegion> looseRegions = new ObjectMap<>();
+  // Number of acquired manifests using each asset, and released assets waiting to be unloaded
+  private final ObjectIntMap<String> references = new ObjectIntMap<>();
+  private final ObjectSet<String> unreferenced = new ObjectSet<>();
 
   public ResourceService() {
     this(new AssetManager());
@@ -35,7 +80,8 @@ public class ResourceService implements Disposable {
    * @see AssetManager#get(String, Class)
    */
   public <T> T getAsset(String filename, Class<T> type) {
-    return assetManager.get(filename, type);
+    T asset = asyncLoader.get(filename, type);
+    return asset != null ? asset : assetManager.get(filename, type);
   }
 
   /**
@@ -47,7 +93,8 @@ public class ResourceService implements Disposable {
    * @see AssetManager#contains(String)
    */
   public <T> boolean containsAsset(String resourceName, Class<T> type) {
-    return assetManager.contains(resourceName, type);
+    return asyncLoader.get(resourceName, type) != null
+        || assetManager.contains(resourceName, type);
   }
 
   /**
@@ -66,6 +113,10 @@ public class ResourceService implements Disposable {
    */
   public void loadAll() {
     logger.debug("Loading all assets");
+    asyncLoader.finishLoading();
+    while (pendingPacks.notEmpty()) {
+      finishPack(pendingPacks.first());
+    }
     try {
       assetManager.finishLoading();
     } catch (Exception e) {
@@ -74,7 +125,8 @@ public class ResourceService implements Disposable {
   }
 
   /**
-   * Loads assets for the specified duration in milliseconds.
+   * Loads assets for the specified duration in milliseconds. Call once a frame with {@link
+   * #FRAME_LOAD_BUDGET_MILLIS} to load without stalling the screen.
    *
    * @param duration duration to load for
    * @return finished loading
@@ -82,12 +134,21 @@ public class ResourceService implements Disposable {
    */
   public boolean loadForMillis(int duration) {
     logger.debug("Loading assets for {} ms", duration);
+    boolean asyncFinished = asyncLoader.update(duration);
+    // Each packed atlas takes a few page uploads, so finish at most one a frame
+    for (PendingPack pack : pendingPacks) {
+      if (pack.job.isDone()) {
+        finishPack(pack);
+        break;
+      }
+    }
+    asyncFinished = asyncFinished && pendingPacks.isEmpty();
     try {
-      return assetManager.update(duration);
+      return assetManager.update(duration) && asyncFinished;
     } catch (Exception e) {
       logger.error(e.getMessage());
     }
-    return assetManager.isFinished();
+    return assetManager.isFinished() && asyncFinished;
   }
 
   /**
@@ -97,9 +158,180 @@ public class ResourceService implements Disposable {
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
+    cancelPacks();
+    disposePackedAtlases();
+    references.clear();
+    unreferenced.clear();
+    animationLibrary.clear();
+    asyncLoader.clear();
     assetManager.clear();
   }
 
+  /** @return animations shared between entities, built from loaded texture atlases */
+  public AnimationLibrary getAnimationLibrary() {
+    return animationLibrary;
+  }
+
+  /**
+   * Set where packed atlases are cached between launches. Defaults to a directory in the user's
+   * home.
+   *
+   * @param cacheDir cache directory, or null to pack textures every time
+   */
+  public void setAtlasCache(FileHandle cacheDir) {
+    atlasPacker = new TextureAtlasPacker(cacheDir);
+  }
+
+  /**
+   * Queue textures to be packed into shared atlas pages, so they can be drawn without switching
+   * textures. Hashing and decoding the images runs on a job, and the pages are uploaded by {@link
+   * #loadForMillis(int)} or {@link #loadAll()}. The textures themselves stay loaded for code which
+   * needs them directly. Textures which have already been packed or queued, or are too large to
+   * share a page, are left out.
+   *
+   * @param textureNames texture filenames
+   */
+  public void packTextures(String[] textureNames) {
+    Array<String> toPack = new Array<>(String.class);
+    for (String textureName : textureNames) {
+      if (!packedRegions.containsKey(textureName)
+          && !unpackable.contains(textureName)
+          && !isPackPending(textureName)) {
+        toPack.add(textureName);
+      }
+    }
+    if (toPack.isEmpty()) {
+      return;
+    }
+
+    if (atlasPacker == null) {
+      setAtlasCache(Gdx.files.external(ATLAS_CACHE_DIR));
+    }
+    TextureAtlasPacker packer = atlasPacker;
+    String[] names = toPack.toArray();
+    pendingPacks.add(new PendingPack(names, JobSystem.launchBlocking(() -> packer.prepare(names))));
+  }
+
+  /** @return number of packs queued which haven't been uploaded yet */
+  int getPendingPackCount() {
+    return pendingPacks.size;
+  }
+
+  private boolean isPackPending(String textureName) {
+    for (PendingPack pack : pendingPacks) {
+      if (pack.names.contains(textureName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Wait for a pack's job, then upload its atlas on this thread. */
+  private void finishPack(PendingPack pack) {
+    pendingPacks.removeValue(pack, true);
+    PackedAtlas packed;
+    try {
+      packed = pack.job.join();
+    } catch (CompletionException e) {
+      logger.error("Could not pack textures: {}", e.getCause().getMessage());
+      unpackable.addAll(pack.names);
+      return;
+    }
+
+    TextureAtlas atlas = packed == null ? null : TextureAtlasPacker.upload(packed);
+    int packedCount = 0;
+    if (atlas != null) {
+      // Textures unloaded while packing are left out
+      for (AtlasRegion region : atlas.getRegions()) {
+        if (pack.names.contains(region.name)) {
+          packedRegions.put(region.name, region);
+          packedAtlases.put(region.name, atlas);
+          packedCount++;
+        }
+      }
+      if (packedCount == 0) {
+        atlas.dispose();
+      }
+    }
+    for (String textureName : pack.names) {
+      if (!packedRegions.containsKey(textureName)) {
+        unpackable.add(textureName);
+      }
+    }
+    logger.info(
+        "Packed {} of {} textures in {} ms",
+        packedCount,
+        pack.names.size,
+        System.currentTimeMillis() - pack.start);
+  }
+
+  private void cancelPacks() {
+    for (PendingPack pack : pendingPacks) {
+      pack.job.thenAccept(TextureAtlasPacker::dispose);
+    }
+    pendingPacks.clear();
+    unpackable.clear();
+  }
+
+  /**
+   * Get a region to draw a texture with. If the texture has been packed, this is its region in the
+   * atlas. Otherwise it covers the whole loaded texture.
+   *
+   * @param textureName texture filename
+   * @return region of the texture
+   */
+  public TextureRegion getTextureRegion(String textureName) {
+    TextureRegion region = packedRegions.get(textureName);
+    if (region == null) {
+      region = looseRegions.get(textureName);
+      if (region == null) {
+        region = new TextureRegion(getAsset(textureName, Texture.class));
+        looseRegions.put(textureName, region);
+      }
+    }
+    return region;
+  }
+
+  /**
+   * @param textureName texture filename
+   * @return true if the texture has been packed into an atlas
+   */
+  public boolean isPacked(String textureName) {
+    return packedRegions.containsKey(textureName);
+  }
+
+  /** Remove a texture's packed region, disposing its atlas once no textures in it are left. */
+  private void unpackTexture(String textureName) {
+    looseRegions.remove(textureName);
+    for (PendingPack pack : pendingPacks) {
+      pack.names.remove(textureName);
+    }
+    TextureAtlas atlas = packedAtlases.remove(textureName);
+    if (atlas == null) {
+      return;
+    }
+    packedRegions.remove(textureName);
+    for (AtlasRegion region : atlas.getRegions()) {
+      if (packedAtlases.get(region.name) == atlas) {
+        return;
+      }
+    }
+    atlas.dispose();
+  }
+
+  private void disposePackedAtlases() {
+    ObjectSet<TextureAtlas> atlases = new ObjectSet<>();
+    for (TextureAtlas atlas : packedAtlases.values()) {
+      atlases.add(atlas);
+    }
+    for (TextureAtlas atlas : atlases) {
+      atlas.dispose();
+    }
+    packedRegions.clear();
+    packedAtlases.clear();
+    looseRegions.clear();
+  }
+
   /**
    * Loads a single asset into the asset manager.
    *
@@ -171,17 +403,136 @@ public class ResourceService implements Disposable {
 
   public void unloadAssets(String[] assetNames) {
     for (String assetName : assetNames) {
-      logger.debug("Unloading {}", assetName);
-      try {
-        assetManager.unload(assetName);
-      } catch (Exception e) {
-        logger.error("Could not unload {}", assetName);
+      unloadAsset(assetName);
+    }
+  }
+
+  private void unloadAsset(String assetName) {
+    logger.debug("Unloading {}", assetName);
+    unpackTexture(assetName);
+    TextureAtlas atlas = asyncLoader.get(assetName, TextureAtlas.class);
+    if (atlas == null && assetManager.isLoaded(assetName, TextureAtlas.class)) {
+      atlas = assetManager.get(assetName, TextureAtlas.class);
+    }
+    if (atlas != null) {
+      animationLibrary.remove(atlas);
+    }
+    if (asyncLoader.unload(assetName)) {
+      return;
+    }
+    try {
+      assetManager.unload(assetName);
+    } catch (Exception e) {
+      logger.error("Could not unload {}", assetName);
+    }
+  }
+
+  /**
+   * Start using the assets in some manifests. Assets which aren't already loaded are queued, to be
+   * loaded by {@link #loadAll()} or {@link #loadForMillis(int)}. Released assets which haven't
+   * been unloaded yet are kept.
+   *
+   * @param manifests manifests to acquire
+   * @return handle which is done once every asset in the manifests has loaded
+   */
+  public AssetLoadHandle acquire(AssetManifest... manifests) {
+    AssetLoadHandle handle = new AssetLoadHandle();
+    for (AssetManifest manifest : manifests) {
+      acquireAssets(manifest.textures, Texture.class, handle);
+      acquireAssets(manifest.textureAtlases, TextureAtlas.class, handle);
+      acquireAssets(manifest.sounds, Sound.class, handle);
+      acquireAssets(manifest.music, Music.class, handle);
+    }
+    return handle;
+  }
+
+  private <T> void acquireAssets(String[] assetNames, Class<T> type, AssetLoadHandle handle) {
+    for (String assetName : assetNames) {
+      boolean kept =
+          references.getAndIncrement(assetName, 0, 1) > 0 || unreferenced.remove(assetName);
+      if (!kept && assetManager.isLoaded(assetName)) {
+        // Already loaded the old way, so just count another use of it
+        loadAsset(assetName, type);
+      } else if (!kept || asyncLoader.isLoading(assetName)) {
+        asyncLoader.load(assetName, type, handle);
       }
     }
   }
 
+  /**
+   * Stop using the assets in some manifests. Assets no longer used by any manifest are unloaded by
+   * the next call to {@link #unloadUnreferenced()}, unless they're acquired again first.
+   *
+   * @param manifests manifests to release, which must have been acquired
+   */
+  public void release(AssetManifest... manifests) {
+    for (AssetManifest manifest : manifests) {
+      releaseAssets(manifest.textures);
+      releaseAssets(manifest.textureAtlases);
+      releaseAssets(manifest.sounds);
+      releaseAssets(manifest.music);
+    }
+  }
+
+  private void releaseAssets(String[] assetNames) {
+    for (String assetName : assetNames) {
+      int count = references.get(assetName, 0);
+      if (count == 0) {
+        logger.warn("Releasing {} which wasn't acquired", assetName);
+      } else if (count == 1) {
+        references.remove(assetName, 0);
+        unreferenced.add(assetName);
+      } else {
+        references.put(assetName, count - 1);
+      }
+    }
+  }
+
+  /**
+   * Unload every released asset which hasn't been acquired again. Call after the next screen or
+   * level has acquired its manifests.
+   *
+   * @return number of assets unloaded
+   */
+  public int unloadUnreferenced() {
+    int unloaded = unreferenced.size;
+    for (String assetName : unreferenced) {
+      unloadAsset(assetName);
+    }
+    unreferenced.clear();
+    if (unloaded > 0) {
+      logger.info("Unloaded {} unreferenced assets", unloaded);
+    }
+    return unloaded;
+  }
+
+  /**
+   * @param assetName asset path
+   * @return number of acquired manifests using the asset
+   */
+  public int getReferenceCount(String assetName) {
+    return references.get(assetName, 0);
+  }
+
   @Override
   public void dispose() {
+    cancelPacks();
+    disposePackedAtlases();
+    references.clear();
+    unreferenced.clear();
+    animationLibrary.clear();
+    asyncLoader.clear();
     assetManager.clear();
   }
+
+  private static class PendingPack {
+    final ObjectSet<String> names = new ObjectSet<>();
+    final CompletableFuture<PackedAtlas> job;
+    final long start = System.currentTimeMillis();
+
+    PendingPack(String[] names, CompletableFuture<PackedAtlas> job) {
+      this.names.addAll(names);
+      this.job = job;
+    }
+  }
 }
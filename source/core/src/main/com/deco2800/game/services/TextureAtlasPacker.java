@@ -0,0 +1,212 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Packs loose images into texture atlas pages at runtime, so sprites drawn one after another can
+ * share a texture and the sprite batch doesn't have to flush between them. Images too large to
+ * share a page are left out, and should be drawn from their own texture.
+ *
+ * <p>Packing is split so the slow part, hashing and decoding images, can run on a job thread with
+ * {@link #prepare(String[])}, leaving only {@link #upload(PackedAtlas)} for the render thread.
+ *
+ * <p>Packed atlases are saved to a cache directory, named by a hash of the images' contents. Later
+ * launches load the cached pages instead of packing again, and any change to the images gives a new
+ * hash, so stale atlases are never used.
+ */
+public class TextureAtlasPacker {
+  private static final Logger logger = LoggerFactory.getLogger(TextureAtlasPacker.class);
+  public static final int PAGE_SIZE = 2048;
+  public static final int MAX_IMAGE_SIZE = 1024;
+  private static final int PADDING = 2;
+  // Change when the packing settings change, so old cached atlases aren't used
+  private static final String CACHE_VERSION = "1";
+
+  private final FileHandle cacheDir;
+
+  /** @param cacheDir directory to save packed atlases in, or null to pack every time */
+  public TextureAtlasPacker(FileHandle cacheDir) {
+    this.cacheDir = cacheDir;
+  }
+
+  /**
+   * Pack images into an atlas, or load the atlas from the cache if the images have been packed
+   * before. Each region is named by the internal path of its image. Blocks until the atlas has been
+   * uploaded, so must run on the render thread.
+   *
+   * @param imageNames internal paths of the images
+   * @return atlas containing every image which fit, or null if none did
+   */
+  public TextureAtlas pack(String[] imageNames) {
+    PackedAtlas packed = prepare(imageNames);
+    return packed == null ? null : upload(packed);
+  }
+
+  /**
+   * Hash, decode and pack images, or read and decode the cached atlas, without touching GL. This
+   * is the slow part of packing, so run it on a job thread and {@link #upload(PackedAtlas)} the
+   * result on the render thread.
+   *
+   * @param imageNames internal paths of the images
+   * @return decoded atlas pages containing every image which fit, or null if none did
+   */
+  public PackedAtlas prepare(String[] imageNames) {
+    FileHandle atlasFile = null;
+    if (cacheDir != null) {
+      atlasFile = cacheDir.child(hash(imageNames) + ".atlas");
+      if (atlasFile.exists()) {
+        try {
+          return decodeAtlas(atlasFile);
+        } catch (GdxRuntimeException e) {
+          logger.warn("Failed to load cached atlas {}, packing again", atlasFile, e);
+        }
+      }
+    }
+
+    PixmapPacker packer =
+        new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+    int packed = 0;
+    for (String imageName : imageNames) {
+      FileHandle file = Gdx.files.internal(imageName);
+      if (!file.exists()) {
+        continue;
+      }
+      Pixmap pixmap = new Pixmap(file);
+      if (pixmap.getWidth() <= MAX_IMAGE_SIZE && pixmap.getHeight() <= MAX_IMAGE_SIZE) {
+        packer.pack(imageName, pixmap);
+        packed++;
+      }
+      pixmap.dispose();
+    }
+    if (packed == 0) {
+      packer.dispose();
+      return null;
+    }
+
+    if (atlasFile != null) {
+      try {
+        new PixmapPackerIO().save(atlasFile, packer);
+        PackedAtlas saved = decodeAtlas(atlasFile);
+        packer.dispose();
+        return saved;
+      } catch (IOException | GdxRuntimeException e) {
+        logger.warn("Failed to cache atlas {}", atlasFile, e);
+      }
+    }
+    return new PackedAtlas(packer);
+  }
+
+  /**
+   * Upload prepared atlas pages to the GPU. Must run on the render thread.
+   *
+   * @param packed atlas returned by {@link #prepare(String[])}
+   * @return atlas containing every packed image
+   */
+  public static TextureAtlas upload(PackedAtlas packed) {
+    if (packed.packer == null) {
+      return AsyncAssetLoader.uploadAtlas(packed.data, packed.pages);
+    }
+    // The packer's pixmaps are only needed until an atlas has been made from them
+    TextureAtlas atlas =
+        packed.packer.generateTextureAtlas(TextureFilter.Nearest, TextureFilter.Nearest, false);
+    packed.packer.dispose();
+    return atlas;
+  }
+
+  /**
+   * Free prepared atlas pages which won't be uploaded.
+   *
+   * @param packed atlas returned by {@link #prepare(String[])}, or null
+   */
+  public static void dispose(PackedAtlas packed) {
+    if (packed == null) {
+      return;
+    }
+    if (packed.packer != null) {
+      packed.packer.dispose();
+    } else {
+      for (TextureData page : packed.pages) {
+        AsyncAssetLoader.disposeTextureData(page);
+      }
+    }
+  }
+
+  private static PackedAtlas decodeAtlas(FileHandle atlasFile) {
+    TextureAtlasData data = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
+    Array<TextureData> pages = new Array<>(data.getPages().size);
+    try {
+      for (TextureAtlasData.Page page : data.getPages()) {
+        pages.add(AsyncAssetLoader.decodeTexture(page.textureFile, page.format, page.useMipMaps));
+      }
+    } catch (GdxRuntimeException e) {
+      for (TextureData page : pages) {
+        AsyncAssetLoader.disposeTextureData(page);
+      }
+      throw e;
+    }
+    return new PackedAtlas(data, pages);
+  }
+
+  /** @return hex hash of the packing settings and every image's path and contents */
+  static String hash(String[] imageNames) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    digest.update(CACHE_VERSION.getBytes(StandardCharsets.UTF_8));
+    for (String imageName : imageNames) {
+      digest.update(imageName.getBytes(StandardCharsets.UTF_8));
+      FileHandle file = Gdx.files.internal(imageName);
+      if (file.exists()) {
+        digest.update(file.readBytes());
+      }
+    }
+
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Atlas pages which have been packed or read from the cache, but not uploaded to the GPU yet.
+   * Either atlas data with its decoded pages, or a packer holding the pages when they couldn't be
+   * cached.
+   */
+  public static class PackedAtlas {
+    private final TextureAtlasData data;
+    private final Array<TextureData> pages;
+    private final PixmapPacker packer;
+
+    private PackedAtlas(TextureAtlasData data, Array<TextureData> pages) {
+      this.data = data;
+      this.pages = pages;
+      this.packer = null;
+    }
+
+    private PackedAtlas(PixmapPacker packer) {
+      this.data = null;
+      this.pages = null;
+      this.packer = packer;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.deco2800.game.ui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.deco2800.game.rendering.RenderComponent;
@@ -32,4 +33,10 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     return 1f;
   }
 
+  @Override
+  public boolean getBounds(Rectangle out) {
+    // UI is drawn in screen space, so is never culled
+    return false;
+  }
+
 }
@@ -0,0 +1,56 @@
+package com.deco2800.game.ui.terminal.commands;
+
+import com.deco2800.game.events.EventTracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for dumping or clearing the event trace. Tracing must be enabled when starting the game
+ * with -Dgame.trace=true.
+ */
+public class TraceCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(TraceCommand.class);
+
+  /**
+   * Dumps the event trace to the log, or clears it, if the corresponding argument is received.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'trace' command: {}", args);
+      return false;
+    }
+
+    if (!EventTracer.ENABLED) {
+      logger.info("Tracing is disabled, start the game with -Dgame.trace=true to enable it");
+      return false;
+    }
+
+    String arg = args.get(0);
+    switch (arg) {
+      case "dump":
+        logger.info("Event trace ({} records):", EventTracer.size());
+        for (String line : EventTracer.dump()) {
+          logger.info(line);
+        }
+        return true;
+      case "clear":
+        EventTracer.clear();
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'trace' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() == 1;
+  }
+}
@@ -8,8 +8,9 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 
 /**
- * A map sorted by the value of key with O(1) iteration. put/get/contains are O(n). useful when we
- * don't modify values often, but want to iterate quickly.
+ * A map sorted by the value of key with O(1) iteration. get/containsKey are O(log n) using a binary
+ * search over the keys, and put is O(n) due to shifting. useful when we don't modify values often,
+ * but want to iterate quickly.
  *
  * @param <V> Class type to map
  */
@@ -32,7 +33,7 @@ public class SortedIntMap<V> implements Iterable<V> {
    * @return true if map contains key
    */
   public boolean containsKey(int key) {
-    return keys.contains(key);
+    return indexOf(key) >= 0;
   }
 
   /**
@@ -44,26 +45,18 @@ public class SortedIntMap<V> implements Iterable<V> {
   }
 
   /**
-   * Put key, value pair in map
+   * Put key, value pair in map. Replaces the value if the key is already in the map.
    *
    * @param key key
    * @param value value
    */
   public void put(int key, V value) {
-    if (keys.size == 0) {
-      insertAt(0, key, value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      values.set(index, value);
       return;
     }
-
-    for (int i = 0; i < keys.size; i++) {
-      if (keys.get(i) >= key) {
-        insertAt(i, key, value);
-        return;
-      }
-    }
-
-    keys.add(key);
-    values.add(value);
+    insertAt(-(index + 1), key, value);
   }
 
   /**
@@ -73,8 +66,8 @@ public class SortedIntMap<V> implements Iterable<V> {
    * @return map value or null if not found
    */
   public V get(int key) {
-    int index = keys.indexOf(key);
-    if (index == -1) {
+    int index = indexOf(key);
+    if (index < 0) {
       return null;
     }
     return values.get(index);
@@ -101,6 +94,29 @@ public class SortedIntMap<V> implements Iterable<V> {
     return values.spliterator();
   }
 
+  /**
+   * Binary search for a key.
+   *
+   * @param key key to find
+   * @return index of the key if found, otherwise (-(insertion point) - 1)
+   */
+  private int indexOf(int key) {
+    int low = 0;
+    int high = keys.size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int midKey = keys.get(mid);
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
   private void insertAt(int i, int key, V value) {
     keys.insert(i, key);
     values.insert(i, value);
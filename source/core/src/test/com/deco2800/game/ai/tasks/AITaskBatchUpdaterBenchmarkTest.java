@@ -0,0 +1,124 @@
+package com.deco2800.game.ai.tasks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.components.tasks.ChaseTask;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.rendering.DebugRenderer;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs how long an AI tick takes with sequential and parallel evaluation as the number of enemies
+ * grows. Tagged so it only runs in the benchmarkTest task.
+ */
+@Tag("benchmark")
+@ExtendWith(GameExtension.class)
+class AITaskBatchUpdaterBenchmarkTest {
+  private static final Logger logger =
+      LoggerFactory.getLogger(AITaskBatchUpdaterBenchmarkTest.class);
+  private static final int[] ENEMY_COUNTS = {10, 100, 1000};
+  private static final int TICKS = 20;
+  private static final int WARMUP_TICKS = 50;
+
+  private final GameTime gameTime = mock(GameTime.class);
+  private PhysicsEngine physics;
+  private Entity target;
+  private Array<Component> components;
+
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerTimeSource(gameTime);
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    RenderService renderService = new RenderService();
+    renderService.setDebug(mock(DebugRenderer.class, withSettings().stubOnly()));
+    ServiceLocator.registerRenderService(renderService);
+  }
+
+  @Test
+  void shouldTimeTicksByEnemyCount() {
+    for (int count : ENEMY_COUNTS) {
+      long sequentialNanos = time(new AITaskBatchUpdater(false), count);
+      long parallelNanos = time(new AITaskBatchUpdater(true), count);
+      logger.info(
+          "{} enemies: sequential {} us/tick, parallel {} us/tick",
+          count,
+          sequentialNanos / TICKS / 1000,
+          parallelNanos / TICKS / 1000);
+    }
+  }
+
+  private long time(AITaskBatchUpdater updater, int enemyCount) {
+    setUp(enemyCount);
+    for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+      tick(updater, tick);
+    }
+    long start = System.nanoTime();
+    for (int tick = 0; tick < TICKS; tick++) {
+      tick(updater, tick);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private void tick(AITaskBatchUpdater updater, int tick) {
+    target.setPosition(0.5f + (tick % 2) * 0.5f, 0f);
+    physics.update();
+    updater.update(components);
+  }
+
+  private void setUp(int enemyCount) {
+    physics = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+    ServiceLocator.registerPhysicsService(new PhysicsService(physics));
+    target = new Entity();
+
+    Entity wall =
+        new Entity()
+            .addComponent(new PhysicsComponent(physics).setBodyType(BodyType.StaticBody))
+            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+    wall.setScale(0.5f, 40f);
+    wall.setPosition(2f, -20f);
+    wall.create();
+
+    components = new Array<>(enemyCount);
+    for (int i = 0; i < enemyCount; i++) {
+      AITaskComponent ai =
+          new AITaskComponent().addTask(new IdleTask()).addTask(new ChaseTask(target, 10, 4f, 6f));
+      Entity enemy =
+          new Entity()
+              .addComponent(new PhysicsComponent(physics))
+              .addComponent(new PhysicsMovementComponent())
+              .addComponent(ai);
+      enemy.setPosition(-10f + (i % 50) * 0.4f, -5f + (i / 50) * 0.25f);
+      enemy.create();
+      components.add(ai);
+    }
+  }
+
+  private static class IdleTask extends DefaultTask implements PriorityTask {
+    @Override
+    public int getPriority() {
+      return 1;
+    }
+  }
+}
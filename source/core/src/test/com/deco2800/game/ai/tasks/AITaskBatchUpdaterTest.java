@@ -0,0 +1,185 @@
+package com.deco2800.game.ai.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.components.tasks.ChaseTask;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PerceptionService;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.rendering.DebugRenderer;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Checks that evaluating AI in parallel chooses the same tasks as evaluating it on the main thread,
+ * and that only large batches are split into jobs. {@link AITaskBatchUpdaterBenchmarkTest} times
+ * them.
+ */
+@ExtendWith(GameExtension.class)
+class AITaskBatchUpdaterTest {
+  private static final int[] ENEMY_COUNTS = {10, 100, 1000};
+  private static final int SWEEP_TICKS = 60;
+
+  private final GameTime gameTime = mock(GameTime.class);
+  private PhysicsEngine physics;
+  private Entity target;
+  private Array<Component> components;
+
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerTimeSource(gameTime);
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    RenderService renderService = new RenderService();
+    renderService.setDebug(mock(DebugRenderer.class, withSettings().stubOnly()));
+    ServiceLocator.registerRenderService(renderService);
+  }
+
+  @Test
+  void shouldMatchSequentialUpdates() {
+    List<String> sequential = run(new AITaskBatchUpdater(false), 500, SWEEP_TICKS);
+    List<String> parallel = run(new AITaskBatchUpdater(true), 500, SWEEP_TICKS);
+    assertEquals(sequential, parallel);
+    // Sights refresh on different physics steps, which must not depend on evaluation order either
+    assertTrue(physics.getStepCount() >= SWEEP_TICKS);
+
+    // Some enemies chase, and some can't see the target through the wall
+    assertTrue(sequential.stream().anyMatch(tasks -> tasks.contains("C")));
+    assertTrue(sequential.stream().anyMatch(tasks -> tasks.contains("I")));
+  }
+
+  @Test
+  void shouldSplitLargeBatchesIntoJobs() {
+    for (int count : ENEMY_COUNTS) {
+      Thread[] threads = new Thread[count];
+      components = new Array<>(count);
+      for (int i = 0; i < count; i++) {
+        AITaskComponent ai = new AITaskComponent().addTask(new ThreadRecordingTask(threads, i));
+        new Entity().addComponent(ai).create();
+        components.add(ai);
+      }
+      new AITaskBatchUpdater(true).update(components);
+
+      Thread main = Thread.currentThread();
+      if (count < AITaskBatchUpdater.PARALLEL_THRESHOLD) {
+        for (Thread thread : threads) {
+          assertSame(main, thread);
+        }
+        continue;
+      }
+      // The first chunk runs on the calling thread, and every other chunk is one job on a worker
+      for (int start = 0; start < count; start += AITaskBatchUpdater.CHUNK_SIZE) {
+        int end = Math.min(count, start + AITaskBatchUpdater.CHUNK_SIZE);
+        if (start == 0) {
+          assertSame(main, threads[start]);
+        } else {
+          assertNotSame(main, threads[start]);
+        }
+        for (int i = start; i < end; i++) {
+          assertSame(threads[start], threads[i]);
+        }
+      }
+    }
+  }
+
+  /** @return for each tick, one character per enemy for the task it ran */
+  private List<String> run(AITaskBatchUpdater updater, int enemyCount, int ticks) {
+    setUp(enemyCount);
+    List<String> results = new ArrayList<>(ticks);
+    for (int tick = 0; tick < ticks; tick++) {
+      tick(updater, tick);
+      StringBuilder tasks = new StringBuilder(enemyCount);
+      for (Component component : components) {
+        PriorityTask task = ((AITaskComponent) component).getCurrentTask();
+        tasks.append(task == null ? '-' : task instanceof ChaseTask ? 'C' : 'I');
+      }
+      results.add(tasks.toString());
+    }
+    return results;
+  }
+
+  private void tick(AITaskBatchUpdater updater, int tick) {
+    // Sweep the target slowly across the wall, so cached sights only refresh when their step comes
+    target.setPosition(0.5f + (tick % SWEEP_TICKS) * 0.05f, 0f);
+    physics.update();
+    updater.update(components);
+  }
+
+  private void setUp(int enemyCount) {
+    physics = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+    ServiceLocator.registerPhysicsService(new PhysicsService(physics));
+    // Sights refresh on a step chosen by their observer's ID, so start each world at the same phase
+    while (new Entity().getId() % PerceptionService.DEFAULT_REFRESH_STEPS != 0) {
+      // Skip an entity ID
+    }
+    target = new Entity();
+
+    Entity wall =
+        new Entity()
+            .addComponent(new PhysicsComponent(physics).setBodyType(BodyType.StaticBody))
+            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+    wall.setScale(0.5f, 40f);
+    wall.setPosition(2f, -20f);
+    wall.create();
+
+    components = new Array<>(enemyCount);
+    for (int i = 0; i < enemyCount; i++) {
+      AITaskComponent ai =
+          new AITaskComponent().addTask(new IdleTask()).addTask(new ChaseTask(target, 10, 4f, 6f));
+      Entity enemy =
+          new Entity()
+              .addComponent(new PhysicsComponent(physics))
+              .addComponent(new PhysicsMovementComponent())
+              .addComponent(ai);
+      enemy.setPosition(-10f + (i % 50) * 0.4f, -5f + (i / 50) * 0.25f);
+      enemy.create();
+      components.add(ai);
+    }
+  }
+
+  /** Records which thread evaluated each component. */
+  private static class ThreadRecordingTask extends DefaultTask implements PriorityTask {
+    private final Thread[] threads;
+    private final int index;
+
+    ThreadRecordingTask(Thread[] threads, int index) {
+      this.threads = threads;
+      this.index = index;
+    }
+
+    @Override
+    public int getPriority() {
+      threads[index] = Thread.currentThread();
+      return -1;
+    }
+  }
+
+  private static class IdleTask extends DefaultTask implements PriorityTask {
+    @Override
+    public int getPriority() {
+      return 1;
+    }
+  }
+}
@@ -67,6 +67,22 @@ class AITaskComponentTest {
     verify(highPriorityTask, times(1)).update();
   }
 
+  @Test
+  void shouldOnlyStartTaskWhenApplied() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    taskComponent.addTask(task);
+
+    taskComponent.evaluate();
+    verify(task, times(0)).start();
+
+    taskComponent.apply();
+    verify(task).start();
+    verify(task).update();
+    verify(task, times(1)).getPriority();
+  }
+
   @Test
   void shouldStopTaskOnDispose() {
     AITaskComponent taskComponent = new AITaskComponent();
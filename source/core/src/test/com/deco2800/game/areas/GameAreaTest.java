@@ -11,6 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +47,46 @@ class GameAreaTest {
     verify(entity).dispose();
   }
 
+  @Test
+  void shouldRemoveUnregisteredEntities() {
+    GameArea gameArea =
+        new GameArea() {
+          @Override
+          public void create() {}
+        };
+
+    ServiceLocator.registerEntityService(new EntityService());
+    Entity entity = new Entity();
+    Entity other = new Entity();
+    gameArea.spawnEntity(entity);
+    gameArea.spawnEntity(other);
+    assertEquals(2, gameArea.getAllEntities().size());
+
+    entity.dispose();
+    assertEquals(1, gameArea.getAllEntities().size());
+    assertFalse(gameArea.getAllEntities().contains(entity));
+    assertTrue(gameArea.getAllEntities().contains(other));
+  }
+
+  @Test
+  void shouldStopListeningWhenDisposed() {
+    GameArea gameArea =
+        new GameArea() {
+          @Override
+          public void create() {}
+        };
+
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    gameArea.spawnEntity(new Entity());
+    gameArea.spawnEntity(new Entity());
+    assertTrue(entityService.getEvents().hasListeners(EntityService.EVT_UNREGISTER));
+
+    gameArea.dispose();
+    assertFalse(entityService.getEvents().hasListeners(EntityService.EVT_UNREGISTER));
+    assertTrue(gameArea.getAllEntities().isEmpty());
+  }
+
 //    @Test
 //    void shouldCreate() {
 //      TerrainComponent mock = org.mockito.Mockito.mock(TerrainComponent.class);
@@ -0,0 +1,62 @@
+package com.deco2800.game.areas;
+
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.screens.MainGameScreen.Level;
+import com.deco2800.game.services.ResourceService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs how long moving between levels takes when only the difference is loaded, compared with
+ * reloading everything. Tagged so it only runs in the benchmarkTest task.
+ */
+@Tag("benchmark")
+@ExtendWith(GameExtension.class)
+class LevelAssetsBenchmarkTest {
+  private static final Logger logger = LoggerFactory.getLogger(LevelAssetsBenchmarkTest.class);
+  private static final Level[][] TRANSITIONS = {
+    {Level.TUTORIAL, Level.ONE},
+    {Level.ONE, Level.TWO},
+    {Level.TWO, Level.THREE},
+    {Level.THREE, Level.FOUR},
+    {Level.ONE, Level.ONE},
+    {Level.FOUR, Level.FOUR}
+  };
+
+  @Test
+  void shouldTimeLevelTransitions() {
+    for (Level[] transition : TRANSITIONS) {
+      Level from = transition[0];
+      Level to = transition[1];
+      ResourceService resourceService = new ResourceService();
+      resourceService.acquire(LevelAssets.forLevel(from));
+      resourceService.loadAll();
+
+      // Only load and unload the difference between levels
+      long start = System.nanoTime();
+      resourceService.acquire(LevelAssets.forLevel(to));
+      resourceService.release(LevelAssets.forLevel(from));
+      resourceService.unloadUnreferenced();
+      resourceService.loadAll();
+      long deltaNanos = System.nanoTime() - start;
+
+      // Unload everything and load the next level from scratch, as every transition used to
+      start = System.nanoTime();
+      resourceService.clearAllAssets();
+      resourceService.acquire(LevelAssets.forLevel(to));
+      resourceService.loadAll();
+      long fullNanos = System.nanoTime() - start;
+
+      logger.info(
+          "{} -> {}: full reload {} ms, delta {} ms",
+          from,
+          to,
+          fullNanos / 1000000,
+          deltaNanos / 1000000);
+      resourceService.dispose();
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.deco2800.game.areas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.screens.MainGameScreen.Level;
+import com.deco2800.game.services.AssetLoadHandle;
+import com.deco2800.game.services.AssetManifest;
+import com.deco2800.game.services.ResourceService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class LevelAssetsTest {
+  private static final Level[][] TRANSITIONS = {
+    {Level.TUTORIAL, Level.ONE},
+    {Level.ONE, Level.TWO},
+    {Level.TWO, Level.THREE},
+    {Level.THREE, Level.FOUR},
+    {Level.ONE, Level.ONE},
+    {Level.TWO, Level.TWO},
+    {Level.THREE, Level.THREE},
+    {Level.FOUR, Level.FOUR}
+  };
+
+  @Test
+  void shouldShareAssetsBetweenLevels() {
+    assertTrue(LevelAssets.getShared().size() > 0);
+    for (Level level : Level.values()) {
+      assertEquals(3, LevelAssets.forLevel(level).length);
+      assertEquals(LevelAssets.getShared(), LevelAssets.forLevel(level)[1]);
+    }
+    assertEquals(
+        "images/background_mars.png", LevelAssets.getLevel(Level.TWO).textures[0]);
+  }
+
+  @Test
+  void shouldOnlyLoadDifferenceBetweenLevels() {
+    ResourceService resourceService = new ResourceService();
+    resourceService.acquire(LevelAssets.forLevel(Level.ONE));
+    resourceService.loadAll();
+
+    // Only level two's own assets need loading
+    resourceService.release(LevelAssets.forLevel(Level.ONE));
+    AssetLoadHandle handle = resourceService.acquire(LevelAssets.forLevel(Level.TWO));
+    assertEquals(LevelAssets.getLevel(Level.TWO).size(), handle.getTotal());
+
+    // Only level one's own assets are dropped
+    assertEquals(LevelAssets.getLevel(Level.ONE).size(), resourceService.unloadUnreferenced());
+    resourceService.loadAll();
+    assertTrue(handle.isDone());
+    assertFalse(resourceService.containsAsset("sounds/maingame.mp3", Music.class));
+    assertTrue(resourceService.containsAsset("images/background_mars.png", Texture.class));
+    assertTrue(
+        resourceService.containsAsset(LevelAssets.getShared().textures[0], Texture.class));
+
+    // Respawning keeps everything
+    resourceService.release(LevelAssets.forLevel(Level.TWO));
+    handle = resourceService.acquire(LevelAssets.forLevel(Level.TWO));
+    assertEquals(0, resourceService.unloadUnreferenced());
+    assertEquals(0, handle.getTotal());
+    assertTrue(handle.isDone());
+    resourceService.dispose();
+  }
+
+  @Test
+  void shouldOnlyLoadDifferenceForEachTransition() {
+    for (Level[] transition : TRANSITIONS) {
+      Level from = transition[0];
+      Level to = transition[1];
+      ObjectSet<String> fromAssets = getAssets(LevelAssets.forLevel(from));
+      ObjectSet<String> toAssets = getAssets(LevelAssets.forLevel(to));
+      ResourceService resourceService = new ResourceService();
+      resourceService.acquire(LevelAssets.forLevel(from));
+      resourceService.loadAll();
+
+      AssetLoadHandle handle = resourceService.acquire(LevelAssets.forLevel(to));
+      resourceService.release(LevelAssets.forLevel(from));
+      String message = from + " -> " + to;
+      assertEquals(countMissing(toAssets, fromAssets), handle.getTotal(), message);
+      assertEquals(
+          countMissing(fromAssets, toAssets), resourceService.unloadUnreferenced(), message);
+      resourceService.loadAll();
+      assertTrue(handle.isDone(), message);
+      assertEquals(0, handle.getFailedCount(), message);
+      resourceService.dispose();
+    }
+  }
+
+  @Test
+  void shouldSpreadLoadingOverFrames() {
+    // With no time left in a frame, each frame still finishes one asset but never more
+    ResourceService resourceService = new ResourceService();
+    AssetManifest[] manifests = LevelAssets.forLevel(Level.ONE);
+    AssetLoadHandle handle = resourceService.acquire(manifests);
+    ObjectSet<String> assets = getAssets(manifests);
+
+    int frames = 0;
+    float progress = 0f;
+    long timeout = System.currentTimeMillis() + 30000;
+    boolean loaded = false;
+    while (!loaded) {
+      loaded = resourceService.loadForMillis(0);
+      frames++;
+      assertTrue(handle.getProgress() >= progress);
+      progress = handle.getProgress();
+      assertTrue(System.currentTimeMillis() < timeout);
+    }
+    assertTrue(handle.isDone());
+    assertEquals(0, handle.getFailedCount());
+    assertTrue(frames >= assets.size);
+    resourceService.dispose();
+  }
+
+  private static ObjectSet<String> getAssets(AssetManifest[] manifests) {
+    ObjectSet<String> assets = new ObjectSet<>();
+    for (AssetManifest manifest : manifests) {
+      assets.addAll(manifest.textures);
+      assets.addAll(manifest.textureAtlases);
+      assets.addAll(manifest.sounds);
+      assets.addAll(manifest.music);
+    }
+    return assets;
+  }
+
+  /** @return number of assets in the first set but not the second */
+  private static int countMissing(ObjectSet<String> assets, ObjectSet<String> present) {
+    int missing = 0;
+    for (String asset : assets) {
+      if (!present.contains(asset)) {
+        missing++;
+      }
+    }
+    return missing;
+  }
+}
@@ -0,0 +1,129 @@
+package com.deco2800.game.areas.terrain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.deco2800.game.areas.terrain.TerrainFactory.TerrainType;
+import com.deco2800.game.extensions.GameExtension;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class LevelCompilerTest {
+  private FileHandle cacheDir;
+
+  @BeforeEach
+  void beforeEach() {
+    cacheDir = FileHandle.tempDirectory("level-cache");
+  }
+
+  @AfterEach
+  void afterEach() {
+    cacheDir.deleteDirectory();
+  }
+
+  @Test
+  void shouldMatchFloorFiles() {
+    LevelCompiler.Source source = TerrainFactory.getLevelSource(TerrainType.SIDE_SCROLL_ER);
+    CompiledLevel level = new LevelCompiler(cacheDir).load(source);
+    assertEquals(source.width, level.getWidth());
+    assertEquals(source.height, level.getHeight());
+
+    // Same boxes as baking the text files
+    Array<Rectangle> blocks = new Array<>();
+    TerrainCollisionBaker.readBlocks(source.groundFile, false, blocks);
+    TerrainCollisionBaker.readBlocks(source.floatFile, true, blocks);
+    Array<Rectangle> expected = TerrainCollisionBaker.merge(blocks);
+    Array<Rectangle> boxes = new Array<>();
+    assertEquals(expected.size, level.getCollisionBoxes(boxes));
+    assertEquals(expected, boxes);
+
+    // Every collision box is drawn as ground
+    for (Rectangle box : boxes) {
+      byte tile = level.getTile((int) box.x, (int) (box.y + box.height - 1));
+      assertTrue(tile == CompiledLevel.SURFACE || tile == CompiledLevel.UNDERGROUND);
+    }
+    assertEquals(CompiledLevel.SURFACE, level.getTile(2, 4));
+    assertEquals(CompiledLevel.UNDERGROUND, level.getTile(2, 0));
+    assertEquals(CompiledLevel.SKY, level.getTile(2, source.height - 1));
+    assertEquals(CompiledLevel.EMPTY, level.getTile(-1, 0));
+    assertEquals(5, level.getSurfaceY(2));
+    assertEquals(0, level.getSurfaceY(source.width * 2));
+  }
+
+  @Test
+  void shouldCacheCompiledLevels() {
+    LevelCompiler.Source source = TerrainFactory.getLevelSource(TerrainType.LEVEL_TWO_TERRAIN);
+    LevelCompiler compiler = new LevelCompiler(cacheDir);
+    CompiledLevel level = compiler.load(source);
+    assertSame(level, compiler.load(source));
+    assertEquals(1, compiler.getCompiledCount());
+    assertTrue(cacheDir.child(LevelCompiler.cacheKey(source) + ".lvl").exists());
+
+    // A new compiler maps the cached file instead of compiling, and gets the same level
+    LevelCompiler cachedCompiler = new LevelCompiler(cacheDir);
+    CompiledLevel cached = cachedCompiler.load(source);
+    assertEquals(0, cachedCompiler.getCompiledCount());
+    assertNotSame(level, cached);
+    assertEquals(boxesOf(level), boxesOf(cached));
+  }
+
+  @Test
+  void shouldCompileBrokenCacheFilesAgain() {
+    LevelCompiler.Source source = TerrainFactory.getLevelSource(TerrainType.LEVEL_TWO_TERRAIN);
+    Array<Rectangle> boxes = boxesOf(new LevelCompiler(null).load(source));
+
+    // Nothing has mapped this file, so it can be replaced on every platform
+    cacheDir.child(LevelCompiler.cacheKey(source) + ".lvl").writeString("broken", false);
+    LevelCompiler compiler = new LevelCompiler(cacheDir);
+    assertEquals(boxes, boxesOf(compiler.load(source)));
+    assertEquals(1, compiler.getCompiledCount());
+  }
+
+  @Test
+  void shouldCompileAgainWhenFloorFilesChange() {
+    FileHandle floors = FileHandle.tempDirectory("level-floors");
+    FileHandle ground = floors.child("ground.txt");
+    ground.writeString("2 1 0 0\n", false);
+    ground.file().setLastModified(1000000000000L);
+    LevelCompiler.Source source = new LevelCompiler.Source(ground.path(), null, null, 10, 10);
+    assertEquals(2, new LevelCompiler(cacheDir).load(source).getSurfaceY(0));
+
+    // Same key while the file is untouched, so the cached level is used
+    String key = LevelCompiler.cacheKey(source);
+    assertEquals(key, LevelCompiler.cacheKey(source));
+
+    ground.writeString("2 2 0 0\n", false);
+    ground.file().setLastModified(1000000001000L);
+    assertNotEquals(key, LevelCompiler.cacheKey(source));
+    LevelCompiler compiler = new LevelCompiler(cacheDir);
+    assertEquals(4, compiler.load(source).getSurfaceY(0));
+    assertEquals(1, compiler.getCompiledCount());
+    floors.deleteDirectory();
+  }
+
+  @Test
+  void shouldRejectInvalidLevels() {
+    assertThrows(GdxRuntimeException.class, () -> new CompiledLevel(ByteBuffer.allocate(4)));
+    ByteBuffer truncated = ByteBuffer.allocate(CompiledLevel.HEADER_BYTES + 10);
+    truncated.putInt(CompiledLevel.MAGIC).putInt(210).putInt(30);
+    assertThrows(GdxRuntimeException.class, () -> new CompiledLevel(truncated));
+  }
+
+  private static Array<Rectangle> boxesOf(CompiledLevel level) {
+    Array<Rectangle> boxes = new Array<>();
+    level.getCollisionBoxes(boxes);
+    return boxes;
+  }
+}
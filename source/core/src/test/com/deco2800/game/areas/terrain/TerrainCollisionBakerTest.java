@@ -0,0 +1,95 @@
+package com.deco2800.game.areas.terrain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class TerrainCollisionBakerTest {
+  @Test
+  void shouldParseGroundAndFloatingBlocks() throws IOException {
+    Array<Rectangle> blocks = new Array<>();
+    TerrainCollisionBaker.parseBlocks(reader("15 2.5 0 0\n"), false, blocks);
+    TerrainCollisionBaker.parseBlocks(reader("1 0.5 182 9\n"), true, blocks);
+
+    assertEquals(new Rectangle(0, 0, 30, 5), blocks.get(0));
+    assertEquals(new Rectangle(182, 8, 2, 2), blocks.get(1));
+  }
+
+  @Test
+  void shouldMergeMatchingNeighbours() {
+    Array<Rectangle> blocks = new Array<>();
+    blocks.add(new Rectangle(0, 0, 10, 4));
+    blocks.add(new Rectangle(10, 0, 6, 4));
+    blocks.add(new Rectangle(16, 0, 2, 4));
+
+    Array<Rectangle> boxes = TerrainCollisionBaker.merge(blocks);
+    assertEquals(1, boxes.size);
+    assertEquals(new Rectangle(0, 0, 18, 4), boxes.get(0));
+  }
+
+  @Test
+  void shouldMergeSteppedFloorIntoOneBoxPerStep() {
+    Array<Rectangle> blocks = new Array<>();
+    blocks.add(new Rectangle(0, 0, 10, 4));
+    blocks.add(new Rectangle(10, 0, 10, 6));
+    blocks.add(new Rectangle(20, 0, 5, 4));
+
+    Array<Rectangle> boxes = TerrainCollisionBaker.merge(blocks);
+    assertEquals(3, boxes.size);
+    assertCovers(blocks, boxes);
+  }
+
+  @Test
+  void shouldMergeOverlappingBlocks() {
+    Array<Rectangle> blocks = new Array<>();
+    blocks.add(new Rectangle(0, 0, 10, 4));
+    // Duplicate and overlapping platforms shouldn't add boxes
+    blocks.add(new Rectangle(0, 0, 10, 4));
+    blocks.add(new Rectangle(2, 1, 4, 2));
+    blocks.add(new Rectangle(4, 8, 2, 2));
+
+    Array<Rectangle> boxes = TerrainCollisionBaker.merge(blocks);
+    assertEquals(2, boxes.size);
+    assertCovers(blocks, boxes);
+  }
+
+  @Test
+  void shouldMergeNothing() {
+    assertTrue(TerrainCollisionBaker.merge(new Array<>()).isEmpty());
+  }
+
+  private static void assertCovers(Array<Rectangle> blocks, Array<Rectangle> boxes) {
+    for (int x = -5; x < 30; x++) {
+      for (int y = -5; y < 15; y++) {
+        float cx = x + 0.5f;
+        float cy = y + 0.5f;
+        int count = 0;
+        for (Rectangle box : boxes) {
+          if (box.contains(cx, cy)) {
+            count++;
+          }
+        }
+        boolean solid = false;
+        for (Rectangle block : blocks) {
+          solid |= block.contains(cx, cy);
+        }
+        assertEquals(solid ? 1 : 0, count);
+      }
+    }
+    assertFalse(boxes.isEmpty());
+  }
+
+  private static BufferedReader reader(String text) {
+    return new BufferedReader(new StringReader(text));
+  }
+}
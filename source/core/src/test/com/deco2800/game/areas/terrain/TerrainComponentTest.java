@@ -4,8 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.areas.terrain.TerrainComponent.TerrainOrientation;
 import com.deco2800.game.extensions.GameExtension;
@@ -35,6 +39,32 @@ class TerrainComponentTest {
     TerrainComponent component = makeComponent(TerrainOrientation.HEXAGONAL, 3f);
   }
 
+  @Test
+  void shouldCountCellsInView() {
+    TiledMap map = new TiledMap();
+    TiledMapTileLayer layer = new TiledMapTileLayer(100, 100, 16, 16);
+    for (int x = 0; x < 100; x++) {
+      for (int y = 0; y < 100; y++) {
+        layer.setCell(x, y, new Cell());
+      }
+    }
+    map.getLayers().add(layer);
+    OrthogonalTiledMapRenderer renderer =
+        new OrthogonalTiledMapRenderer(map, 1f / 16, mock(Batch.class));
+    OrthographicCamera camera = new OrthographicCamera(10f, 5f);
+    camera.position.set(5f, 2.5f, 0f);
+    camera.update();
+    TerrainComponent component =
+        new TerrainComponent(camera, map, renderer, TerrainOrientation.ORTHOGONAL, 1f);
+
+    // 10x5 view, plus the partly visible tiles on the far edges
+    renderer.setView(camera);
+    assertEquals(11 * 6, component.countCellsInView());
+
+    layer.setVisible(false);
+    assertEquals(0, component.countCellsInView());
+  }
+
   private static TerrainComponent makeComponent(TerrainOrientation orientation, float tileSize) {
     OrthographicCamera camera = mock(OrthographicCamera.class);
     TiledMap map = mock(TiledMap.class);
@@ -0,0 +1,134 @@
+package com.deco2800.game.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ActivationRegionComponentTest {
+  private ActivationRegionComponent regions;
+
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerTimeSource(mock(GameTime.class));
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    // 10 unit cells, woken within 10 units of the view and slept past 20 units
+    regions = new ActivationRegionComponent(10f, 10f, 10f);
+  }
+
+  @Test
+  void shouldKeepEntitiesAwakeWithoutView() {
+    Entity entity = createEntity(500f);
+    regions.add(entity);
+    assertTrue(entity.isEnabled());
+    assertEquals(1, regions.getActiveCount());
+  }
+
+  @Test
+  void shouldSleepEntitiesFarFromView() {
+    Entity near = createEntity(25f);
+    Entity far = createEntity(200f);
+    regions.add(near);
+    regions.add(far);
+
+    regions.update(view(0f));
+    assertAwake(near);
+    assertDormant(far);
+    assertEquals(1, regions.getActiveCount());
+    assertEquals(1, regions.getDormantCount());
+
+    // Entities added later are also put to sleep
+    Entity later = createEntity(300f);
+    regions.add(later);
+    assertDormant(later);
+  }
+
+  @Test
+  void shouldWakeWithHysteresis() {
+    Entity entity = createEntity(45f);
+    regions.add(entity);
+    regions.update(view(0f));
+    assertDormant(entity);
+
+    // View reaches 20, so wakes cells up to 30..39
+    regions.update(view(10f));
+    assertDormant(entity);
+
+    // Wakes cells up to 40..49
+    regions.update(view(20f));
+    assertAwake(entity);
+
+    // Moving back slightly keeps the entity awake
+    regions.update(view(10f));
+    assertAwake(entity);
+
+    // Moving back past the hysteresis puts it to sleep
+    regions.update(view(0f));
+    assertDormant(entity);
+  }
+
+  @Test
+  void shouldFollowEntitiesBetweenCells() {
+    Entity entity = createEntity(5f);
+    regions.add(entity);
+    regions.update(view(0f));
+    assertAwake(entity);
+
+    // Wanders far from the view, so it's put to sleep in its new cell
+    entity.setPosition(200f, 0f);
+    regions.update(view(0f));
+    assertDormant(entity);
+
+    // And woken when the view gets there
+    regions.update(view(200f));
+    assertAwake(entity);
+  }
+
+  @Test
+  void shouldRemoveEntities() {
+    Entity entity = createEntity(200f);
+    regions.add(entity);
+    regions.update(view(0f));
+    regions.remove(entity);
+
+    assertEquals(0, regions.getActiveCount());
+    assertEquals(0, regions.getDormantCount());
+    assertFalse(regions.isDormant(entity));
+  }
+
+  private void assertAwake(Entity entity) {
+    assertFalse(regions.isDormant(entity));
+    assertTrue(entity.isEnabled());
+    assertTrue(entity.getComponent(PhysicsComponent.class).getBody().isActive());
+  }
+
+  private void assertDormant(Entity entity) {
+    assertTrue(regions.isDormant(entity));
+    assertFalse(entity.isEnabled());
+    assertFalse(entity.getComponent(PhysicsComponent.class).getBody().isActive());
+  }
+
+  private static Rectangle view(float x) {
+    return new Rectangle(x, 0f, 10f, 10f);
+  }
+
+  private static Entity createEntity(float x) {
+    Entity entity = new Entity().addComponent(new PhysicsComponent());
+    entity.setScale(0f, 0f);
+    entity.setPosition(x, 0f);
+    entity.create();
+    return entity;
+  }
+}
@@ -0,0 +1,94 @@
+package com.deco2800.game.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ComponentSchedulerTest {
+  private final List<String> calls = new ArrayList<>();
+  private ComponentScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    scheduler = new ComponentScheduler();
+  }
+
+  @Test
+  void shouldEarlyUpdateEverythingFirst() {
+    schedule("a");
+    schedule("b");
+
+    scheduler.earlyUpdate();
+    scheduler.update();
+    assertEquals(List.of("a.early", "b.early", "a.update", "b.update"), calls);
+  }
+
+  @Test
+  void shouldSkipDisabled() {
+    RecordingComponent a = schedule("a");
+    RecordingComponent b = schedule("b");
+    a.setEnabled(false);
+    b.getEntity().setEnabled(false);
+
+    scheduler.earlyUpdate();
+    scheduler.update();
+    assertEquals(List.of(), calls);
+  }
+
+  @Test
+  void shouldNotUpdateComponentsUnscheduledDuringUpdate() {
+    RecordingComponent a = schedule("a");
+    RecordingComponent b = schedule("b");
+    RecordingComponent c = schedule("c");
+    a.onUpdate = () -> scheduler.unschedule(b);
+
+    scheduler.update();
+    assertEquals(List.of("a.update", "c.update"), calls);
+    assertFalse(scheduler.isScheduled(b));
+    assertEquals(2, scheduler.getUpdateCount());
+
+    // c moved into b's slot, and can still be unscheduled
+    calls.clear();
+    a.onUpdate = null;
+    scheduler.unschedule(c);
+    scheduler.update();
+    assertEquals(List.of("a.update"), calls);
+  }
+
+  private RecordingComponent schedule(String name) {
+    RecordingComponent component = new RecordingComponent(name);
+    new Entity().addComponent(component);
+    scheduler.schedule(component);
+    return component;
+  }
+
+  private class RecordingComponent extends Component {
+    private final String name;
+    private Runnable onUpdate;
+
+    RecordingComponent(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void earlyUpdate() {
+      calls.add(name + ".early");
+    }
+
+    @Override
+    public void update() {
+      calls.add(name + ".update");
+      if (onUpdate != null) {
+        onUpdate.run();
+      }
+    }
+  }
+}
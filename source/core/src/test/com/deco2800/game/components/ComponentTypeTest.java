@@ -33,6 +33,27 @@ class ComponentTypeTest {
     assertNotEquals(type2.getId(), type3.getId());
   }
 
+  @Test
+  void shouldDetectUpdateOverrides() {
+    ComponentType idle = ComponentType.getFrom(TestComponent1.class);
+    assertFalse(idle.hasEarlyUpdate());
+    assertFalse(idle.hasUpdate());
+
+    ComponentType updating = ComponentType.getFrom(TestComponent3.class);
+    assertFalse(updating.hasEarlyUpdate());
+    assertTrue(updating.hasUpdate());
+
+    // Overrides are inherited
+    assertTrue(ComponentType.getFrom(TestComponent4.class).hasUpdate());
+  }
+
   static class TestComponent1 extends Component {}
   static class TestComponent2 extends TestComponent1 {}
+
+  static class TestComponent3 extends Component {
+    @Override
+    public void update() {}
+  }
+
+  static class TestComponent4 extends TestComponent3 {}
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.deco2800.game.components;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.factories.ProjectilePool;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ProjectileLifetimeComponentTest {
+  private ProjectilePool pool;
+  private RenderService renderService;
+
+  @BeforeEach
+  void beforeEach() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(0.5f);
+    ServiceLocator.registerTimeSource(gameTime);
+    renderService = new RenderService();
+    ServiceLocator.registerRenderService(renderService);
+    pool = mock(ProjectilePool.class);
+  }
+
+  @Test
+  void shouldExpireAfterLifetime() {
+    Entity projectile = createProjectile(1f, 100f, 100f);
+    projectile.update();
+    projectile.update();
+    verify(pool, never()).release(projectile);
+
+    projectile.update();
+    verify(pool).release(projectile);
+  }
+
+  @Test
+  void shouldExpireOutOfRange() {
+    Entity projectile = createProjectile(100f, 5f, 100f);
+    projectile.update();
+    projectile.setPosition(4f, 0f);
+    projectile.update();
+    verify(pool, never()).release(projectile);
+
+    projectile.setPosition(3f, 4f);
+    projectile.update();
+    verify(pool).release(projectile);
+  }
+
+  @Test
+  void shouldExpireOffScreen() {
+    renderService.render(mock(SpriteBatch.class), new Rectangle(0f, 0f, 10f, 10f));
+    Entity projectile = createProjectile(100f, 100f, 1f);
+    projectile.update();
+    projectile.setPosition(20f, 0f);
+    projectile.update();
+    verify(pool, never()).release(projectile);
+
+    // Coming back into view restarts the off screen time
+    projectile.setPosition(5f, 5f);
+    projectile.update();
+    projectile.setPosition(20f, 0f);
+    projectile.update();
+    verify(pool, never()).release(projectile);
+
+    projectile.update();
+    verify(pool).release(projectile);
+  }
+
+  @Test
+  void shouldMeasureFromWhereReset() {
+    Entity projectile = createProjectile(1.5f, 5f, 100f);
+    projectile.update();
+    projectile.update();
+    projectile.getComponent(ProjectileLifetimeComponent.class).reset();
+
+    projectile.setPosition(50f, 50f);
+    projectile.update();
+    projectile.update();
+    projectile.update();
+    verify(pool, never()).release(projectile);
+  }
+
+  private Entity createProjectile(float lifetime, float range, float offScreenTime) {
+    Entity projectile =
+        new Entity()
+            .addComponent(new ProjectileLifetimeComponent(pool, lifetime, range, offScreenTime));
+    projectile.setPosition(0f, 0f);
+    projectile.create();
+    return projectile;
+  }
+}
@@ -0,0 +1,128 @@
+package com.deco2800.game.components.maingame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.deco2800.game.areas.LevelAssets;
+import com.deco2800.game.components.ProgressComponent;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.screens.MainGameScreen.Level;
+import com.deco2800.game.services.AssetManifest;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class LevelPreloadComponentTest {
+  private static final String LEVEL_TWO_TEXTURE = "images/background_mars.png";
+  private ResourceService resourceService;
+  private GameTime gameTime;
+  private Entity player;
+  private ProgressComponent progress;
+
+  @BeforeEach
+  void beforeEach() {
+    resourceService = new ResourceService();
+    ServiceLocator.registerResourceService(resourceService);
+    gameTime = mock(GameTime.class);
+    when(gameTime.getRawDeltaTime()).thenReturn(0.01f);
+    ServiceLocator.registerTimeSource(gameTime);
+
+    progress = new ProgressComponent(0, 100);
+    player = new Entity().addComponent(progress);
+    player.create();
+  }
+
+  @Test
+  void shouldPreloadNextLevelPastProgress() {
+    LevelPreloadComponent preload = createPreload(Level.ONE);
+    progress.updateProgress(30);
+    assertNull(preload.getHandle());
+
+    progress.updateProgress(60);
+    AssetManifest levelTwo = LevelAssets.getLevel(Level.TWO);
+    assertEquals(levelTwo.size(), preload.getHandle().getTotal());
+
+    long timeout = System.currentTimeMillis() + 10000;
+    while (!preload.getHandle().isDone()) {
+      preload.update();
+      assertTrue(System.currentTimeMillis() < timeout);
+    }
+    assertTrue(resourceService.containsAsset(LEVEL_TWO_TEXTURE, Texture.class));
+
+    // The loading screen takes over the next level's assets from the game screen
+    preload.dispose();
+    resourceService.acquire(levelTwo);
+    assertEquals(0, resourceService.unloadUnreferenced());
+    assertTrue(resourceService.containsAsset(LEVEL_TWO_TEXTURE, Texture.class));
+  }
+
+  @Test
+  void shouldPreloadAtCheckPoint() {
+    LevelPreloadComponent preload = createPreload(Level.TUTORIAL);
+    player.getEvents().trigger("checkPoint");
+    assertEquals(LevelAssets.getLevel(Level.ONE).size(), preload.getHandle().getTotal());
+  }
+
+  @Test
+  void shouldAdaptBudgetToFrameTime() {
+    LevelPreloadComponent preload = createPreload(Level.ONE);
+    for (int i = 0; i < 10; i++) {
+      preload.adaptBudget();
+    }
+    assertEquals(LevelPreloadComponent.MAX_BUDGET_MILLIS, preload.getBudgetMillis());
+
+    // Slow frames leave less time to load in
+    when(gameTime.getRawDeltaTime()).thenReturn(0.05f);
+    preload.adaptBudget();
+    assertTrue(preload.getBudgetMillis() < LevelPreloadComponent.MAX_BUDGET_MILLIS);
+    for (int i = 0; i < 10; i++) {
+      preload.adaptBudget();
+    }
+    assertEquals(LevelPreloadComponent.MIN_BUDGET_MILLIS, preload.getBudgetMillis());
+  }
+
+  @Test
+  void shouldCancelWhenPlayerDies() {
+    LevelPreloadComponent preload = createPreload(Level.ONE);
+    preload.startPreload();
+    preload.update();
+
+    player.getEvents().trigger("playerDeath");
+    assertEquals(0, resourceService.getReferenceCount(LEVEL_TWO_TEXTURE));
+
+    // Released assets stay until the screen change unloads them
+    resourceService.loadAll();
+    assertTrue(resourceService.containsAsset(LEVEL_TWO_TEXTURE, Texture.class));
+    resourceService.unloadUnreferenced();
+    assertFalse(resourceService.containsAsset(LEVEL_TWO_TEXTURE, Texture.class));
+
+    // Never restarted, even past the progress threshold
+    progress.updateProgress(80);
+    preload.update();
+    assertEquals(0, resourceService.getReferenceCount(LEVEL_TWO_TEXTURE));
+  }
+
+  @Test
+  void shouldNotPreloadAfterLastLevel() {
+    LevelPreloadComponent preload = createPreload(Level.FOUR);
+    progress.updateProgress(90);
+    assertNull(preload.getHandle());
+  }
+
+  private LevelPreloadComponent createPreload(Level level) {
+    LevelPreloadComponent preload = new LevelPreloadComponent(player, level);
+    Entity ui = new Entity().addComponent(preload);
+    ui.create();
+    return preload;
+  }
+}
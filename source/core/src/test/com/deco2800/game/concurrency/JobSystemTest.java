@@ -1,12 +1,14 @@
 package com.deco2800.game.concurrency;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.deco2800.game.extensions.GameExtension;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -32,4 +34,28 @@ class JobSystemTest {
 
     assertEquals(10, result);
   }
+
+  @Test
+  void shouldRunEveryIndexOnce() {
+    AtomicIntegerArray runs = new AtomicIntegerArray(1000);
+    JobSystem.parallelFor(runs.length(), 32, runs::incrementAndGet);
+    for (int i = 0; i < runs.length(); i++) {
+      assertEquals(1, runs.get(i));
+    }
+  }
+
+  @Test
+  void shouldRethrowFromParallelFor() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            JobSystem.parallelFor(
+                100,
+                10,
+                i -> {
+                  if (i == 95) {
+                    throw new IllegalStateException();
+                  }
+                }));
+  }
 }
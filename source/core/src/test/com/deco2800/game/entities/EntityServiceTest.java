@@ -1,10 +1,14 @@
 package com.deco2800.game.entities;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.deco2800.game.components.Component;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,23 +26,49 @@ class EntityServiceTest {
   @Test
   void shouldUpdateEntities() {
     EntityService entityService = new EntityService();
-    Entity entity = spy(Entity.class);
+    UpdatingComponent component = spy(UpdatingComponent.class);
+    Entity entity = new Entity().addComponent(component);
     entityService.register(entity);
     entityService.update();
 
-    verify(entity).update();
-    verify(entity).earlyUpdate();
+    verify(component).update();
+    verify(component).earlyUpdate();
   }
 
   @Test
   void shouldNotUpdateUnregisteredEntities() {
     EntityService entityService = new EntityService();
-    Entity entity = spy(Entity.class);
+    UpdatingComponent component = spy(UpdatingComponent.class);
+    Entity entity = new Entity().addComponent(component);
     entityService.register(entity);
     entityService.unregister(entity);
     entityService.update();
-    verify(entity, times(0)).update();
-    verify(entity, times(0)).earlyUpdate();
+    verify(component, times(0)).update();
+    verify(component, times(0)).earlyUpdate();
+  }
+
+  @Test
+  void shouldOnlyScheduleUpdatingComponents() {
+    EntityService entityService = new EntityService();
+    UpdatingComponent updating = new UpdatingComponent();
+    Component idle = new Component();
+    entityService.register(new Entity().addComponent(updating).addComponent(idle));
+
+    assertTrue(entityService.getScheduler().isScheduled(updating));
+    assertFalse(entityService.getScheduler().isScheduled(idle));
+    assertEquals(1, entityService.getScheduler().getUpdateCount());
+  }
+
+  @Test
+  void shouldCountEntities() {
+    EntityService entityService = new EntityService();
+    Entity entity = spy(Entity.class);
+    entityService.register(entity);
+    entityService.register(spy(Entity.class));
+    assertEquals(2, entityService.getEntityCount());
+
+    entityService.unregister(entity);
+    assertEquals(1, entityService.getEntityCount());
   }
 
   @Test
@@ -49,4 +79,12 @@ class EntityServiceTest {
     entityService.dispose();
     verify(entity).dispose();
   }
-}
\ No newline at end of file
+
+  static class UpdatingComponent extends Component {
+    @Override
+    public void earlyUpdate() {}
+
+    @Override
+    public void update() {}
+  }
+}
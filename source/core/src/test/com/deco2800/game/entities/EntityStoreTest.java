@@ -0,0 +1,114 @@
+package com.deco2800.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.deco2800.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class EntityStoreTest {
+  private final Entity a = new Entity();
+  private final Entity b = new Entity();
+  private final Entity c = new Entity();
+  private final Entity d = new Entity();
+
+  @Test
+  void shouldIterateInAddOrder() {
+    EntityStore store = createStore(a, b, c, d);
+    assertEquals(List.of(a, b, c, d), toList(store));
+    assertFalse(store.add(b));
+    assertEquals(4, store.size());
+  }
+
+  @Test
+  void shouldMoveLastEntityIntoRemovedSlot() {
+    EntityStore store = createStore(a, b, c, d);
+    assertTrue(store.remove(b));
+    assertFalse(store.remove(b));
+
+    assertEquals(List.of(a, d, c), toList(store));
+    assertFalse(store.contains(b));
+    assertEquals(3, store.size());
+
+    // Moved entity can still be removed by its new slot
+    assertTrue(store.remove(d));
+    assertEquals(List.of(a, c), toList(store));
+  }
+
+  @Test
+  void shouldDeferRemovalWhileIterating() {
+    EntityStore store = createStore(a, b, c, d);
+    store.begin();
+    store.remove(a);
+    store.remove(c);
+    assertEquals(2, store.size());
+    assertEquals(4, store.slots());
+    assertNull(store.get(0));
+    assertSame(b, store.get(1));
+    assertNull(store.get(2));
+
+    // Nested loops only fill slots once the outermost loop ends
+    store.begin();
+    store.end();
+    assertEquals(4, store.slots());
+
+    store.end();
+    assertEquals(2, store.slots());
+    assertEquals(List.of(d, b), toList(store));
+    assertTrue(store.contains(d));
+    assertTrue(store.remove(d));
+    assertEquals(List.of(b), toList(store));
+  }
+
+  @Test
+  void shouldVisitEntitiesAddedWhileIterating() {
+    EntityStore store = createStore(a, b);
+    List<Entity> visited = new ArrayList<>();
+    store.begin();
+    for (int i = 0; i < store.slots(); i++) {
+      Entity entity = store.get(i);
+      if (entity == null) {
+        continue;
+      }
+      visited.add(entity);
+      if (entity == a) {
+        store.remove(b);
+        store.add(c);
+      }
+    }
+    store.end();
+
+    assertEquals(List.of(a, c), visited);
+    assertEquals(List.of(a, c), toList(store));
+  }
+
+  @Test
+  void shouldRejectUnmatchedEnd() {
+    EntityStore store = new EntityStore(4);
+    assertThrows(IllegalStateException.class, store::end);
+  }
+
+  private static EntityStore createStore(Entity... entities) {
+    EntityStore store = new EntityStore(2);
+    for (Entity entity : entities) {
+      assertTrue(store.add(entity));
+    }
+    return store;
+  }
+
+  private static List<Entity> toList(EntityStore store) {
+    List<Entity> list = new ArrayList<>();
+    for (Entity entity : store) {
+      list.add(entity);
+    }
+    return list;
+  }
+}
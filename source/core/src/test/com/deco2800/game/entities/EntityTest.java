@@ -1,8 +1,10 @@
 package com.deco2800.game.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -53,6 +55,36 @@ class EntityTest {
     assertEquals(new Vector2(-4f, -9f), entity.getCenterPosition());
   }
 
+  @Test
+  void shouldGetTransformWithoutCopying() {
+    Entity entity = new Entity();
+    entity.setPosition(-5f, -10f);
+    entity.setScale(2f, 4f);
+
+    Vector2 out = new Vector2();
+    assertSame(out, entity.getPosition(out));
+    assertEquals(new Vector2(-5f, -10f), out);
+    assertEquals(new Vector2(2f, 4f), entity.getScale(out));
+    assertEquals(new Vector2(-4f, -8f), entity.getCenterPosition(out));
+
+    TransformView transform = entity.getTransform();
+    assertFalse(transform instanceof Entity);
+    assertSame(transform, entity.getTransform());
+    assertEquals(-5f, transform.getX());
+    assertEquals(-10f, transform.getY());
+    assertEquals(2f, transform.getScaleX());
+    assertEquals(4f, transform.getScaleY());
+    assertEquals(-4f, transform.getCenterX());
+    assertEquals(-8f, transform.getCenterY());
+
+    // The view tracks the entity, and the entity does not alias vectors passed to it
+    Vector2 newPos = new Vector2(1f, 1f);
+    entity.setPosition(newPos, false);
+    newPos.set(7f, 7f);
+    assertEquals(1f, transform.getX());
+    assertEquals(1f, transform.getY());
+  }
+
   @Test
   void shouldUpdateComponents() {
     Entity entity = new Entity();
@@ -0,0 +1,203 @@
+package com.deco2800.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.World;
+import com.deco2800.game.ai.tasks.AITaskComponent;
+import com.deco2800.game.components.tasks.ChaseTask;
+import com.deco2800.game.components.tasks.Platform_x_Task;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.rendering.DebugRenderer;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.rendering.TextureRenderComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Counts the bytes allocated by steady-state game ticks: a physics step in a real world, an entity
+ * service update and a render pass, for enemies chasing the player and moving platforms. Reading
+ * and writing entity transforms happens throughout, and none of it should allocate.
+ *
+ * <p>Mockito's inline mock maker instruments classes which other tests mock or spy, such as {@link
+ * Entity}, and calls to instrumented classes allocate. This test is tagged so it only runs in the
+ * allocationTest task, which has its own JVM.
+ */
+@Tag("allocation")
+@ExtendWith(GameExtension.class)
+class TransformAllocationTest {
+  private static final int ENEMY_COUNT = 20;
+  private static final int PLATFORM_COUNT = 4;
+  private static final int WARMUP_FRAMES = 5000;
+  private static final int MEASURED_FRAMES = 1000;
+  private static final int MEASURED_WINDOWS = 5;
+
+  private final Rectangle view = new Rectangle(-8f, -8f, 16f, 16f);
+  private final Matrix4 projection = new Matrix4();
+  private PhysicsEngine physics;
+  private EntityService entityService;
+  private RenderService renderService;
+  private DebugRenderer debugRenderer;
+  private DrawCountingBatch batch;
+  private final AITaskComponent[] enemyAi = new AITaskComponent[ENEMY_COUNT];
+
+  @Test
+  void shouldNotAllocateEachFrame() {
+    com.sun.management.ThreadMXBean threads = getThreadBean();
+    assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+    long threadId = Thread.currentThread().getId();
+    createGame();
+
+    for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+      runFrame();
+    }
+
+    // Take the quietest window, so one-off work elsewhere in the JVM doesn't fail the test
+    long allocated = Long.MAX_VALUE;
+    for (int window = 0; window < MEASURED_WINDOWS; window++) {
+      long before = threads.getThreadAllocatedBytes(threadId);
+      for (int frame = 0; frame < MEASURED_FRAMES; frame++) {
+        runFrame();
+      }
+      allocated = Math.min(allocated, threads.getThreadAllocatedBytes(threadId) - before);
+    }
+
+    // Everything was still being simulated and drawn, with every enemy chasing
+    int frames = WARMUP_FRAMES + MEASURED_FRAMES * MEASURED_WINDOWS;
+    assertEquals(frames, physics.getStepCount());
+    assertEquals((ENEMY_COUNT + PLATFORM_COUNT) * frames, batch.draws);
+    for (AITaskComponent ai : enemyAi) {
+      assertTrue(ai.getCurrentTask() instanceof ChaseTask);
+    }
+    // Allow for a constant measurement overhead, but nothing which scales with frames.
+    assertTrue(
+        allocated < MEASURED_FRAMES,
+        String.format("%d bytes allocated over %d frames", allocated, MEASURED_FRAMES));
+  }
+
+  /** Run one tick the way the main game screen does, with debug drawing off. */
+  private void runFrame() {
+    physics.update();
+    entityService.update();
+    renderService.render(batch, view);
+    debugRenderer.render(projection);
+  }
+
+  private void createGame() {
+    GameTime gameTime = new FixedGameTime();
+    ServiceLocator.registerTimeSource(gameTime);
+    physics = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+    ServiceLocator.registerPhysicsService(new PhysicsService(physics));
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    renderService = new RenderService();
+    // Debug drawing is off, as it is by default in game, so nothing is drawn with its renderers
+    debugRenderer = new DebugRenderer(null, null);
+    debugRenderer.setActive(false);
+    renderService.setDebug(debugRenderer);
+    ServiceLocator.registerRenderService(renderService);
+    batch = new DrawCountingBatch();
+    TextureRegion region = new TextureRegion();
+
+    // A wall the enemies' sight lines are cast past
+    Entity wall =
+        new Entity()
+            .addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
+            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+    wall.setScale(0.5f, 4f);
+    wall.setPosition(0f, 1f);
+    entityService.register(wall);
+
+    Entity player =
+        new Entity()
+            .addComponent(new PhysicsComponent())
+            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.PLAYER));
+    player.setPosition(0f, -1f);
+    entityService.register(player);
+
+    for (int i = 0; i < ENEMY_COUNT; i++) {
+      enemyAi[i] = new AITaskComponent().addTask(new ChaseTask(player, 10, 6f, 8f));
+      Entity enemy =
+          new Entity()
+              .addComponent(new TextureRenderComponent(region))
+              .addComponent(new PhysicsComponent())
+              .addComponent(new ColliderComponent().setLayer(PhysicsLayer.NPC))
+              .addComponent(new PhysicsMovementComponent())
+              .addComponent(enemyAi[i]);
+      enemy.setScale(0.5f, 0.5f);
+      enemy.setPosition(-5f + i * 0.5f, -1f);
+      entityService.register(enemy);
+    }
+
+    for (int i = 0; i < PLATFORM_COUNT; i++) {
+      Entity platform =
+          new Entity()
+              .addComponent(new TextureRenderComponent(region))
+              .addComponent(new PhysicsComponent().setBodyType(BodyType.KinematicBody))
+              .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
+              .addComponent(new AITaskComponent().addTask(new Platform_x_Task(3f, 1)));
+      platform.setScale(2f, 0.25f);
+      platform.setPosition(-6f + i * 3f, 3f);
+      entityService.register(platform);
+    }
+  }
+
+  private static com.sun.management.ThreadMXBean getThreadBean() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return (com.sun.management.ThreadMXBean) bean;
+    }
+    return null;
+  }
+
+  /**
+   * Counts draws instead of drawing. Calls to Mockito mocks allocate, so a mocked batch would hide
+   * what the game allocates, and mocking any class makes every Object.equals() call allocate too.
+   */
+  private static class DrawCountingBatch extends SpriteBatch {
+    private int draws = 0;
+
+    DrawCountingBatch() {
+      // GL is mocked, so the shader never compiles, but nothing is drawn with it
+      super(1, new ShaderProgram("", ""));
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+      draws++;
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+      draws++;
+    }
+  }
+
+  /** Ticks at the physics rate, so each frame runs one step. */
+  private static class FixedGameTime extends GameTime {
+    @Override
+    public float getDeltaTime() {
+      return 1f / PhysicsEngine.DEFAULT_TICK_RATE;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.deco2800.game.entities.factories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.deco2800.game.areas.GameArea;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.factories.ProjectilePool.ProjectileType;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.rendering.TextureRenderComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ProjectilePoolTest {
+  private PhysicsEngine physics;
+  private GameArea gameArea;
+  private ProjectilePool pool;
+  private final Entity target = new Entity();
+
+  @BeforeEach
+  void beforeEach() {
+    Texture texture = mock(Texture.class);
+    when(texture.getWidth()).thenReturn(10);
+    when(texture.getHeight()).thenReturn(10);
+    ResourceService resourceService = mock(ResourceService.class);
+    when(resourceService.getAsset(any(), any())).thenReturn(texture);
+    ServiceLocator.registerResourceService(resourceService);
+    ServiceLocator.registerRenderService(new RenderService());
+
+    // No time passes, so updating physics only runs the queued actions
+    physics = new PhysicsEngine(new World(Vector2.Zero, true), mock(GameTime.class));
+    gameArea = mock(GameArea.class);
+    doAnswer(invocation -> {
+      invocation.<Entity>getArgument(0).create();
+      return null;
+    }).when(gameArea).spawnEntity(any());
+    pool = new ProjectilePool(gameArea, physics);
+  }
+
+  @Test
+  void shouldReuseReleasedProjectile() {
+    Entity projectile = pool.obtain(ProjectileType.ALIEN_SOLDIER, target);
+    verify(gameArea).spawnEntity(projectile);
+    assertEquals(1, pool.getActiveCount());
+
+    pool.release(projectile);
+    assertFalse(projectile.isEnabled());
+    assertFalse(projectile.getComponent(TextureRenderComponent.class).isVisible());
+    assertEquals(0, pool.getActiveCount());
+
+    physics.update();
+    assertEquals(1, pool.getFreeCount());
+    assertFalse(projectile.getComponent(PhysicsComponent.class).getBody().isActive());
+
+    Entity reused = pool.obtain(ProjectileType.ALIEN_SOLDIER, target);
+    assertSame(projectile, reused);
+    assertTrue(reused.isEnabled());
+    assertTrue(reused.getComponent(TextureRenderComponent.class).isVisible());
+    assertTrue(reused.getComponent(PhysicsComponent.class).getBody().isActive());
+    verify(gameArea, times(1)).spawnEntity(any());
+    assertEquals(1, pool.getCreatedCount());
+    assertEquals(1, pool.getReusedCount());
+  }
+
+  @Test
+  void shouldNotReuseBeforePhysicsStep() {
+    Entity projectile = pool.obtain(ProjectileType.ALIEN_BOSS, target);
+    pool.release(projectile);
+
+    Entity other = pool.obtain(ProjectileType.ALIEN_BOSS, target);
+    assertNotSame(projectile, other);
+    assertEquals(2, pool.getCreatedCount());
+  }
+
+  @Test
+  void shouldPoolTypesSeparately() {
+    Entity projectile = pool.obtain(ProjectileType.ALIEN_BARBETTE, target);
+    pool.release(projectile);
+    physics.update();
+
+    Entity other = pool.obtain(ProjectileType.ALIEN_LASER_HOLE, target);
+    assertNotSame(projectile, other);
+    assertEquals(1, pool.getFreeCount());
+  }
+
+  @Test
+  void shouldIgnoreDoubleRelease() {
+    Entity projectile = pool.obtain(ProjectileType.ALIEN_SOLDIER, target);
+    pool.release(projectile);
+    pool.release(projectile);
+    physics.update();
+
+    assertEquals(1, pool.getReleasedCount());
+    assertEquals(1, pool.getFreeCount());
+  }
+}
@@ -9,7 +9,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -92,4 +97,56 @@ class EventHandlerTest {
       handler.trigger("stringEvent", true);
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldInternKeys() {
+    EventKey key = EventKey.of("event");
+    assertSame(key, EventKey.of("event"));
+    assertEquals("event", key.getName());
+    assertNotEquals(key.getId(), EventKey.of("event2").getId());
+  }
+
+  @Test
+  void shouldTriggerWithKey() {
+    EventKey key = EventKey.of("event");
+    EventListener2<Integer, Boolean> listener = (EventListener2<Integer, Boolean>)mock(EventListener2.class);
+    EventListener0 otherListener = mock(EventListener0.class);
+    handler.addListener(key, listener);
+    handler.addListener(EventKey.of("event2"), otherListener);
+
+    handler.trigger(key, 5, true);
+    verify(listener).handle(5, true);
+    verifyNoInteractions(otherListener);
+  }
+
+  @Test
+  void shouldMixKeysAndNames() {
+    EventListener1<String> listener = (EventListener1<String>)mock(EventListener1.class);
+    EventListener1<String> listener2 = (EventListener1<String>)mock(EventListener1.class);
+    handler.addListener("event", listener);
+    handler.addListener(EventKey.of("event"), listener2);
+
+    handler.trigger(EventKey.of("event"), "a");
+    handler.trigger("event", "b");
+    verify(listener).handle("a");
+    verify(listener).handle("b");
+    verify(listener2).handle("a");
+    verify(listener2).handle("b");
+  }
+
+  @Test
+  void shouldRemoveListener() {
+    EventKey key = EventKey.of("event");
+    EventListener0 listener = mock(EventListener0.class);
+    EventListener0 otherListener = mock(EventListener0.class);
+    handler.addListener(key, listener);
+    handler.addListener(key, otherListener);
+
+    assertTrue(handler.removeListener(key, listener));
+    assertFalse(handler.removeListener(key, listener));
+    assertFalse(handler.removeListener(EventKey.of("event2"), otherListener));
+    handler.trigger(key);
+    verifyNoInteractions(listener);
+    verify(otherListener).handle();
+  }
+}
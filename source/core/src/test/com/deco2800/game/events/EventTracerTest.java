@@ -0,0 +1,59 @@
+package com.deco2800.game.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.deco2800.game.events.EventTracer.Category;
+import com.deco2800.game.extensions.GameExtension;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class EventTracerTest {
+  @BeforeEach
+  void beforeEach() {
+    EventTracer.clear();
+  }
+
+  @AfterEach
+  void afterEach() {
+    EventTracer.clear();
+  }
+
+  @Test
+  void shouldDumpOldestFirst() {
+    EventTracer.record(Category.EVENT, "first", 1);
+    EventTracer.record(Category.PHYSICS, "second", EventTracer.NO_ENTITY);
+
+    List<String> lines = EventTracer.dump();
+    assertEquals(2, lines.size());
+    assertTrue(lines.get(0).contains("EVENT"));
+    assertTrue(lines.get(0).endsWith("first entity=1"));
+    assertTrue(lines.get(1).contains("PHYSICS"));
+    assertTrue(lines.get(1).endsWith("second"));
+  }
+
+  @Test
+  void shouldOverwriteOldest() {
+    int extra = 5;
+    for (int i = 0; i < EventTracer.CAPACITY + extra; i++) {
+      EventTracer.record(Category.AI, "task", i);
+    }
+
+    List<String> lines = EventTracer.dump();
+    assertEquals(EventTracer.CAPACITY, lines.size());
+    assertTrue(lines.get(0).endsWith("entity=" + extra));
+    assertTrue(lines.get(lines.size() - 1).endsWith("entity=" + (EventTracer.CAPACITY + extra - 1)));
+  }
+
+  @Test
+  void shouldClear() {
+    EventTracer.record(Category.ENTITY, "enabled", 3);
+    EventTracer.clear();
+    assertEquals(0, EventTracer.size());
+    assertTrue(EventTracer.dump().isEmpty());
+  }
+}
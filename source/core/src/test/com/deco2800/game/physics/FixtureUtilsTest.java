@@ -0,0 +1,54 @@
+package com.deco2800.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.BodyUserData.Role;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class FixtureUtilsTest {
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+  }
+
+  @Test
+  void shouldFindEntityAndRole() {
+    Entity entity =
+        new Entity().addComponent(new PhysicsComponent()).addComponent(new ColliderComponent());
+    entity.create();
+    Fixture fixture = entity.getComponent(ColliderComponent.class).getFixture();
+
+    assertEquals(entity, FixtureUtils.getEntity(fixture));
+    assertEquals(Role.NONE, FixtureUtils.getRole(fixture));
+
+    FixtureUtils.setRole(entity, Role.BUFF);
+    assertTrue(FixtureUtils.hasRole(fixture, Role.BUFF));
+    assertFalse(FixtureUtils.hasRole(fixture, Role.NONE));
+  }
+
+  @Test
+  void shouldHandleFixturesWithoutEntity() {
+    PhysicsEngine engine = ServiceLocator.getPhysicsService().getPhysics();
+    Fixture fixture = engine.createBody(new BodyDef()).createFixture(new FixtureDef());
+
+    assertNull(FixtureUtils.getEntity(fixture));
+    assertEquals(Role.NONE, FixtureUtils.getRole(fixture));
+
+    // Entities without physics can't have a role
+    FixtureUtils.setRole(new Entity(), Role.BUFF);
+  }
+}
@@ -0,0 +1,138 @@
+package com.deco2800.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PerceptionService.Sight;
+import com.deco2800.game.physics.raycast.RaycastHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class PerceptionServiceTest {
+  private PhysicsEngine physics;
+  private Entity observer;
+  private Entity target;
+
+  @BeforeEach
+  void beforeEach() {
+    physics = mock(PhysicsEngine.class);
+    observer = new Entity();
+    target = new Entity();
+    target.setPosition(5f, 0f);
+  }
+
+  @Test
+  void shouldCacheVisibility() {
+    PerceptionService perception = new PerceptionService(physics, 4, 0.5f);
+    Sight sight = perception.track(observer, target, PhysicsLayer.OBSTACLE);
+
+    assertTrue(sight.isVisible());
+    assertTrue(sight.isVisible());
+    assertTrue(sight.isVisible());
+    assertEquals(1, perception.getRaycastCount());
+    assertEquals(2, perception.getCachedCount());
+  }
+
+  @Test
+  void shouldRefreshAfterSteps() {
+    PerceptionService perception = new PerceptionService(physics, 4, 0.5f);
+    Sight sight = perception.track(observer, target, PhysicsLayer.OBSTACLE);
+    assertTrue(sight.isVisible());
+
+    // The first check is backdated by the sight's phase, so refresh once to start from step 10
+    when(physics.getStepCount()).thenReturn(10L);
+    assertTrue(sight.isVisible());
+
+    // An obstacle appears, but the cached result is still used until enough steps have passed
+    blockAt(2f, 0f);
+    when(physics.getStepCount()).thenReturn(13L);
+    assertTrue(sight.isVisible());
+
+    when(physics.getStepCount()).thenReturn(14L);
+    assertFalse(sight.isVisible());
+    assertEquals(new Vector2(2f, 0f), sight.getHitPoint());
+    assertEquals(3, perception.getRaycastCount());
+  }
+
+  @Test
+  void shouldRefreshWhenMoved() {
+    PerceptionService perception = new PerceptionService(physics, 100, 0.5f);
+    Sight sight = perception.track(observer, target, PhysicsLayer.OBSTACLE);
+    assertTrue(sight.isVisible());
+    blockAt(2f, 0f);
+
+    // Small moves keep the cached result
+    target.setPosition(5.3f, 0f);
+    assertTrue(sight.isVisible());
+
+    target.setPosition(6f, 0f);
+    assertFalse(sight.isVisible());
+
+    observer.setPosition(0f, 1f);
+    assertFalse(sight.isVisible());
+    assertEquals(3, perception.getRaycastCount());
+    assertEquals(1, perception.getCachedCount());
+  }
+
+  @Test
+  void shouldStaggerRefreshes() {
+    PerceptionService perception = new PerceptionService(physics, 4, 0.5f);
+    // Observers with consecutive IDs
+    Sight[] sights = new Sight[4];
+    for (int i = 0; i < sights.length; i++) {
+      sights[i] = perception.track(new Entity(), target, PhysicsLayer.OBSTACLE);
+      sights[i].isVisible();
+    }
+
+    // Each step after the first check, exactly one sight should refresh
+    for (long step = 1; step <= 4; step++) {
+      when(physics.getStepCount()).thenReturn(step);
+      long before = perception.getRaycastCount();
+      for (Sight sight : sights) {
+        sight.isVisible();
+      }
+      assertEquals(before + 1, perception.getRaycastCount());
+    }
+  }
+
+  @Test
+  void shouldTakePhaseFromObserver() {
+    PerceptionService perception = new PerceptionService(physics, 4, 0.5f);
+    Sight first = perception.track(observer, target, PhysicsLayer.OBSTACLE);
+    Sight second = perception.track(new Entity(), target, PhysicsLayer.OBSTACLE);
+    Sight again = perception.track(observer, target, PhysicsLayer.OBSTACLE);
+    first.isVisible();
+    second.isVisible();
+    again.isVisible();
+
+    // Tracking order doesn't matter, sights of the same observer refresh on the same step
+    for (long step = 1; step <= 4; step++) {
+      when(physics.getStepCount()).thenReturn(step);
+      long before = perception.getRaycastCount();
+      first.isVisible();
+      long firstRaycasts = perception.getRaycastCount() - before;
+      again.isVisible();
+      assertEquals(firstRaycasts * 2, perception.getRaycastCount() - before);
+    }
+  }
+
+  private void blockAt(float x, float y) {
+    when(physics.raycast(any(), any(), anyShort(), any()))
+        .thenAnswer(
+            invocation -> {
+              RaycastHit hit = invocation.getArgument(3);
+              hit.point = new Vector2(x, y);
+              return true;
+            });
+  }
+}
@@ -63,4 +63,30 @@ class PhysicsComponentTest {
     entity.setPosition(newPos);
     verify(body).setTransform(eq(newPos), anyFloat());
   }
+
+  @Test
+  void shouldInterpolateBetweenSteps() {
+    Entity entity = new Entity();
+    PhysicsComponent component = new PhysicsComponent();
+    entity.addComponent(component);
+    entity.create();
+    verify(engine).addInterpolated(component);
+
+    Vector2 bodyPos = new Vector2(2f, 0f);
+    when(body.getPosition()).thenReturn(bodyPos);
+    when(engine.getAlpha()).thenReturn(0.5f);
+    assertEquals(new Vector2(1f, 0f), component.getInterpolatedPosition(new Vector2()));
+
+    component.storePreviousPosition();
+    bodyPos.set(4f, 0f);
+    assertEquals(new Vector2(3f, 0f), component.getInterpolatedPosition(new Vector2()));
+
+    // Teleporting shouldn't interpolate from the old position
+    entity.setPosition(10f, 10f);
+    bodyPos.set(10f, 10f);
+    assertEquals(new Vector2(10f, 10f), component.getInterpolatedPosition(new Vector2()));
+
+    component.dispose();
+    verify(engine).removeInterpolated(component);
+  }
 }
@@ -1,6 +1,12 @@
 package com.deco2800.game.physics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -9,7 +15,9 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.EntityService;
 import com.deco2800.game.events.listeners.EventListener2;
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.physics.components.ColliderComponent;
@@ -82,6 +90,80 @@ class PhysicsContactListenerTest {
     verify(endCallback2).handle(fixture2, fixture1);
   }
 
+  @Test
+  void shouldDropUnsubscribedLayers() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    entity2.getComponent(ColliderComponent.class).setLayer(PhysicsLayer.OBSTACLE);
+    Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+
+    // Entity 1 only wants to hear about the player, entity 2 hears everything it listens for
+    PhysicsContactListener.subscribe(entity1, PhysicsLayer.ALL, PhysicsLayer.PLAYER);
+    EventListener2<Fixture, Fixture> callback1 = mock(EventListener2.class);
+    EventListener2<Fixture, Fixture> callback2 = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", callback1);
+    entity2.getEvents().addListener("collisionStart", callback2);
+
+    PhysicsEngine engine = ServiceLocator.getPhysicsService().getPhysics();
+    engine.update();
+
+    verify(callback1, never()).handle(any(), any());
+    verify(callback2).handle(fixture2, fixture1);
+    assertEquals(1, engine.getContactListener().getDroppedCount());
+    assertEquals(1, engine.getContactListener().getDispatchedCount());
+  }
+
+  @Test
+  void shouldDeliverContactsAfterStep() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    PhysicsContactListener.subscribe(entity1, PhysicsLayer.ALL, PhysicsLayer.ALL);
+
+    World world = ServiceLocator.getPhysicsService().getPhysics().getWorld();
+    boolean[] lockedDuringEvent = {true};
+    entity1
+        .getEvents()
+        .addListener(
+            "collisionStart", (Fixture me, Fixture other) -> lockedDuringEvent[0] = world.isLocked());
+
+    ServiceLocator.getPhysicsService().getPhysics().update();
+    assertFalse(lockedDuringEvent[0]);
+  }
+
+  @Test
+  void shouldSkipContactsWithDestroyedFixtures() {
+    ServiceLocator.registerEntityService(new EntityService());
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    Entity entity3 = createPhysicsEntity();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+
+    // The first contact entity 1 hears about destroys entity 2, with its contacts still queued
+    Fixture[] destroyed = {null};
+    EventListener2<Fixture, Fixture> checkNotDestroyed =
+        (Fixture me, Fixture other) -> {
+          assertNotSame(destroyed[0], me);
+          assertNotSame(destroyed[0], other);
+        };
+    entity1
+        .getEvents()
+        .addListener(
+            "collisionStart",
+            (Fixture me, Fixture other) -> {
+              checkNotDestroyed.handle(me, other);
+              if (destroyed[0] == null) {
+                destroyed[0] = fixture2;
+                entity2.dispose();
+              }
+            });
+    entity2.getEvents().addListener("collisionStart", checkNotDestroyed);
+    entity3.getEvents().addListener("collisionStart", checkNotDestroyed);
+
+    ServiceLocator.getPhysicsService().getPhysics().update();
+    assertTrue(destroyed[0] != null);
+  }
+
   Entity createPhysicsEntity() {
     Entity entity =
         new Entity().addComponent(new PhysicsComponent()).addComponent(new ColliderComponent());
@@ -1,7 +1,11 @@
 package com.deco2800.game.physics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,6 +19,7 @@ import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.services.GameTime;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -50,6 +55,48 @@ class PhysicsEngineTest {
     verify(world, times(3)).step(anyFloat(), anyInt(), anyInt());
   }
 
+  @Test
+  void shouldRunActionsAfterEachStep() {
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    when(gameTime.getDeltaTime()).thenReturn(0.06f);
+    Runnable action = mock(Runnable.class);
+    doAnswer(
+            invocation -> {
+              engine.runAfterStep(action);
+              return null;
+            })
+        .when(world)
+        .step(anyFloat(), anyInt(), anyInt());
+
+    engine.update();
+    InOrder order = inOrder(world, action);
+    for (int i = 0; i < 3; i++) {
+      order.verify(world).step(anyFloat(), anyInt(), anyInt());
+      order.verify(action).run();
+    }
+  }
+
+  @Test
+  void shouldStepAtTickRate() {
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setTickRate(30);
+    when(gameTime.getDeltaTime()).thenReturn(0.11f);
+
+    engine.update();
+    verify(world, times(3)).step(anyFloat(), anyInt(), anyInt());
+  }
+
+  @Test
+  void shouldKeepRemainderAsAlpha() {
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setTickRate(50);
+    when(gameTime.getDeltaTime()).thenReturn(0.03f);
+
+    engine.update();
+    verify(world, times(1)).step(anyFloat(), anyInt(), anyInt());
+    assertEquals(0.5f, engine.getAlpha(), 0.001f);
+  }
+
   @Test
   void shouldCreateBody() {
     PhysicsEngine engine = new PhysicsEngine(world, gameTime);
@@ -0,0 +1,96 @@
+package com.deco2800.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.raycast.RaycastHit;
+import com.deco2800.game.physics.raycast.RaycastHitBuffer;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class PhysicsQueryTest {
+  private PhysicsEngine engine;
+  private Fixture near;
+  private Fixture far;
+
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerTimeSource(mock(GameTime.class));
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    engine = ServiceLocator.getPhysicsService().getPhysics();
+    near = createCollider(2f, PhysicsLayer.OBSTACLE);
+    far = createCollider(5f, PhysicsLayer.PLAYER);
+  }
+
+  @Test
+  void shouldReuseHitBuffer() {
+    RaycastHitBuffer hits = new RaycastHitBuffer();
+    assertEquals(2, engine.raycastAll(0f, 0.5f, 10f, 0.5f, PhysicsLayer.ALL, hits));
+    assertEquals(near, hits.getClosest().fixture);
+    RaycastHit first = hits.get(0);
+
+    assertEquals(1, engine.raycastAll(0f, 0.5f, 10f, 0.5f, PhysicsLayer.PLAYER, hits));
+    assertEquals(far, hits.get(0).fixture);
+    assertSame(first, hits.get(0));
+  }
+
+  @Test
+  void shouldQueryArea() {
+    Array<Fixture> fixtures = new Array<>();
+    assertEquals(1, engine.queryAABB(1.5f, 0f, 3f, 1f, PhysicsLayer.ALL, fixtures));
+    assertEquals(near, fixtures.first());
+
+    assertEquals(0, engine.queryAABB(1.5f, 0f, 3f, 1f, PhysicsLayer.PLAYER, fixtures));
+    assertEquals(2, engine.queryAABB(0f, 0f, 10f, 1f, PhysicsLayer.ALL, fixtures));
+    assertEquals(3, fixtures.size);
+  }
+
+  @Test
+  void shouldCastBox() {
+    RaycastHit hit = new RaycastHit();
+    // Centre passes over the collider, but the bottom of the box doesn't
+    assertFalse(engine.raycast(0f, 1.2f, 10f, 1.2f, PhysicsLayer.ALL, hit));
+    assertTrue(engine.boxCast(0f, 1.2f, 0.5f, 0.5f, 10f, 0f, PhysicsLayer.ALL, hit));
+    assertEquals(near, hit.fixture);
+    assertEquals(0.15f, hit.fraction, 0.001f);
+
+    assertFalse(engine.boxCast(0f, 3f, 0.5f, 0.5f, 10f, 0f, PhysicsLayer.ALL, hit));
+  }
+
+  @Test
+  void shouldCountQueriesPerFrame() {
+    RaycastHit hit = new RaycastHit();
+    engine.raycast(0f, 0.5f, 10f, 0.5f, PhysicsLayer.ALL, hit);
+    engine.boxCast(0f, 0.5f, 0.5f, 0.5f, 10f, 0f, PhysicsLayer.ALL, hit);
+    engine.queryAABB(0f, 0f, 1f, 1f, PhysicsLayer.ALL, new Array<>());
+    assertEquals(0, engine.getQueryCount());
+
+    engine.update();
+    assertEquals(3, engine.getQueryCount());
+    engine.update();
+    assertEquals(0, engine.getQueryCount());
+  }
+
+  private static Fixture createCollider(float x, short layer) {
+    Entity entity =
+        new Entity()
+            .addComponent(new PhysicsComponent())
+            .addComponent(new ColliderComponent().setLayer(layer));
+    entity.setPosition(x, 0f);
+    entity.create();
+    return entity.getComponent(ColliderComponent.class).getFixture();
+  }
+}
@@ -0,0 +1,96 @@
+package com.deco2800.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Times radius queries on the spatial hash against a linear scan of every entity, at 100, 1k and
+ * 10k entities. Tagged so it only runs in the benchmarkTest task.
+ */
+@Tag("benchmark")
+@ExtendWith(GameExtension.class)
+class SpatialHashBenchmarkTest {
+  private static final Logger logger = LoggerFactory.getLogger(SpatialHashBenchmarkTest.class);
+  private static final int[] ENTITY_COUNTS = {100, 1000, 10000};
+  private static final int QUERIES = 2000;
+  private static final int WARMUP_ROUNDS = 10;
+  private static final float WORLD_SIZE = 200f;
+  private static final float RADIUS = 8f;
+
+  @Test
+  void shouldTimeAgainstLinearScans() {
+    for (int count : ENTITY_COUNTS) {
+      float[] positions = new float[count * 2];
+      SpatialHashService hash = createHash(positions, new Random(count));
+      float[] queries = new float[QUERIES * 2];
+      Random random = new Random(3);
+      for (int i = 0; i < queries.length; i++) {
+        queries[i] = random.nextFloat() * WORLD_SIZE;
+      }
+
+      // Warm up both, then time them
+      for (int i = 0; i < WARMUP_ROUNDS; i++) {
+        queryHash(hash, queries);
+        scanLinear(positions, queries);
+      }
+      long start = System.nanoTime();
+      int hashFound = queryHash(hash, queries);
+      long hashNanos = System.nanoTime() - start;
+      start = System.nanoTime();
+      int linearFound = scanLinear(positions, queries);
+      long linearNanos = System.nanoTime() - start;
+
+      assertEquals(linearFound, hashFound);
+      logger.info(
+          "{} entities: spatial hash {} ns/query, linear scan {} ns/query",
+          count,
+          hashNanos / QUERIES,
+          linearNanos / QUERIES);
+    }
+  }
+
+  private static int queryHash(SpatialHashService hash, float[] queries) {
+    Array<Entity> found = new Array<>();
+    int total = 0;
+    for (int i = 0; i < queries.length; i += 2) {
+      found.clear();
+      total += hash.queryRadius(queries[i], queries[i + 1], RADIUS, PhysicsLayer.ALL, found);
+    }
+    return total;
+  }
+
+  private static int scanLinear(float[] positions, float[] queries) {
+    int total = 0;
+    for (int i = 0; i < queries.length; i += 2) {
+      for (int j = 0; j < positions.length; j += 2) {
+        float dx = positions[j] - queries[i];
+        float dy = positions[j + 1] - queries[i + 1];
+        if (dx * dx + dy * dy <= RADIUS * RADIUS) {
+          total++;
+        }
+      }
+    }
+    return total;
+  }
+
+  private static SpatialHashService createHash(float[] positions, Random random) {
+    SpatialHashService hash = new SpatialHashService();
+    for (int i = 0; i < positions.length; i += 2) {
+      float x = random.nextFloat() * WORLD_SIZE;
+      float y = random.nextFloat() * WORLD_SIZE;
+      hash.update(new Entity(), x, y, PhysicsLayer.NPC);
+      positions[i] = x;
+      positions[i + 1] = y;
+    }
+    return hash;
+  }
+}
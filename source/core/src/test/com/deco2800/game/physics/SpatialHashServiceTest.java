@@ -0,0 +1,205 @@
+package com.deco2800.game.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class SpatialHashServiceTest {
+  private static final int[] ENTITY_COUNTS = {100, 1000, 10000};
+  private static final int QUERIES = 50;
+  private static final float WORLD_SIZE = 200f;
+
+  @Test
+  void shouldQueryRadiusAndArea() {
+    SpatialHashService hash = new SpatialHashService();
+    Entity near = new Entity();
+    Entity far = new Entity();
+    Entity player = new Entity();
+    hash.update(near, 1f, 1f, PhysicsLayer.OBSTACLE);
+    hash.update(far, 30f, -10f, PhysicsLayer.OBSTACLE);
+    hash.update(player, 2f, 0f, PhysicsLayer.PLAYER);
+
+    Array<Entity> found = new Array<>();
+    assertEquals(2, hash.queryRadius(0f, 0f, 3f, PhysicsLayer.ALL, found));
+    assertTrue(found.contains(near, true) && found.contains(player, true));
+
+    found.clear();
+    assertEquals(1, hash.queryRadius(0f, 0f, 3f, PhysicsLayer.PLAYER, found));
+    assertEquals(player, found.first());
+
+    found.clear();
+    assertEquals(1, hash.queryAABB(20f, -20f, 40f, 0f, PhysicsLayer.ALL, found));
+    assertEquals(far, found.first());
+
+    // Moving between cells
+    hash.update(far, 0f, 0f, PhysicsLayer.OBSTACLE);
+    found.clear();
+    assertEquals(3, hash.queryRadius(0f, 0f, 3f, PhysicsLayer.ALL, found));
+
+    hash.remove(far);
+    found.clear();
+    assertEquals(2, hash.queryRadius(0f, 0f, 3f, PhysicsLayer.ALL, found));
+    assertEquals(2, hash.size());
+  }
+
+  @Test
+  void shouldMatchLinearScans() {
+    Array<Entity> entities = new Array<>();
+    SpatialHashService hash = createHash(500, entities, new Random(1));
+    Random random = new Random(2);
+    Array<Entity> found = new Array<>();
+    for (int i = 0; i < 100; i++) {
+      float x = random.nextFloat() * WORLD_SIZE;
+      float y = random.nextFloat() * WORLD_SIZE;
+      found.clear();
+      hash.queryRadius(x, y, 10f, PhysicsLayer.ALL, found);
+      assertEquals(countWithin(entities, x, y, 10f), found.size);
+
+      // Nearest entities should be sorted, with none closer left out
+      found.clear();
+      assertEquals(5, hash.queryNearest(x, y, 5, Float.MAX_VALUE, PhysicsLayer.ALL, found));
+      float furthest = found.peek().getPosition().dst(x, y);
+      for (int j = 1; j < found.size; j++) {
+        assertTrue(
+            found.get(j - 1).getPosition().dst(x, y) <= found.get(j).getPosition().dst(x, y));
+      }
+      assertEquals(4, countWithin(entities, x, y, furthest - 0.0001f));
+    }
+  }
+
+  @Test
+  void shouldLimitNearestByRadius() {
+    SpatialHashService hash = new SpatialHashService();
+    hash.update(new Entity(), 1f, 0f, PhysicsLayer.NPC);
+    hash.update(new Entity(), 100f, 0f, PhysicsLayer.NPC);
+
+    Array<Entity> found = new Array<>();
+    assertEquals(1, hash.queryNearest(0f, 0f, 3, 50f, PhysicsLayer.NPC, found));
+    assertEquals(0, hash.queryNearest(0f, 0f, 3, 50f, PhysicsLayer.PLAYER, found));
+  }
+
+  @Test
+  void shouldTrackPhysicsEntities() {
+    ServiceLocator.registerTimeSource(mock(GameTime.class));
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    SpatialHashService hash = physicsService.enableSpatialHash();
+    ColliderComponent collider = new ColliderComponent().setLayer(PhysicsLayer.NPC);
+    Entity entity = new Entity().addComponent(new PhysicsComponent()).addComponent(collider);
+    entity.setPosition(10f, 10f);
+    entity.create();
+    entity.earlyUpdate();
+
+    Array<Entity> found = new Array<>();
+    assertEquals(1, hash.queryRadius(10.5f, 10.5f, 0.1f, PhysicsLayer.NPC, found));
+    assertEquals(0, hash.queryRadius(10.5f, 10.5f, 0.1f, PhysicsLayer.PLAYER, found));
+
+    // Layer changes are seen on the next update
+    collider.setLayer(PhysicsLayer.PLAYER);
+    entity.earlyUpdate();
+    assertEquals(1, hash.queryRadius(10.5f, 10.5f, 0.1f, PhysicsLayer.PLAYER, found));
+
+    entity.getComponent(PhysicsComponent.class).dispose();
+    assertEquals(0, hash.size());
+  }
+
+  @Test
+  void shouldNotFindDisabledEntities() {
+    ServiceLocator.registerTimeSource(mock(GameTime.class));
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    SpatialHashService hash = physicsService.enableSpatialHash();
+    Entity sleeping = createPhysicsEntity(0f, 0f);
+    Entity released = createPhysicsEntity(1f, 0f);
+
+    // Sleeping entities are disabled without updating their position again
+    sleeping.setEnabled(false);
+    // Released projectiles disable their physics component too
+    released.getComponent(PhysicsComponent.class).setEnabled(false);
+    assertEquals(1, hash.size());
+
+    Array<Entity> found = new Array<>();
+    assertEquals(0, hash.queryRadius(0f, 0f, 5f, PhysicsLayer.ALL, found));
+    assertEquals(0, hash.queryAABB(-5f, -5f, 5f, 5f, PhysicsLayer.ALL, found));
+    assertEquals(0, hash.queryNearest(0f, 0f, 2, 5f, PhysicsLayer.ALL, found));
+
+    // Released projectiles are tracked again once reused
+    released.getComponent(PhysicsComponent.class).setEnabled(true);
+    released.earlyUpdate();
+    assertEquals(1, hash.queryRadius(0f, 0f, 5f, PhysicsLayer.ALL, found));
+  }
+
+  @Test
+  void shouldNotTrackUnlessEnabled() {
+    ServiceLocator.registerTimeSource(mock(GameTime.class));
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    createPhysicsEntity(0f, 0f);
+    assertNull(ServiceLocator.getPhysicsService().getSpatialHash());
+  }
+
+  @Test
+  void shouldMatchLinearScansAtEachScale() {
+    for (int count : ENTITY_COUNTS) {
+      Array<Entity> entities = new Array<>();
+      SpatialHashService hash = createHash(count, entities, new Random(count));
+      Random random = new Random(3);
+      Array<Entity> found = new Array<>();
+      for (int i = 0; i < QUERIES; i++) {
+        float x = random.nextFloat() * WORLD_SIZE;
+        float y = random.nextFloat() * WORLD_SIZE;
+        found.clear();
+        hash.queryRadius(x, y, 8f, PhysicsLayer.ALL, found);
+        assertEquals(countWithin(entities, x, y, 8f), found.size);
+      }
+      assertEquals(count, hash.size());
+    }
+  }
+
+  private static SpatialHashService createHash(
+      int count, Array<Entity> entities, Random random) {
+    SpatialHashService hash = new SpatialHashService();
+    for (int i = 0; i < count; i++) {
+      Entity entity = new Entity();
+      float x = random.nextFloat() * WORLD_SIZE;
+      float y = random.nextFloat() * WORLD_SIZE;
+      entity.setPosition(x, y);
+      hash.update(entity, x, y, PhysicsLayer.NPC);
+      entities.add(entity);
+    }
+    return hash;
+  }
+
+  private static Entity createPhysicsEntity(float x, float y) {
+    Entity entity =
+        new Entity()
+            .addComponent(new PhysicsComponent())
+            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.NPC));
+    entity.setPosition(x, y);
+    entity.create();
+    entity.earlyUpdate();
+    return entity;
+  }
+
+  private static int countWithin(Array<Entity> entities, float x, float y, float radius) {
+    int count = 0;
+    for (Entity entity : entities) {
+      if (entity.getPosition().dst(x, y) <= radius) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
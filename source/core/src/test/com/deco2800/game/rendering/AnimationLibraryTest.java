@@ -0,0 +1,134 @@
+package com.deco2800.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.AssetManifest;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class AnimationLibraryTest {
+  private static final String SOLDIER_ATLAS = "images/alienSoldier.atlas";
+  private static final int ENTITIES = 30;
+
+  @Test
+  void shouldShareAnimations() {
+    TextureAtlas atlas = createMockAtlas("walk", 4);
+    AnimationLibrary library = new AnimationLibrary();
+
+    Animation<TextureRegion> walk = library.get(atlas, "walk", 0.1f, PlayMode.LOOP);
+    assertSame(walk, library.get(atlas, "walk", 0.1f, PlayMode.LOOP));
+    assertNotSame(walk, library.get(atlas, "walk", 0.2f, PlayMode.LOOP));
+    assertNotSame(walk, library.get(atlas, "walk", 0.1f, PlayMode.NORMAL));
+    assertEquals(3, library.size());
+    // The atlas is only searched once for all three
+    verify(atlas, times(1)).findRegions("walk");
+
+    assertNull(library.get(atlas, "missing", 0.1f, PlayMode.LOOP));
+    assertThrows(UnsupportedOperationException.class, () -> walk.setPlayMode(PlayMode.NORMAL));
+    assertThrows(UnsupportedOperationException.class, () -> walk.setFrameDuration(1f));
+
+    library.remove(atlas);
+    assertEquals(0, library.size());
+    assertNotSame(walk, library.get(atlas, "walk", 0.1f, PlayMode.LOOP));
+  }
+
+  @Test
+  void shouldKeepPlaybackPerEntity() {
+    ServiceLocator.registerResourceService(new ResourceService());
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(1f);
+    ServiceLocator.registerTimeSource(gameTime);
+    TextureAtlas atlas = createMockAtlas("walk", 4);
+
+    AnimationRenderComponent first = new AnimationRenderComponent(atlas);
+    AnimationRenderComponent second = new AnimationRenderComponent(atlas);
+    first.setEntity(new Entity());
+    second.setEntity(new Entity());
+    first.addAnimation("walk", 1f);
+    second.addAnimation("walk", 1f);
+    assertEquals(1, ServiceLocator.getResourceService().getAnimationLibrary().size());
+
+    first.startAnimation("walk");
+    second.startAnimation("walk");
+    SpriteBatch batch = mock(SpriteBatch.class);
+    for (int i = 0; i < 4; i++) {
+      first.draw(batch);
+    }
+    assertTrue(first.isFinished());
+    assertFalse(second.isFinished());
+  }
+
+  @Test
+  void shouldForgetUnloadedAtlases() {
+    ResourceService resourceService = new ResourceService();
+    AssetManifest manifest = new AssetManifest();
+    manifest.textureAtlases = new String[] {SOLDIER_ATLAS};
+    resourceService.acquire(manifest);
+    resourceService.loadAll();
+    TextureAtlas atlas = resourceService.getAsset(SOLDIER_ATLAS, TextureAtlas.class);
+    AnimationLibrary library = resourceService.getAnimationLibrary();
+    library.get(atlas, "float", 0.2f, PlayMode.LOOP);
+    assertEquals(1, library.size());
+
+    resourceService.release(manifest);
+    resourceService.unloadUnreferenced();
+    assertEquals(0, library.size());
+  }
+
+  @Test
+  void shouldSearchAtlasOncePerWave() {
+    TextureAtlas atlas = createMockAtlas("float", 4);
+
+    // A wave of alien soldiers shares one animation
+    ServiceLocator.registerResourceService(new ResourceService());
+    spawnWave(atlas);
+    verify(atlas, times(1)).findRegions("float");
+    assertEquals(1, ServiceLocator.getResourceService().getAnimationLibrary().size());
+
+    // Without the library, each entity searches the atlas and builds its own
+    ServiceLocator.clear();
+    spawnWave(atlas);
+    verify(atlas, times(1 + ENTITIES)).findRegions("float");
+  }
+
+  private static void spawnWave(TextureAtlas atlas) {
+    for (int i = 0; i < ENTITIES; i++) {
+      AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+      animator.setEntity(new Entity());
+      animator.addAnimation("float", 0.2f, PlayMode.LOOP);
+    }
+  }
+
+  private static TextureAtlas createMockAtlas(String name, int frames) {
+    TextureAtlas atlas = mock(TextureAtlas.class);
+    Array<AtlasRegion> regions = new Array<>(frames);
+    for (int i = 0; i < frames; i++) {
+      regions.add(mock(AtlasRegion.class));
+    }
+    when(atlas.findRegions(name)).thenReturn(regions);
+    return atlas;
+  }
+}
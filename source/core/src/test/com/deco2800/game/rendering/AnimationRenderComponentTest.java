@@ -92,6 +92,29 @@ class AnimationRenderComponentTest {
     }
   }
 
+  @Test
+  void shouldKeepPlayingWhenCulled() {
+    TextureAtlas atlas = createMockAtlas("test_name", 5);
+    Array<AtlasRegion> regions = atlas.findRegions("test_name");
+    SpriteBatch batch = mock(SpriteBatch.class);
+
+    GameTime gameTime = mock(GameTime.class);
+    ServiceLocator.registerTimeSource(gameTime);
+    when(gameTime.getDeltaTime()).thenReturn(1f);
+
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    Entity entity = new Entity();
+    animator.setEntity(entity);
+    animator.addAnimation("test_name", 1f);
+    animator.startAnimation("test_name");
+
+    // Off screen for two frames, then drawn at the third
+    animator.renderCulled();
+    animator.renderCulled();
+    animator.draw(batch);
+    verify(batch).draw(regions.get(2), 0f, 0f, 1f, 1f);
+  }
+
   @Test
   void shouldFinish() {
     TextureAtlas atlas = createMockAtlas("test_name", 1);
@@ -81,4 +81,18 @@ class DebugRendererTest {
 
     verify(shapeRenderer, times(0)).line(any(Vector2.class), any(Vector2.class));
   }
+
+  @Test
+  void shouldDropRequestsWhileDisabled() {
+    Vector2 from = new Vector2(1f, 2f);
+    Vector2 to = new Vector2(3f, 4f);
+    debugRenderer.setActive(false);
+    debugRenderer.drawLine(from, to);
+    debugRenderer.render(projMatrix);
+
+    // Lines from frames drawn while disabled aren't kept for later
+    debugRenderer.setActive(true);
+    debugRenderer.render(projMatrix);
+    verify(shapeRenderer, times(0)).line(any(Vector2.class), any(Vector2.class));
+  }
 }
@@ -3,6 +3,7 @@ package com.deco2800.game.rendering;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +45,23 @@ class RenderComponentTest {
     verify(component).draw(any());
   }
 
+  @Test
+  void shouldDrawWhenDisabled() {
+    // Pausing disables animation updates, which mustn't hide the entity
+    RenderComponent component = spy(RenderComponent.class);
+    component.setEnabled(false);
+    component.render(null);
+    verify(component).draw(any());
+  }
+
+  @Test
+  void shouldNotDrawWhenHidden() {
+    RenderComponent component = spy(RenderComponent.class);
+    component.setVisible(false);
+    component.render(null);
+    verify(component, never()).draw(any());
+  }
+
   @Test
   void shouldGiveCorrectRenderOrder() {
     RenderComponent component1 = spy(RenderComponent.class);
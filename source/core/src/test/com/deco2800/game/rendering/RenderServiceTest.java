@@ -1,5 +1,6 @@
 package com.deco2800.game.rendering;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -8,6 +9,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -81,4 +84,96 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldOnlySortWhenDirty() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable renderable1 = mock(Renderable.class);
+    Renderable renderable2 = mock(Renderable.class);
+
+    when(renderable1.getLayer()).thenReturn(1);
+    when(renderable2.getLayer()).thenReturn(1);
+    when(renderable1.compareTo(any())).thenReturn(1);
+    when(renderable2.compareTo(any())).thenReturn(-1);
+
+    renderService.register(renderable1);
+    renderService.register(renderable2);
+    renderService.render(spriteBatch);
+    Mockito.clearInvocations(renderable1, renderable2);
+
+    // Nothing changed, so the layer should not be sorted again
+    renderService.render(spriteBatch);
+    verify(renderable1, times(0)).compareTo(any());
+    verify(renderable2, times(0)).compareTo(any());
+
+    renderService.markDirty(renderable1);
+    renderService.render(spriteBatch);
+    verify(renderable2).compareTo(renderable1);
+  }
+
+  @Test
+  void shouldCullOutsideView() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable inside = mockWithBounds(new Rectangle(1f, 1f, 1f, 1f));
+    Renderable outside = mockWithBounds(new Rectangle(50f, 1f, 1f, 1f));
+    Renderable unbounded = mock(Renderable.class);
+
+    renderService.register(inside);
+    renderService.register(outside);
+    renderService.register(unbounded);
+    renderService.render(spriteBatch, new Rectangle(0f, 0f, 20f, 10f));
+
+    verify(inside).render(spriteBatch);
+    verify(outside, times(0)).render(any());
+    verify(unbounded).render(spriteBatch);
+    verify(outside).renderCulled();
+    verify(inside, times(0)).renderCulled();
+    assertEquals(2, renderService.getDrawnCount());
+    assertEquals(1, renderService.getCulledCount());
+
+    // No view, render everything
+    renderService.render(spriteBatch);
+    verify(outside).render(spriteBatch);
+    assertEquals(3, renderService.getDrawnCount());
+    assertEquals(0, renderService.getCulledCount());
+  }
+
+  @Test
+  void shouldCountEachLayer() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable culled = mockWithBounds(new Rectangle(50f, 1f, 1f, 1f));
+    Renderable top = mock(Renderable.class);
+    when(top.getLayer()).thenReturn(2);
+    renderService.register(culled);
+    renderService.register(mock(Renderable.class));
+    renderService.register(top);
+    renderService.render(spriteBatch, new Rectangle(0f, 0f, 20f, 10f));
+
+    IntArray layers = new IntArray();
+    IntArray drawn = new IntArray();
+    IntArray culledCounts = new IntArray();
+    renderService.getLayerCounts(layers, drawn, culledCounts);
+    assertEquals(IntArray.with(0, 2), layers);
+    assertEquals(IntArray.with(1, 1), drawn);
+    assertEquals(IntArray.with(1, 0), culledCounts);
+
+    RenderStats stats = renderService.getStats();
+    stats.endFrame();
+    assertEquals(2, stats.getLast(RenderStats.Stat.DRAWN));
+    assertEquals(1, stats.getLast(RenderStats.Stat.CULLED));
+  }
+
+  private static Renderable mockWithBounds(Rectangle bounds) {
+    Renderable renderable = mock(Renderable.class);
+    when(renderable.getBounds(any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Rectangle>getArgument(0).set(bounds);
+              return true;
+            });
+    return renderable;
+  }
 }
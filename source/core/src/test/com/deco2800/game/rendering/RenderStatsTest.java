@@ -0,0 +1,49 @@
+package com.deco2800.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.rendering.RenderStats.Stat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class RenderStatsTest {
+  @Test
+  void shouldSampleEachFrame() {
+    RenderStats stats = new RenderStats(4);
+    assertEquals(0, stats.getMin(Stat.RENDER_CALLS));
+    assertEquals(0f, stats.getAverage(Stat.RENDER_CALLS));
+
+    stats.add(Stat.TERRAIN_CELLS, 10);
+    stats.add(Stat.TERRAIN_CELLS, 5);
+    stats.set(Stat.RENDER_CALLS, 3);
+    stats.endFrame();
+    assertEquals(15, stats.getLast(Stat.TERRAIN_CELLS));
+    assertEquals(3, stats.getLast(Stat.RENDER_CALLS));
+
+    // Counters are reset for the next frame
+    stats.endFrame();
+    assertEquals(0, stats.getLast(Stat.TERRAIN_CELLS));
+    assertEquals(2, stats.getSampleCount());
+    assertEquals(0, stats.getMin(Stat.RENDER_CALLS));
+    assertEquals(1.5f, stats.getAverage(Stat.RENDER_CALLS));
+    assertEquals(3, stats.getMax(Stat.RENDER_CALLS));
+  }
+
+  @Test
+  void shouldOnlyKeepRecentFrames() {
+    RenderStats stats = new RenderStats(3);
+    for (int calls = 1; calls <= 5; calls++) {
+      stats.set(Stat.RENDER_CALLS, calls);
+      stats.endFrame();
+    }
+
+    // Only frames 3, 4 and 5 are left
+    assertEquals(3, stats.getSampleCount());
+    assertEquals(3, stats.getMin(Stat.RENDER_CALLS));
+    assertEquals(4f, stats.getAverage(Stat.RENDER_CALLS));
+    assertEquals(5, stats.getMax(Stat.RENDER_CALLS));
+    assertEquals(5, stats.getLast(Stat.RENDER_CALLS));
+  }
+}
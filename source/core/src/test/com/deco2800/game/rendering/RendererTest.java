@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -84,10 +85,13 @@ class RendererTest {
   @Test
   void shouldRender() {
     CameraComponent cameraComponent = makeCameraEntity(camera);
+    RenderStats stats = new RenderStats();
+    when(renderService.getStats()).thenReturn(stats);
     Renderer renderer =
         new Renderer(cameraComponent, 10, spriteBatch, stage, renderService, debugRenderer);
     renderer.render();
-    verify(renderService).render(spriteBatch);
+    verify(renderService).render(eq(spriteBatch), any(Rectangle.class));
+    assertEquals(1, stats.getSampleCount());
   }
 
   @Test
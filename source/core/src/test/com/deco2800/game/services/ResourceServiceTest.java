@@ -1,16 +1,22 @@
 package com.deco2800.game.services;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.spy;
@@ -18,6 +24,9 @@ import static org.mockito.Mockito.verify;
 
 @ExtendWith(GameExtension.class)
 class ResourceServiceTest {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceServiceTest.class);
+  private static final int SPRITES_DRAWN = 200;
+
   @Test
   void loadAllShouldLoadUnloadAssets() {
     String texture1 = "test/files/tree.png";
@@ -255,4 +264,226 @@ class ResourceServiceTest {
     verify(assetManager).load(asset2, Music.class);
     verify(assetManager).load(asset3, Music.class);
   }
+
+  @Test
+  void shouldReferenceCountManifests() {
+    String shared = "test/files/tree.png";
+    String first = "test/files/heart.png";
+    String second = "images/rock1.png";
+    AssetManifest level1 = new AssetManifest();
+    level1.textures = new String[] {shared, first};
+    AssetManifest level2 = new AssetManifest();
+    level2.textures = new String[] {shared, second};
+
+    ResourceService resourceService = new ResourceService();
+    resourceService.acquire(level1);
+    resourceService.loadAll();
+    assertEquals(1, resourceService.getReferenceCount(shared));
+
+    // Released assets stay loaded until the next level has acquired its own
+    resourceService.release(level1);
+    assertTrue(resourceService.containsAsset(first, Texture.class));
+    AssetLoadHandle handle = resourceService.acquire(level2);
+    assertEquals(1, resourceService.unloadUnreferenced());
+    resourceService.loadAll();
+
+    // Only the second level's own texture was loaded
+    assertEquals(1, handle.getTotal());
+    assertTrue(resourceService.containsAsset(shared, Texture.class));
+    assertFalse(resourceService.containsAsset(first, Texture.class));
+    assertTrue(resourceService.containsAsset(second, Texture.class));
+
+    resourceService.release(level2);
+    assertEquals(0, resourceService.getReferenceCount(shared));
+    assertEquals(2, resourceService.unloadUnreferenced());
+    assertFalse(resourceService.containsAsset(shared, Texture.class));
+  }
+
+  @Test
+  void shouldLoadManifestsWithoutBlocking() {
+    String tree = "test/files/tree.png";
+    String click = "sounds/click.mp3";
+    AssetManifest manifest = new AssetManifest();
+    manifest.textures = new String[] {tree, "test/files/heart.png", "test/files/missing.png"};
+    manifest.sounds = new String[] {click};
+
+    ResourceService resourceService = new ResourceService();
+    AssetLoadHandle handle = resourceService.acquire(manifest);
+    assertEquals(4, handle.getTotal());
+    assertFalse(handle.isDone());
+
+    // Load a frame budget at a time until everything has finished
+    long timeout = System.currentTimeMillis() + 10000;
+    while (!resourceService.loadForMillis(1)) {
+      assertTrue(System.currentTimeMillis() < timeout);
+    }
+    assertTrue(handle.isDone());
+    assertEquals(1f, handle.getProgress());
+    assertEquals(1, handle.getFailedCount());
+    assertNotNull(resourceService.getAsset(tree, Texture.class));
+    assertTrue(resourceService.containsAsset(click, Sound.class));
+    assertFalse(resourceService.containsAsset(tree, Sound.class));
+
+    // Assets released before they finish loading are cancelled
+    AssetManifest cancelled = new AssetManifest();
+    cancelled.textures = new String[] {"images/rock1.png"};
+    resourceService.acquire(cancelled);
+    resourceService.release(cancelled);
+    assertEquals(1, resourceService.unloadUnreferenced());
+    resourceService.loadAll();
+    assertFalse(resourceService.containsAsset("images/rock1.png", Texture.class));
+
+    resourceService.release(manifest);
+    assertEquals(4, resourceService.unloadUnreferenced());
+    assertFalse(resourceService.containsAsset(tree, Texture.class));
+  }
+
+  @Test
+  void shouldPackTexturesIntoSharedPages() throws IOException {
+    String rock = "images/rock1.png";
+    String platform = "images/platform1.png";
+    String heart = "test/files/heart.png";
+    String tree = "test/files/tree.png";
+    String missing = "test/files/missing.png";
+    String[] textures = {rock, platform, heart, tree, missing};
+    FileHandle cacheDir = Gdx.files.absolute(Files.createTempDirectory("atlas").toString());
+
+    ResourceService resourceService = new ResourceService();
+    resourceService.setAtlasCache(cacheDir);
+    resourceService.loadTextures(textures);
+    resourceService.packTextures(textures);
+    assertFalse(resourceService.isPacked(rock));
+    resourceService.loadAll();
+
+    // The tree is too large to share a page
+    assertTrue(resourceService.isPacked(rock));
+    assertTrue(resourceService.isPacked(platform));
+    assertTrue(resourceService.isPacked(heart));
+    assertFalse(resourceService.isPacked(tree));
+    assertFalse(resourceService.isPacked(missing));
+    assertEquals(
+        resourceService.getTextureRegion(rock).getTexture(),
+        resourceService.getTextureRegion(platform).getTexture());
+    assertEquals(
+        resourceService.getAsset(tree, Texture.class),
+        resourceService.getTextureRegion(tree).getTexture());
+    assertEquals(502, resourceService.getTextureRegion(rock).getRegionWidth());
+    assertEquals(1, cacheDir.list(".atlas").length);
+
+    // Textures which are packed or can't be are never hashed and decoded again
+    resourceService.packTextures(textures);
+    assertEquals(0, resourceService.getPendingPackCount());
+
+    // Later launches use the cached atlas
+    ResourceService cachedService = new ResourceService();
+    cachedService.setAtlasCache(cacheDir);
+    cachedService.packTextures(textures);
+    cachedService.loadAll();
+    assertTrue(cachedService.isPacked(heart));
+    assertEquals(316, cachedService.getTextureRegion(rock).getRegionHeight());
+    assertEquals(1, cacheDir.list(".atlas").length);
+
+    resourceService.unloadAssets(textures);
+    assertFalse(resourceService.isPacked(rock));
+    cachedService.dispose();
+    cacheDir.deleteDirectory();
+  }
+
+  @Test
+  void shouldPackWhenAtlasCantBeCached() throws IOException {
+    String[] textures = {"images/rock1.png", "images/platform1.png"};
+    // A file where the cache directory should be, so the atlas can't be saved
+    FileHandle notADir = Gdx.files.absolute(Files.createTempFile("atlas", ".tmp").toString());
+
+    ResourceService resourceService = new ResourceService();
+    resourceService.setAtlasCache(notADir);
+    resourceService.loadTextures(textures);
+    resourceService.packTextures(textures);
+    resourceService.loadAll();
+
+    assertTrue(resourceService.isPacked(textures[0]));
+    assertEquals(
+        resourceService.getTextureRegion(textures[0]).getTexture(),
+        resourceService.getTextureRegion(textures[1]).getTexture());
+    resourceService.dispose();
+    notADir.delete();
+  }
+
+  @Test
+  void shouldPackWithinFrameBudget() {
+    String[] textures = {"images/rock1.png", "images/platform1.png"};
+    ResourceService resourceService = new ResourceService();
+    resourceService.setAtlasCache(null);
+    resourceService.packTextures(textures);
+    // Queuing the same textures again doesn't start another pack
+    resourceService.packTextures(textures);
+    assertEquals(1, resourceService.getPendingPackCount());
+
+    long timeout = System.currentTimeMillis() + 30000;
+    while (!resourceService.loadForMillis(0)) {
+      assertTrue(System.currentTimeMillis() < timeout);
+    }
+    assertEquals(0, resourceService.getPendingPackCount());
+    assertTrue(resourceService.isPacked(textures[0]));
+    assertTrue(resourceService.isPacked(textures[1]));
+    resourceService.dispose();
+  }
+
+  @Test
+  void shouldLeaveOutTexturesUnloadedWhilePacking() {
+    String[] textures = {"images/rock1.png", "images/platform1.png"};
+    ResourceService resourceService = new ResourceService();
+    resourceService.setAtlasCache(null);
+    resourceService.loadTextures(textures);
+    resourceService.loadAll();
+    resourceService.packTextures(textures);
+    resourceService.unloadAssets(new String[] {textures[0]});
+    resourceService.loadAll();
+
+    assertFalse(resourceService.isPacked(textures[0]));
+    assertTrue(resourceService.isPacked(textures[1]));
+    resourceService.dispose();
+  }
+
+  @Test
+  void shouldBindFewerTexturesWhenPacked() {
+    String[] textures = {
+      "images/rock1.png", "images/platform1.png", "images/rock2.png", "images/platform2.png"
+    };
+    ResourceService resourceService = new ResourceService();
+    resourceService.setAtlasCache(null);
+    resourceService.loadTextures(textures);
+    resourceService.loadAll();
+
+    int looseBinds = countTextureBinds(resourceService, textures);
+    resourceService.packTextures(textures);
+    resourceService.loadAll();
+    int packedBinds = countTextureBinds(resourceService, textures);
+    logger.info(
+        "Drawing {} sprites: {} texture binds loose, {} packed",
+        SPRITES_DRAWN,
+        looseBinds,
+        packedBinds);
+
+    assertEquals(SPRITES_DRAWN, looseBinds);
+    assertEquals(1, packedBinds);
+    resourceService.dispose();
+  }
+
+  /**
+   * Count how many times the sprite batch would have to flush and bind another texture, drawing
+   * each texture in turn.
+   */
+  private static int countTextureBinds(ResourceService resourceService, String[] textures) {
+    int binds = 0;
+    Texture bound = null;
+    for (int i = 0; i < SPRITES_DRAWN; i++) {
+      Texture texture = resourceService.getTextureRegion(textures[i % textures.length]).getTexture();
+      if (texture != bound) {
+        bound = texture;
+        binds++;
+      }
+    }
+    return binds;
+  }
 }
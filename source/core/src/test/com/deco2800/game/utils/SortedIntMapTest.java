@@ -20,6 +20,23 @@ class SortedIntMapTest {
     assertNull(map.get(10));
   }
 
+  @Test
+  void shouldIterateInKeyOrder() {
+    SortedIntMap<Integer> map = new SortedIntMap<>(2);
+    map.put(5, 50);
+    map.put(-1, -10);
+    map.put(3, 30);
+    map.put(8, 80);
+    map.put(3, 31);
+
+    int[] expected = {-10, 31, 50, 80};
+    int i = 0;
+    for (int value : map) {
+      assertEquals(expected[i++], value);
+    }
+    assertEquals(expected.length, i);
+  }
+
   @Test
   void shouldContains() {
     SortedIntMap<Integer> map = new SortedIntMap<>(2);